@@ -120,6 +120,28 @@ CREATE TABLE gyeongdo_records (
                                   FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
 );
 
+-- 경도 전적에 이미 반영한 이벤트 (같은 이벤트를 다시 반영해도 한 번만 집계)
+CREATE TABLE IF NOT EXISTS gyeongdo_applied_events (
+    event_key VARCHAR(100) PRIMARY KEY,
+    applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 경도 전적 반영 대기 (검거 / 구출 / 정산과 같은 트랜잭션에서 기록, 집계기가 반영 후 삭제)
+-- 반영이 거듭 실패한 행(탈퇴한 유저 등)은 attempts 가 상한에 닿으면 로그를 남기고 삭제
+CREATE TABLE IF NOT EXISTS gyeongdo_stat_outbox (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    event_key VARCHAR(100) NOT NULL,
+    user_id INT NOT NULL,
+    police_win INT NOT NULL DEFAULT 0,
+    police_lose INT NOT NULL DEFAULT 0,
+    imprisoning_cnt INT NOT NULL DEFAULT 0,
+    thief_win INT NOT NULL DEFAULT 0,
+    thief_lose INT NOT NULL DEFAULT 0,
+    rescuing_cnt INT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Column comments for users table (safe to re-run)
 COMMENT ON COLUMN users.user_id IS '고유 식별자';
 COMMENT ON COLUMN users.nickname IS '사용자 닉네임';
@@ -278,19 +300,36 @@ CREATE TABLE IF NOT EXISTS user_game_activities (
     activity_id SERIAL PRIMARY KEY,
     session_id INT NOT NULL,
     user_id INT NOT NULL,
-    -- Time-series trajectory data: [{"t": timestamp, "lat": lat, "lng": lng, "spd": speed}, ...]
-    trajectory JSONB NOT NULL,
+    -- Time-series trajectory: delta + zigzag varint, deflate (TrajectoryStorageCodec)
+    trajectory_data BYTEA,
+    -- Douglas-Peucker levels of detail (TrajectoryResolution MEDIUM 5m / LOW 20m), same codec
+    trajectory_medium BYTEA,
+    trajectory_low BYTEA,
+    -- Legacy JSONB trajectory [{"t", "lat", "lng", "spd"}, ...], emptied by LegacyTrajectoryMigrator
+    trajectory JSONB,
     total_distance NUMERIC(12,2) DEFAULT 0.0, -- Total distance in meters (up to 9.9B meters)
     avg_speed NUMERIC(10,2) DEFAULT 0.0,      -- Average speed in km/h
     max_speed NUMERIC(10,2) DEFAULT 0.0,      -- Max speed recorded in km/h
     active_time_sec INT DEFAULT 0,            -- Total time spent moving in seconds
     activity_score INT DEFAULT 0,             -- Computed activity score for rankings
     ai_report JSONB,
+    heat_applied BOOLEAN NOT NULL DEFAULT false, -- Trajectory already added to activity_heat_cells
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (session_id) REFERENCES game_sessions(session_id) ON DELETE CASCADE,
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
 );
 
+-- --------------------------------------------------------
+-- 2.13 Activity Heatmap Cells (slippy-map tile pyramid, Z-order cell key)
+-- --------------------------------------------------------
+CREATE TABLE IF NOT EXISTS activity_heat_cells (
+    region_id INT NOT NULL,   -- 0 = global
+    level SMALLINT NOT NULL,  -- Tile zoom of the cell (8 ~ 19)
+    cell BIGINT NOT NULL,     -- Morton code of tile (x, y): a tile's sub-cells form one contiguous range
+    visits BIGINT NOT NULL DEFAULT 0, -- Trajectory points recorded in the cell
+    PRIMARY KEY (region_id, level, cell)
+);
+
 CREATE TABLE study_reports (
         report_id SERIAL PRIMARY KEY,
         session_id INT NOT NULL,
@@ -302,6 +341,38 @@ CREATE TABLE study_reports (
        FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
     );
     
+-- --------------------------------------------------------
+-- 2.14 AI Report Jobs (durable queue, one job per session/user/type)
+-- --------------------------------------------------------
+CREATE TABLE IF NOT EXISTS ai_report_jobs (
+    job_id BIGSERIAL PRIMARY KEY,
+    job_type VARCHAR(10) NOT NULL,  -- GAME, STUDY, TRAJECTORY
+    room_id INT,                    -- Notification destination
+    session_id INT NOT NULL,
+    user_id INT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING', -- PENDING, RUNNING, READY, FALLBACK, FAILED
+    attempts INT NOT NULL DEFAULT 0,
+    next_run_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, -- Retry backoff
+    locked_until TIMESTAMP,         -- Worker lease (expired RUNNING jobs are claimed again)
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (job_type, session_id, user_id), -- Idempotency key
+    FOREIGN KEY (session_id) REFERENCES game_sessions(session_id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- --------------------------------------------------------
+-- 2.x Column migrations for existing databases
+-- --------------------------------------------------------
+-- Compressed trajectory storage (user_game_activities.trajectory JSONB -> trajectory_data BYTEA)
+ALTER TABLE user_game_activities ADD COLUMN IF NOT EXISTS trajectory_data BYTEA;
+ALTER TABLE user_game_activities ADD COLUMN IF NOT EXISTS trajectory_medium BYTEA;
+ALTER TABLE user_game_activities ADD COLUMN IF NOT EXISTS trajectory_low BYTEA;
+ALTER TABLE user_game_activities ALTER COLUMN trajectory DROP NOT NULL;
+-- Heatmap aggregation flag (existing rows are backfilled by HeatmapService)
+ALTER TABLE user_game_activities ADD COLUMN IF NOT EXISTS heat_applied BOOLEAN NOT NULL DEFAULT false;
+
 -- ========================================================
 -- SECTION 3: Indexes for Performance Optimization (Safe)
 -- ========================================================
@@ -316,10 +387,34 @@ CREATE INDEX IF NOT EXISTS idx_friendships_receiver ON friendships(receiver_id);
 -- Rooms table indexes
 CREATE INDEX IF NOT EXISTS idx_rooms_status ON rooms(status);
 CREATE INDEX IF NOT EXISTS idx_rooms_type ON rooms(type);
+-- 예약 알림 대상 (미발송 대기 방만)
+CREATE INDEX IF NOT EXISTS idx_rooms_noti_pending ON rooms(appointment_time) WHERE is_noti_sent = false AND status = 'WAITING';
 
 -- Room participants table indexes
 CREATE INDEX IF NOT EXISTS idx_room_participants_user ON room_participants(user_id);
 
+-- Gyeongdo applied events indexes (오래된 반영 이력 정리)
+CREATE INDEX IF NOT EXISTS idx_gyeongdo_applied_events_applied_at ON gyeongdo_applied_events(applied_at);
+
+-- MMR history indexes
+-- 유저별 최근 이력 (리더보드 재구성 시 마지막 플레이 지역)
+CREATE INDEX IF NOT EXISTS idx_mmr_history_user_created ON mmr_history(user_id, created_at DESC);
+
+-- User game activities indexes
+-- 활동 기록 목록 (유저별 최신순 키셋 페이지)
+CREATE INDEX IF NOT EXISTS idx_user_game_activities_user_history ON user_game_activities(user_id, created_at DESC, activity_id DESC);
+-- 압축 형식으로 아직 옮기지 않은 궤적 (이전이 끝나면 비어 있음)
+CREATE INDEX IF NOT EXISTS idx_user_game_activities_legacy_trajectory ON user_game_activities(activity_id)
+    WHERE trajectory_data IS NULL AND trajectory IS NOT NULL;
+-- 히트맵에 아직 더하지 않은 활동 (백필 / 실패 재시도)
+CREATE INDEX IF NOT EXISTS idx_user_game_activities_heat_pending ON user_game_activities(activity_id)
+    WHERE heat_applied = false;
+
+-- AI report jobs indexes
+-- 처리할 작업 (대기 + 실행 중만 - 끝난 작업은 인덱스에 남지 않음)
+CREATE INDEX IF NOT EXISTS idx_ai_report_jobs_due ON ai_report_jobs(next_run_at)
+    WHERE status IN ('PENDING', 'RUNNING');
+
 -- Regions table indexes
 CREATE INDEX IF NOT EXISTS idx_regions_city_district ON regions(city, district);
 
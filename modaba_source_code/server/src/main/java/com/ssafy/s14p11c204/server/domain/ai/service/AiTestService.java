@@ -37,6 +37,18 @@ public class AiTestService {
     }
 
     public GameAiResponse generateGameReport(GameAiRequest request) {
+        try {
+            return requestGameReport(request);
+        } catch (Exception e) {
+            log.error("AI 리포트 생성 실패: {}", e.getMessage(), e);
+            return new GameAiResponse("기록 누락", "통신 장애로 인해 현장 기록이 소실되었습니다.", List.of("데이터 없음"), "0kcal");
+        }
+    }
+
+    /**
+     * generateGameReport 와 같지만 실패를 그대로 던진다 (리포트 작업이 재시도할 수 있도록)
+     */
+    public GameAiResponse requestGameReport(GameAiRequest request) {
         log.info("AI 게임 리포트 생성 시작: role={}, result={}", request.role(), request.result());
 
         // 1. 고정 키워드 리스트 정의 (나중에 DB나 설정파일로 분리 가능)
@@ -57,34 +69,33 @@ public class AiTestService {
                 말투는 거칠고 냉소적이지만 플레이어의 무용담을 흥미진진하게 묘사하라.
                 """;
 
-        try {
-            return chatClient.prompt()
-                    .system(systemPrompt)
-                    .user(u -> u.text("""
-                            아래 게임 데이터를 분석해서 리포트를 작성해줘.
-                            
-                            [데이터]
-                            {data}
-                            
-                            [필수 규칙]
-                            1. 제목(summary_title)은 반드시 아래 제공된 [선택 가능한 제목 목록] 중 데이터와 가장 잘 어울리는 '하나'를 선택하여 그대로 사용할 것. 절대로 목록에 없는 제목을 지어내지 마라.
-                            2. 본문(commentary)은 선택한 제목의 느낌에 맞춰서, 왜 플레이어가 그 타이틀을 얻었는지 데이터(거리, 속도, 지명)를 근거로 들어 설명할 것.
-                            3. 반드시 언급된 지명({locations})을 포함할 것.
-                            
-                            [선택 가능한 제목 목록]
-                            {titleList}
-                            
-                            출력 형식: {format}
-                            """)
-                            .param("data", request.toString())
-                            .param("locations", String.join(", ", request.locations()))
-                            .param("titleList", String.join(", ", availableTitles))
-                            .param("format", converter.getFormat()))
-                    .call()
-                    .entity(converter);
-        } catch (Exception e) {
-            log.error("AI 리포트 생성 실패: {}", e.getMessage(), e);
-            return new GameAiResponse("기록 누락", "통신 장애로 인해 현장 기록이 소실되었습니다.", List.of("데이터 없음"), "0kcal");
+        GameAiResponse response = chatClient.prompt()
+                .system(systemPrompt)
+                .user(u -> u.text("""
+                        아래 게임 데이터를 분석해서 리포트를 작성해줘.
+                        
+                        [데이터]
+                        {data}
+                        
+                        [필수 규칙]
+                        1. 제목(summary_title)은 반드시 아래 제공된 [선택 가능한 제목 목록] 중 데이터와 가장 잘 어울리는 '하나'를 선택하여 그대로 사용할 것. 절대로 목록에 없는 제목을 지어내지 마라.
+                        2. 본문(commentary)은 선택한 제목의 느낌에 맞춰서, 왜 플레이어가 그 타이틀을 얻었는지 데이터(거리, 속도, 지명)를 근거로 들어 설명할 것.
+                        3. 반드시 언급된 지명({locations})을 포함할 것.
+                        
+                        [선택 가능한 제목 목록]
+                        {titleList}
+                        
+                        출력 형식: {format}
+                        """)
+                        .param("data", request.toString())
+                        .param("locations", String.join(", ", request.locations()))
+                        .param("titleList", String.join(", ", availableTitles))
+                        .param("format", converter.getFormat()))
+                .call()
+                .entity(converter);
+        if (response == null || response.summary_title() == null) {
+            throw new IllegalStateException("AI 응답에 리포트가 없습니다.");
         }
+        return response;
     }
 }
@@ -0,0 +1,7 @@
+package com.ssafy.s14p11c204.server.domain.chat.dto;
+
+/**
+ * 기기 푸시 알림 1건 (users.device_token 대상)
+ */
+public record PushNotificationDto(Long userId, String deviceToken, Long roomId, String title, String body) {
+}
@@ -0,0 +1,27 @@
+package com.ssafy.s14p11c204.server.domain.chat.service;
+
+import com.ssafy.s14p11c204.server.domain.chat.dto.PushNotificationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로컬/개발용 푸시 발송기 - 실제로 보내지 않고 로그만 남긴다.
+ * push.sender=log (기본값)일 때 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "log", matchIfMissing = true)
+public class LogPushSender implements PushSender {
+
+    @Override
+    public void send(List<PushNotificationDto> notifications) {
+        log.info("Push (stub) {} notifications", notifications.size());
+        for (PushNotificationDto notification : notifications) {
+            log.debug("Push (stub) to user {} room {}: {}",
+                    notification.userId(), notification.roomId(), notification.body());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssafy.s14p11c204.server.domain.chat.service;
+
+import com.ssafy.s14p11c204.server.domain.chat.dto.PushNotificationDto;
+
+import java.util.List;
+
+/**
+ * 기기 푸시 발송 (FCM 등). 여러 건을 한 번에 받아 구현체가 묶어서 보낸다.
+ * 실제 발송 구현체가 빈으로 등록되면 LogPushSender 대신 사용된다.
+ */
+public interface PushSender {
+
+    void send(List<PushNotificationDto> notifications);
+}
@@ -4,10 +4,14 @@ import com.ssafy.s14p11c204.server.domain.chat.dto.ChatMessageDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.UserLocationDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,4 +34,21 @@ public class RedisPublisher {
         log.info("RedisPublisher publishing object to topic {}: {}", topic.getTopic(), message);
         redisTemplate.convertAndSend(topic.getTopic(), message);
     }
-}
\ No newline at end of file
+
+    // 여러 메시지를 한 번의 파이프라인으로 발행 (예약 알림 일괄 발송 등)
+    @SuppressWarnings("unchecked")
+    public void publishAll(ChannelTopic topic, List<?> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        byte[] channel = redisTemplate.getStringSerializer().serialize(topic.getTopic());
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Object message : messages) {
+                connection.publish(channel, serializer.serialize(message));
+            }
+            return null;
+        });
+        log.info("RedisPublisher published {} messages to topic {}", messages.size(), topic.getTopic());
+    }
+}
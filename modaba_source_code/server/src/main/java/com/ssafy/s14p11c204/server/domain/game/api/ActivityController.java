@@ -1,39 +1,100 @@
 package com.ssafy.s14p11c204.server.domain.game.api;
 
 import com.ssafy.s14p11c204.server.domain.game.dto.ActivityRecord;
+import com.ssafy.s14p11c204.server.domain.game.dto.ActivitySummaryDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryResolution;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryStats;
 import com.ssafy.s14p11c204.server.domain.game.service.ActivityService;
+import com.ssafy.s14p11c204.server.domain.game.service.GameReplayService;
 import com.ssafy.s14p11c204.server.domain.user.dto.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v0/activities")
 @RequiredArgsConstructor
+@Validated
 @Tag(name = "ActivityController", description = "유저 활동량 및 AI 리포트 조회 API")
 public class ActivityController {
 
     private final ActivityService activityService;
+    private final GameReplayService gameReplayService;
 
     @GetMapping("/me")
-    @Operation(summary = "내 활동 기록 목록 조회", description = "로그인한 유저의 과거 모든 활동 기록 요약을 조회합니다.")
-    public ResponseEntity<List<ActivityRecord>> getMyActivities(@AuthenticationPrincipal CurrentUser user) {
-        return ResponseEntity.ok(activityService.getUserActivities(user.id()));
+    @Operation(summary = "내 활동 기록 목록 조회", description = """
+            로그인한 유저의 활동 기록 요약을 최신순으로 한 페이지씩 조회합니다. (size 최대 50)
+            다음 페이지는 마지막 항목의 activityId 를 lastActivityId 로 넘기면 됩니다. 결과가 size 보다 적으면 마지막 페이지입니다.
+            """)
+    public ResponseEntity<List<ActivitySummaryDto>> getMyActivities(
+            @RequestParam(required = false) Long lastActivityId,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(ActivityService.MAX_HISTORY_PAGE_SIZE) int size,
+            @AuthenticationPrincipal CurrentUser user) {
+        return ResponseEntity.ok(activityService.getUserActivities(user.id(), lastActivityId, size));
     }
 
     @GetMapping("/{sessionId}")
-    @Operation(summary = "활동 상세 및 AI 리포트 조회", description = "특정 게임 세션의 상세 경로와 AI 분석 리포트를 조회합니다.")
+    @Operation(summary = "활동 상세 및 AI 리포트 조회", description = "특정 게임 세션의 활동 요약과 AI 분석 리포트를 조회합니다. 이동 경로는 /trajectory 로 따로 조회합니다.")
     public ResponseEntity<ActivityRecord> getActivityDetail(
             @PathVariable Long sessionId,
             @AuthenticationPrincipal CurrentUser user) {
         return ResponseEntity.ok(activityService.getActivityDetail(sessionId, user.id()));
     }
+
+    @GetMapping("/{sessionId}/trajectory")
+    @Operation(summary = "활동 이동 경로 조회", description = """
+            특정 게임 세션의 이동 경로(시각, 위도, 경도, 속도)를 조회합니다.
+            resolution: FULL(전체) / MEDIUM(지도, 최대 300개) / LOW(목록 썸네일, 최대 40개)
+            maxPoints: 최대 위치 수 (resolution 없이 주면 그 수에 맞는 해상도를 고름)
+            """)
+    public ResponseEntity<List<TrajectoryPoint>> getTrajectory(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) TrajectoryResolution resolution,
+            @RequestParam(required = false) @Min(2) Integer maxPoints,
+            @AuthenticationPrincipal CurrentUser user) {
+        return ResponseEntity.ok(activityService.getTrajectory(sessionId, user.id(), resolution, maxPoints));
+    }
+
+    @GetMapping("/{sessionId}/live")
+    @Operation(summary = "게임 중 실시간 활동량 조회", description = "진행 중인 게임의 현재까지 이동 거리, 속도, 이동 시간을 조회합니다.")
+    public ResponseEntity<TrajectoryStats> getLiveStats(
+            @PathVariable Long sessionId,
+            @AuthenticationPrincipal CurrentUser user) {
+        return ResponseEntity.ok(activityService.getLiveStats(sessionId, user.id()));
+    }
+
+    @GetMapping(value = "/{sessionId}/replay", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "게임 리플레이 스트리밍", description = """
+            참여한 게임의 모든 참여자 이동 경로와 검거 / 구출 기록을 시간순으로 한 줄씩(NDJSON) 보냅니다.
+            첫 줄은 START(참여자 목록), 마지막 줄은 END 입니다.
+            speed: 재생 배속 (0 이면 기다리지 않고 전부, 최대 64)
+            from: 이 시각(epoch seconds)부터 이어서 보기 - 끊겼을 때 마지막으로 받은 t 를 넘기면 됩니다.
+            """)
+    public ResponseEntity<StreamingResponseBody> replay(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) Long from,
+            @RequestParam(defaultValue = "0") @DecimalMin("0") @DecimalMax("64") double speed,
+            @AuthenticationPrincipal CurrentUser user) {
+        GameReplayService.GameReplay replay = gameReplayService.open(sessionId, user.id());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> gameReplayService.stream(replay, from, speed, out));
+    }
 }
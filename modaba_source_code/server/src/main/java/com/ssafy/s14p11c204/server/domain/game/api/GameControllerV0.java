@@ -4,9 +4,12 @@ import com.ssafy.s14p11c204.server.domain.game.dto.GameBoundaryDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.GameResultDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.GameResultRequestDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.MyPosition;
+import com.ssafy.s14p11c204.server.domain.game.dto.ScoreboardDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.TagRequest;
 import com.ssafy.s14p11c204.server.domain.game.service.GameResultService;
 import com.ssafy.s14p11c204.server.domain.game.service.GameService;
+import com.ssafy.s14p11c204.server.domain.game.service.ScoreboardService;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomExecutor;
 import com.ssafy.s14p11c204.server.domain.user.dto.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -27,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 public class GameControllerV0 {
     private final GameService gameService;
     private final GameResultService gameResultService;
+    private final RoomExecutor roomExecutor;
+    private final ScoreboardService scoreboardService;
 
     @GetMapping
     @Operation(summary = "게임 방 상세 조회", description = "참여자 목록, 역할(경찰/도둑), 준비 상태 등을 포함한 상세 정보를 조회합니다.")
@@ -34,6 +39,18 @@ public class GameControllerV0 {
         return ResponseEntity.ok(gameService.getRoomDetail(roomId));
     }
 
+    @GetMapping("/scoreboard")
+    @Operation(summary = "실시간 점수판 조회", description = "남은/검거된 도둑 수, 경찰 수, 경찰별 검거 수, 구출 수를 조회합니다. 변경 시에는 /sub/game/{roomId}/scoreboard 로도 전송됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "404", description = "NOT FOUND : 진행 중인 게임이 아닙니다."),
+    })
+    public ResponseEntity<ScoreboardDto> getScoreboard(@PathVariable Long roomId) {
+        return scoreboardService.find(roomId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @PostMapping
     @Operation(
         summary = "게임 시작 (구역 설정 포함)", 
@@ -60,11 +77,13 @@ public class GameControllerV0 {
             @AuthenticationPrincipal CurrentUser user,
             @RequestBody(required = false) GameBoundaryDto boundaryDto) {
         
-        if (boundaryDto != null) {
-            gameService.gameStart(roomId, user.id(), boundaryDto);
-        } else {
-            gameService.gameStart(roomId, user.id());
-        }
+        roomExecutor.run(roomId, () -> {
+            if (boundaryDto != null) {
+                gameService.gameStart(roomId, user.id(), boundaryDto);
+            } else {
+                gameService.gameStart(roomId, user.id());
+            }
+        });
         return ResponseEntity.ok().build();
     }
 
@@ -107,7 +126,8 @@ public class GameControllerV0 {
             @PathVariable Long roomId,
             @RequestBody GameResultRequestDto request) {
         
-        GameResultDto result = gameResultService.processGameResult(roomId, request.getWinnerTeam());
+        GameResultDto result = roomExecutor.call(roomId,
+                () -> gameResultService.processGameResult(roomId, request.getWinnerTeam()));
         return ResponseEntity.ok(result);
     }
 }
@@ -4,26 +4,34 @@ import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
-import com.ssafy.s14p11c204.server.domain.game.service.ActivityService;
 import com.ssafy.s14p11c204.server.domain.game.service.GameService;
+import com.ssafy.s14p11c204.server.domain.game.service.LocationBinaryCodec;
+import com.ssafy.s14p11c204.server.domain.game.service.LocationBroadcaster;
+import com.ssafy.s14p11c204.server.domain.game.service.LocationIngestService;
+import com.ssafy.s14p11c204.server.domain.game.service.LocationSender;
 import com.ssafy.s14p11c204.server.domain.game.service.RedisGeoService;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.GeofenceCache;
+import com.ssafy.s14p11c204.server.domain.game.state.PositionIndex;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomExecutor;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
 import com.ssafy.s14p11c204.server.domain.user.dto.CurrentUser;
+import com.ssafy.s14p11c204.server.global.properties.GameLocationProperties;
 import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.locationtech.jts.geom.Geometry;
 import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
@@ -31,33 +39,35 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class LocationController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final LocationSender locationSender;
+    private final LocationBinaryCodec locationBinaryCodec;
     private final RedisGeoService redisGeoService;
     private final GameService gameService;
-    private final ActivityService activityService;
+    private final LocationIngestService locationIngestService;
     private final RoomMapper roomMapper;
-    private final GeometryUtil geometryUtil;
+    private final GameStateManager gameStateManager;
+    private final GeofenceCache geofenceCache;
+    private final LocationBroadcaster locationBroadcaster;
+    private final GameLocationProperties locationProperties;
+    private final RoomExecutor roomExecutor;
     
     // 테스트를 위해 50.0m로 유지
     private static final double ARREST_DISTANCE_LIMIT = 50.0;
     
-    // 구역 이탈 허용 오차 (약 5m)
-    private static final double BOUNDARY_BUFFER = 0.00005; 
-    
     // 경고 메시지 쿨타임 (밀리초) - 5초
     private static final long WARNING_COOL_DOWN_MS = 5000;
 
-    // 구역 정보 캐싱 (roomId -> Geometry)
-    private final Map<Long, Geometry> roomBoundaries = new ConcurrentHashMap<>();
-    
     // 경고 메시지 마지막 전송 시간 캐싱 (roomId -> (nickname -> timestamp))
     private final Map<Long, Map<String, Long>> lastWarningTimes = new ConcurrentHashMap<>();
 
+    // 근처 경찰 경고 마지막 전송 시간 (roomId -> (nickname -> timestamp))
+    private final Map<Long, Map<String, Long>> lastNearbyAlertTimes = new ConcurrentHashMap<>();
+
     @EventListener
     public void handleGameEndEvent(GameEndEvent event) {
         Long roomId = event.getRoomId();
-        roomBoundaries.remove(roomId);
         lastWarningTimes.remove(roomId);
+        lastNearbyAlertTimes.remove(roomId);
         log.info("Cleared location cache for room {}", roomId);
     }
 
@@ -86,19 +96,28 @@ public class LocationController {
         message.setSenderNickname(senderNickname);
         message.setRoomId(roomId);
 
+        // 진행 중인 게임이면 메모리 상태에서 조회 (DB 조회 없음)
+        Optional<RoomGameState> state = gameStateManager.getOrLoad(roomId);
+        if (userId != null && senderEmail != null) {
+            Long uid = userId;
+            String email = senderEmail;
+            state.ifPresent(s -> s.bindEmail(uid, email)); // 시야 제한 개인 채널 전송용
+        }
+
         // [수정] 모든 메시지 타입에 대해 역할 정보 보완 (방어 코드)
         if (message.getRole() == null && senderNickname != null) {
-            PlayerRole role = roomMapper.findUserRole(roomId, senderNickname);
-            message.setRole(role);
-            // log.debug("Role recovered for {}: {}", senderNickname, role);
+            message.setRole(resolveRole(roomId, senderNickname, state));
         }
 
         if (message.getType() == LocationMessageDto.MessageType.LOCATION) {
-            redisGeoService.saveUserLocation(roomId, senderNickname, message.getLat(), message.getLng());
-            
-            // 활동량 기록 추가
-            if (userId != null) {
-                activityService.recordMovement(roomId, userId, message.getLat(), message.getLng());
+            // 현재 위치 + 활동량 기록 (Redis 1회 왕복, 세션 ID 기준으로 누적해야 게임 종료 시 정산됨)
+            Long sessionId = userId == null ? null : state.map(RoomGameState::getSessionId)
+                    .orElseGet(() -> gameService.getCurrentSessionId(roomId));
+            locationIngestService.ingest(roomId, senderNickname, sessionId, userId, message.getLat(), message.getLng());
+
+            // 메모리 위치 인덱스 갱신 (검거 거리 판정 / 근처 상대 검색용)
+            if (state.isPresent() && message.getLat() != null && message.getLng() != null) {
+                state.get().updatePosition(senderNickname, message.getLat(), message.getLng());
             }
 
             // PlayerRole senderRole = roomMapper.findUserRole(roomId, senderNickname); // 위에서 처리했으므로 제거
@@ -106,27 +125,52 @@ public class LocationController {
             message.setType(LocationMessageDto.MessageType.LOCATION_UPDATE);
 
             // 구역 이탈 체크
-            checkOutOfBound(roomId, senderNickname, senderEmail, message.getLat(), message.getLng());
+            checkOutOfBound(roomId, senderNickname, senderEmail, message.getLat(), message.getLng(), state);
+
+            // 근처 경찰 경고 / 자동 검거
+            if (state.isPresent()) {
+                checkProximity(roomId, senderNickname, senderEmail, state.get());
+            }
 
             broadcastLocation(roomId, message, senderEmail);
             
         } else if (message.getType() == LocationMessageDto.MessageType.ARREST_REQUEST) {
-            handleArrestRequest(roomId, senderNickname, message);
+            // 방 상태를 바꾸는 요청은 방 실행기에서 순서대로 처리
+            String policeNickname = senderNickname;
+            roomExecutor.execute(roomId, () -> handleArrestRequest(roomId, policeNickname, message));
         } else if (message.getType() == LocationMessageDto.MessageType.UNLEASH_REQUEST) {
             // 탈옥 요청 처리
-            gameService.handleUnleash(roomId, senderNickname);
+            String rescuerNickname = senderNickname;
+            roomExecutor.execute(roomId, () -> gameService.handleUnleash(roomId, rescuerNickname));
         }
     }
     
-    private void checkOutOfBound(Long roomId, String nickname, String email, Double lat, Double lng) {
+    // 바이너리 포맷 수신 (LocationBinaryCodec) - 디코딩 후 JSON 메시지와 동일하게 처리
+    @MessageMapping("/room/{roomId}/location.bin")
+    public void handleBinaryLocation(@DestinationVariable Long roomId,
+                                     @Payload byte[] payload,
+                                     Principal principal) {
+        LocationMessageDto message;
+        try {
+            message = locationBinaryCodec.decode(payload, gameStateManager.find(roomId).orElse(null));
+        } catch (RuntimeException e) {
+            log.warn("Invalid binary location message for room {}: {}", roomId, e.getMessage());
+            return;
+        }
+        handleLocation(roomId, message, principal);
+    }
+
+    private PlayerRole resolveRole(Long roomId, String nickname, Optional<RoomGameState> state) {
+        return state.flatMap(s -> s.findRole(nickname))
+                .orElseGet(() -> roomMapper.findUserRole(roomId, nickname));
+    }
+
+    private void checkOutOfBound(Long roomId, String nickname, String email, Double lat, Double lng,
+                                 Optional<RoomGameState> state) {
         if (lat == null || lng == null) return;
         
-        // 1. 구역 정보 가져오기 (캐시 확인 -> DB 조회)
-        Geometry boundary = roomBoundaries.computeIfAbsent(roomId, id -> {
-            return roomMapper.findRoomBoundary(id)
-                    .map(info -> geometryUtil.parseWkt(info.boundaryWkt()))
-                    .orElse(null);
-        });
+        // 1. 구역 정보 가져오기 (버퍼 적용된 Geofence 캐시 -> 없으면 DB 조회 후 생성)
+        GeometryUtil.Geofence boundary = geofenceCache.findBoundary(roomId).orElse(null);
         
         if (boundary == null) {
             log.warn("Boundary check skipped: No boundary info for room {}", roomId);
@@ -134,17 +178,21 @@ public class LocationController {
         }
         
         // 2. 잡힌 상태인지 확인 (잡힌 사람은 이탈 체크 제외)
-        Long userId = roomMapper.findUserIdByNickname(nickname).orElse(null);
-        if (userId != null) {
-            ParticipantStatus status = roomMapper.findParticipantStatus(roomId, userId);
-            if (status == ParticipantStatus.ARRESTED) {
-                log.debug("Boundary check skipped: User {} is ARRESTED", nickname);
-                return;
-            }
+        ParticipantStatus status;
+        if (state.isPresent()) {
+            status = state.get().findPlayer(nickname).map(RoomGameState.PlayerState::getStatus).orElse(null);
+        } else {
+            status = roomMapper.findUserIdByNickname(nickname)
+                    .map(userId -> roomMapper.findParticipantStatus(roomId, userId))
+                    .orElse(null);
+        }
+        if (status == ParticipantStatus.ARRESTED) {
+            log.debug("Boundary check skipped: User {} is ARRESTED", nickname);
+            return;
         }
 
         // 3. 이탈 여부 확인
-        boolean isOut = geometryUtil.isOutOfBound(boundary, lat, lng, BOUNDARY_BUFFER);
+        boolean isOut = !boundary.contains(lat, lng);
         log.info("Boundary check for {}: lat={}, lng={}, isOut={}", nickname, lat, lng, isOut);
 
         if (isOut) {
@@ -168,7 +216,7 @@ public class LocationController {
                     .build();
             
             if (email != null) {
-                messagingTemplate.convertAndSendToUser(email, "/sub/game/" + roomId + "/location", warningMsg);
+                locationSender.sendToUser(email, roomId, warningMsg);
                 log.info("Sent WARNING message to {}", email);
                 roomWarnings.put(nickname, currentTime); // 마지막 전송 시간 업데이트
             }
@@ -176,27 +224,98 @@ public class LocationController {
     }
 
     private void broadcastLocation(Long roomId, LocationMessageDto message, String senderEmail) {
-        // [수정] 역할 정보가 없으면 DB에서 조회하여 보완 (방어 코드)
+        // [수정] 역할 정보가 없으면 게임 상태(없으면 DB)에서 조회하여 보완 (방어 코드)
         if (message.getRole() == null) {
-            PlayerRole role = roomMapper.findUserRole(roomId, message.getSenderNickname());
+            PlayerRole role = resolveRole(roomId, message.getSenderNickname(), gameStateManager.find(roomId));
             message.setRole(role);
-            log.warn("Role missing in message from {}, recovered from DB: {}", message.getSenderNickname(), role);
+            log.warn("Role missing in message from {}, recovered: {}", message.getSenderNickname(), role);
+        }
+
+        // 틱 모드인 방은 모아서 주기마다 한 프레임으로 전송
+        if (locationBroadcaster.offer(roomId, message)) {
+            return;
         }
 
         // [변경] 개별 전송 루프를 제거하고 공용 채널로 한 번에 전송 (Broadcast)
-        // 안드로이드 팀은 /sub/game/{roomId}/location 채널 하나만 구독하면 됩니다.
-        String destination = "/sub/game/" + roomId + "/location";
-        messagingTemplate.convertAndSend(destination, message);
+        // 안드로이드 팀은 /sub/game/{roomId}/location 채널 하나만 구독하면 됩니다. (바이너리는 .bin 채널)
+        locationSender.sendToRoom(roomId, message);
         
         log.info("Broadcasted location from {} to room {}", message.getSenderNickname(), roomId);
     }
 
+    private void checkProximity(Long roomId, String nickname, String email, RoomGameState state) {
+        RoomGameState.PlayerState player = state.findPlayer(nickname).orElse(null);
+        if (player == null || player.getRole() == null || player.getStatus() != ParticipantStatus.IN_GAME) {
+            return;
+        }
+
+        // 1. 자동 검거: 가장 가까운 상대가 검거 거리 안이면 바로 검거 처리 (검거 가능 거리를 넘지 않도록)
+        double autoArrestDistance = Math.min(locationProperties.autoArrestDistance(), ARREST_DISTANCE_LIMIT);
+        if (autoArrestDistance > 0) {
+            List<PositionIndex.Neighbor> nearest = state.findNearestOpponents(nickname, 1, autoArrestDistance);
+            if (!nearest.isEmpty()) {
+                PositionIndex.Neighbor opponent = nearest.getFirst();
+                boolean isPolice = player.getRole() == PlayerRole.POLICE;
+                String police = isPolice ? nickname : opponent.nickname();
+                String thief = isPolice ? opponent.nickname() : nickname;
+                // 처리 전에 위치가 연달아 와도 같은 (경찰, 도둑) 검거는 한 번만 넣음
+                if (state.reserveAutoArrest(police, thief)) {
+                    log.info("Auto arrest: Police={}, Thief={}, Distance={}", police, thief, opponent.distance());
+                    roomExecutor.execute(roomId, () -> {
+                        try {
+                            resolveArrest(roomId, police, thief, opponent.distance(), true);
+                        } finally {
+                            state.releaseAutoArrest(police, thief);
+                        }
+                    });
+                }
+                return;
+            }
+        }
+
+        // 2. 근처 경찰 경고 (도둑 본인에게만)
+        double nearbyRadius = locationProperties.policeNearbyRadius();
+        if (player.getRole() != PlayerRole.THIEF || nearbyRadius <= 0 || email == null) {
+            return;
+        }
+        List<PositionIndex.Neighbor> police = state.findNearestOpponents(nickname, 1, nearbyRadius);
+        if (police.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> roomAlerts = lastNearbyAlertTimes.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>());
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - roomAlerts.getOrDefault(nickname, 0L) < WARNING_COOL_DOWN_MS) {
+            return;
+        }
+        roomAlerts.put(nickname, currentTime);
+
+        LocationMessageDto alert = LocationMessageDto.builder()
+                .type(LocationMessageDto.MessageType.WARNING)
+                .roomId(roomId)
+                .message(String.format("근처 %.0fm 안에 경찰이 있습니다!", police.getFirst().distance()))
+                .build();
+        locationSender.sendToUser(email, roomId, alert);
+        log.debug("Sent police nearby alert to {}", nickname);
+    }
+
     private void handleArrestRequest(Long roomId, String policeNickname, LocationMessageDto request) {
         String thiefNickname = request.getTargetNickname();
-        Double distance = redisGeoService.getDistance(roomId, policeNickname, thiefNickname);
+
+        // 메모리 위치 인덱스로 거리 계산 (위치가 아직 없으면 Redis GEODIST)
+        Double distance = gameStateManager.find(roomId)
+                .flatMap(s -> s.findDistance(policeNickname, thiefNickname))
+                .orElseGet(() -> redisGeoService.getDistance(roomId, policeNickname, thiefNickname));
         
         log.info("Arrest request: Police={}, Thief={}, Distance={}", policeNickname, thiefNickname, distance);
-        
+
+        resolveArrest(roomId, policeNickname, thiefNickname, distance, false);
+    }
+
+    /**
+     * @param auto 서버가 근접으로 건 자동 검거면 true - 실패(이미 검거됨 / 게임 종료 등)는 방에 알리지 않음
+     */
+    private void resolveArrest(Long roomId, String policeNickname, String thiefNickname, Double distance, boolean auto) {
         // 현재 세션 ID 조회
         Long sessionId = gameService.getCurrentSessionId(roomId);
 
@@ -209,10 +328,24 @@ public class LocationController {
                 .sessionId(sessionId)
                 .build();
 
-        if (distance != null && distance <= ARREST_DISTANCE_LIMIT) {
+        // 방 실행기 안에서 다시 확인 (이미 끝난 게임 / 이미 검거된 도둑)
+        Optional<RoomGameState> state = gameStateManager.getOrLoad(roomId);
+        boolean alreadyArrested = state.flatMap(s -> s.findPlayer(thiefNickname))
+                .map(p -> p.getStatus() == ParticipantStatus.ARRESTED)
+                .orElse(false);
+
+        if (state.isEmpty()) {
+            result.setSuccess(false);
+            result.setMessage("진행 중인 게임이 아닙니다.");
+            log.info("Arrest FAILED: Game is not in progress in room {}", roomId);
+        } else if (alreadyArrested) {
+            result.setSuccess(false);
+            result.setMessage(thiefNickname + "님은 이미 검거되었습니다.");
+            log.info("Arrest FAILED: {} is already arrested", thiefNickname);
+        } else if (distance != null && distance <= ARREST_DISTANCE_LIMIT) {
             result.setSuccess(true);
             result.setMessage(thiefNickname + "님을 검거했습니다!");
-            gameService.handleArrest(roomId, thiefNickname);
+            gameService.handleArrest(roomId, thiefNickname, policeNickname);
             
             // 남은 도둑 수 조회 및 설정
             int aliveThiefCount = gameService.getAliveThiefCount(roomId);
@@ -226,9 +359,13 @@ public class LocationController {
             log.info("Arrest FAILED: Distance too far or unknown.");
         }
 
+        // 자동 검거 실패는 아무도 요청하지 않았으므로 알리지 않음
+        if (auto && !Boolean.TRUE.equals(result.getSuccess())) {
+            return;
+        }
+
         // [변경] 개별 전송 루프를 제거하고 공용 채널로 한 번에 전송 (Broadcast)
-        String destination = "/sub/game/" + roomId + "/location";
-        messagingTemplate.convertAndSend(destination, result);
+        locationSender.sendToRoom(roomId, result);
         
         log.info("Broadcasted arrest result for room {}", roomId);
     }
@@ -0,0 +1,36 @@
+package com.ssafy.s14p11c204.server.domain.game.api;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
+import com.ssafy.s14p11c204.server.domain.game.service.ReportJobService;
+import com.ssafy.s14p11c204.server.domain.user.dto.CurrentUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v0/reports")
+@RequiredArgsConstructor
+@Tag(name = "ReportJobController", description = "AI 리포트 작업 상태 / 결과 조회 API")
+public class ReportJobControllerV0 {
+
+    private final ReportJobService reportJobService;
+
+    @GetMapping("/{type}/{sessionId}")
+    @Operation(summary = "내 리포트 작업 조회", description = """
+            게임(GAME) / 스터디(STUDY) 세션의 내 AI 리포트 작업 상태를 조회합니다.
+            PENDING / RUNNING 이면 생성 중 (재시도 대기 중이면 nextRunAt 이후 다시 시도), READY / FALLBACK 이면 결과(gameReport 또는 studyReport)가 함께 옵니다.
+            완료되면 /sub/game/{roomId}/report, /sub/study/{roomId}/report 로도 알림이 갑니다.
+            """)
+    public ResponseEntity<ReportJobDto> getReportJob(
+            @PathVariable ReportJobDto.Type type,
+            @PathVariable Long sessionId,
+            @AuthenticationPrincipal CurrentUser user) {
+        return ResponseEntity.ok(reportJobService.getJob(type, sessionId, user.id()));
+    }
+}
@@ -3,6 +3,7 @@ package com.ssafy.s14p11c204.server.domain.game.api;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomRequestDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomResponseDto;
 import com.ssafy.s14p11c204.server.domain.game.service.RoomService;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomExecutor;
 import com.ssafy.s14p11c204.server.domain.user.dto.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -26,6 +27,7 @@ import java.util.Map;
 @Tag(name = "RoomController", description = "경찰과 도둑 방과 관련된 API")
 public class RoomControllerV0 {
     private final RoomService roomService;
+    private final RoomExecutor roomExecutor;
 
     @PostMapping
     @Operation(summary = "새로운 게임방을 파둡니다.")
@@ -79,7 +81,7 @@ public class RoomControllerV0 {
     })
     public ResponseEntity<Void> join(@PathVariable long roomId, @AuthenticationPrincipal CurrentUser currentUser) {
         try {
-            roomService.joinRoom(roomId, currentUser.nickname());
+            roomExecutor.run(roomId, () -> roomService.joinRoom(roomId, currentUser.nickname())); // 인원이 차면 게임 시작
             return ResponseEntity.ok().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
@@ -96,7 +98,7 @@ public class RoomControllerV0 {
             @ApiResponse(responseCode = "404", description = "NOT FOUND : 그런 방이 없습니다.")
     })
     public ResponseEntity<Void> leave(@PathVariable Long roomId, @AuthenticationPrincipal CurrentUser currentUser) {
-        roomService.leaveRoom(roomId, currentUser.nickname());
+        roomExecutor.run(roomId, () -> roomService.leaveRoom(roomId, currentUser.nickname()));
         return ResponseEntity.noContent().build();
     }
 
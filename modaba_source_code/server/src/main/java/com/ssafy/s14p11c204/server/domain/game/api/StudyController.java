@@ -82,16 +82,19 @@ public class StudyController {
     }
 
     @PostMapping("/{roomId}/end")
-    @Operation(summary = "스터디 종료 및 리포트 생성", description = "스터디를 종료하고 AI 리포트를 생성합니다.")
+    @Operation(summary = "스터디 종료 및 리포트 요청", description = """
+            스터디를 종료하고 AI 리포트 생성을 요청합니다. (바로 반환)
+            리포트가 준비되면 /sub/study/{roomId}/report 로 알림이 오고, GET /api/v0/reports/STUDY/{sessionId} 로 상태와 결과를 조회합니다.
+            """)
     public ResponseEntity<Map<String, Object>> endStudy(
             @PathVariable Long roomId,
             @AuthenticationPrincipal CurrentUser currentUser) {
         
-        Long reportId = studyService.endStudy(roomId, currentUser.nickname());
+        Long sessionId = studyService.endStudy(roomId, currentUser.nickname());
         
         return ResponseEntity.ok(Map.of(
                 "message", "스터디가 종료되었습니다. 수고하셨습니다!",
-                "reportId", reportId != null ? reportId : -1
+                "sessionId", sessionId
         ));
     }
 }
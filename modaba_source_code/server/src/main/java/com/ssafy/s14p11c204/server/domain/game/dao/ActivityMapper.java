@@ -4,6 +4,8 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import com.ssafy.s14p11c204.server.domain.game.dto.ActivityRecord;
+import com.ssafy.s14p11c204.server.domain.game.dto.ActivitySummaryDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryResolution;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,17 +13,67 @@ import java.util.Optional;
 public interface ActivityMapper {
     
     /**
-     * 유저의 종합 활동 기록 저장
+     * 유저의 종합 활동 기록 저장 (궤적은 해상도별로 TrajectoryStorageCodec 으로 압축한 bytea)
      */
-    void insertActivity(ActivityRecord activity);
+    void insertActivity(@Param("activity") ActivityRecord activity, @Param("trajectory") EncodedTrajectory trajectory);
 
     /**
-     * 특정 유저의 모든 활동 기록 조회
+     * 유저의 활동 기록 한 페이지 (최신순, (created_at, activity_id) 키셋 - lastActivityId 다음부터 limit개)
      */
-    List<ActivityRecord> findByUserId(@Param("userId") Long userId);
+    List<ActivitySummaryDto> findHistory(@Param("userId") Long userId, @Param("lastActivityId") Long lastActivityId,
+                                         @Param("limit") int limit);
+
+    // 활동 기록이 이미 저장됐는지 (리포트 작업 재시도 시 정산을 다시 하지 않도록)
+    boolean existsBySessionAndUser(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
 
     /**
      * 특정 게임 세션의 내 활동 상세 조회 (Optional 적용)
      */
     Optional<ActivityRecord> findBySessionAndUser(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    /**
+     * 궤적만 조회 (상세 화면에서 경로를 그릴 때만). 요청한 해상도 컬럼만 읽고, 비어 있을 때만 전체 궤적을 함께 읽음
+     */
+    Optional<StoredTrajectory> findTrajectory(@Param("sessionId") Long sessionId, @Param("userId") Long userId,
+                                              @Param("resolution") TrajectoryResolution resolution);
+
+    /**
+     * 세션 참여자 전원의 전체 궤적 (리플레이용, 압축된 채로)
+     */
+    List<ReplayTrack> findReplayTracks(@Param("sessionId") Long sessionId);
+
+    /**
+     * 아직 JSONB 로 남아 있는 이전 궤적 일부 조회 (압축 형식 이전용, afterActivityId 다음부터 ID 순)
+     */
+    List<LegacyTrajectory> findLegacyTrajectories(@Param("afterActivityId") long afterActivityId, @Param("limit") int limit);
+
+    /**
+     * 압축 궤적(해상도별)으로 교체하고 JSONB 는 비움 (한 구문)
+     */
+    int migrateTrajectories(@Param("rows") List<MigratedTrajectory> rows);
+
+    /**
+     * AI 리포트 갱신 (활동 기록 저장 이후 비동기로 생성)
+     */
+    void updateAiReport(@Param("sessionId") Long sessionId, @Param("userId") Long userId, @Param("aiReport") String aiReport);
+
+    /**
+     * @param full 전체 궤적 (trajectory_data)
+     * @param medium 5m 단순화 (trajectory_medium)
+     * @param low 20m 단순화 (trajectory_low)
+     */
+    record EncodedTrajectory(byte[] full, byte[] medium, byte[] low) {}
+
+    /**
+     * @param level 요청한 해상도의 압축 궤적 (아직 만들어지지 않았으면 null)
+     * @param data level 이 없을 때만 채워지는 전체 압축 궤적 (이전 형식이면 null)
+     * @param legacyJson 이전 형식 JSONB 궤적 (이전 전까지만)
+     */
+    record StoredTrajectory(byte[] level, byte[] data, String legacyJson) {}
+
+    record ReplayTrack(Long userId, String nickname, byte[] data, String legacyJson) {}
+
+    record LegacyTrajectory(Long activityId, String json) {}
+
+    record MigratedTrajectory(Long activityId, EncodedTrajectory trajectory) {}
 }
@@ -18,6 +18,9 @@ public interface GameMapper {
     // 참가자 역할 조회
     Optional<PlayerRole> findParticipantRole(@Param("roomId") Long roomId, @Param("userId") Long userId);
 
+    // 검거되지 않은 도둑 수 (메모리 상태가 없을 때만 사용)
+    int countAliveThieves(@Param("roomId") Long roomId);
+
     // 게임 방 상세 정보 조회
     Optional<com.ssafy.s14p11c204.server.domain.game.dto.GameRoomDetailDto> findGameRoomDetail(@Param("roomId") Long roomId);
 
@@ -27,18 +30,37 @@ public interface GameMapper {
     // 게임 참가자 정보 조회 (결과 정산용 - 기존 유지)
     List<GameResultDto.PlayerResultDto> findGameParticipants(@Param("roomId") Long roomId);
 
-    // 유저 MMR 업데이트 (Integer -> Long으로 변경)
-    void updateUserMmr(@Param("userId") Long userId, @Param("newMmr") Integer newMmr);
+    // 참가자 전원 MMR 일괄 업데이트 (UPDATE ... FROM (VALUES ...) 1회)
+    void updateUserMmrs(@Param("players") List<GameResultDto.PlayerResultDto> players);
+
+    // MMR 변동 이력 일괄 저장 (multi-row INSERT 1회)
+    void insertMmrHistories(@Param("histories") List<MmrHistoryDto> histories);
+
+    // 경도 전적 누적 (처음 보는 eventKey만 더함 - 같은 이벤트를 다시 반영해도 한 번만 집계, 구문 1회)
+    void applyGyeongdoDeltas(@Param("deltas") List<GyeongdoDelta> deltas);
+
+    // 전적 반영 대기열 (호출한 트랜잭션과 같이 커밋)
+    void insertGyeongdoOutbox(@Param("deltas") List<GyeongdoDelta> deltas);
 
-    // MMR 변동 이력 저장
-    void insertMmrHistory(MmrHistoryDto historyDto);
+    // 오래된 순으로 반영 대기 중인 증가분
+    List<OutboxDelta> findGyeongdoOutbox(@Param("limit") int limit);
 
-    // 게임 세션 종료 (평균 MMR 저장 등)
-    void updateGameSession(@Param("roomId") Long roomId, @Param("avgMmr") Integer avgMmr, @Param("winnerTeam") String winnerTeam);
+    void deleteGyeongdoOutbox(@Param("outboxIds") List<Long> outboxIds);
+
+    void incrementGyeongdoOutboxAttempts(@Param("outboxId") Long outboxId);
+
+    // 중복 방지용으로 남긴 반영 이력 정리
+    int deleteAppliedStatEventsBefore(@Param("before") LocalDateTime before);
+
+    // 게임 세션 종료 (평균 MMR 저장 등). 이미 종료된 세션이면 0 - 정산을 한 번만 하도록 호출자가 확인
+    int updateGameSession(@Param("roomId") Long roomId, @Param("avgMmr") Integer avgMmr, @Param("winnerTeam") String winnerTeam);
 
     // 게임 세션 생성 (추가됨)
     void createGameSession(@Param("roomId") Long roomId);
 
+    // 게임 세션 생성 후 세션 ID 반환 (INSERT ... RETURNING, 게임 시작 시 조회 왕복 절약)
+    Long insertGameSession(@Param("roomId") Long roomId);
+
     // 현재 진행 중인 세션 ID 조회
     Optional<Long> findCurrentSessionId(@Param("roomId") Long roomId);
     
@@ -48,7 +70,33 @@ public interface GameMapper {
     // 현재 진행 중인 세션의 시작 시간 조회 (추가됨)
     Optional<LocalDateTime> findCurrentSessionStartTime(@Param("roomId") Long roomId);
 
+    // 게임 중(rooms.status = PLAYING)인 방의 진행 중 세션 (메모리 게임 상태 복구용)
+    Optional<PlayingSession> findPlayingSession(@Param("roomId") Long roomId);
+
     // 액션 로그 기록 (태그, 체포 등)
     void insertActionLog(@Param("sessionId") Long sessionId, @Param("actorId") Long actorId, 
                         @Param("targetId") Long targetId, @Param("type") String type);
+
+    // 액션 로그 기록 후 log_id 반환 (검거 / 구출 이벤트 키로 사용)
+    Long insertActionLogReturningId(@Param("sessionId") Long sessionId, @Param("actorId") Long actorId,
+                                    @Param("targetId") Long targetId, @Param("type") String type);
+
+    // 세션의 액션 로그 (리플레이용, 시간순). t 는 epoch seconds
+    List<ReplayAction> findReplayActions(@Param("sessionId") Long sessionId);
+
+    record PlayingSession(Long sessionId, LocalDateTime startTime) {}
+
+    record ReplayAction(Long logId, Long t, String type, Long actorId, Long targetId) {}
+
+    // 경도 전적 증가분 (eventKey: 이벤트 + 유저 단위로 유일한 중복 방지 키)
+    record GyeongdoDelta(String eventKey, Long userId, int policeWin, int policeLose, int imprisoningCnt,
+                         int thiefWin, int thiefLose, int rescuingCnt) {}
+
+    // 반영 대기열의 증가분 1건
+    record OutboxDelta(Long outboxId, int attempts, String eventKey, Long userId, int policeWin, int policeLose,
+                       int imprisoningCnt, int thiefWin, int thiefLose, int rescuingCnt) {
+        public GyeongdoDelta delta() {
+            return new GyeongdoDelta(eventKey, userId, policeWin, policeLose, imprisoningCnt, thiefWin, thiefLose, rescuingCnt);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.ssafy.s14p11c204.server.domain.game.dao;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 리포트 작업 대기열 (ai_report_jobs)
+ * (type, sessionId, userId) 당 작업 1개. 워커는 임대(locked_until) 를 잡고 처리하며,
+ * 완료 / 재시도 반영은 잡을 때의 attempts 가 그대로일 때만 (임대가 만료돼 다른 워커가 다시 잡았으면 무시)
+ */
+@Mapper
+public interface ReportJobMapper {
+
+    /**
+     * 작업 등록. 이미 있는 (type, sessionId, userId) 는 건너뜀
+     * @return 새로 등록된 작업 수
+     */
+    int enqueue(@Param("type") ReportJobDto.Type type, @Param("roomId") Long roomId,
+                @Param("sessionId") Long sessionId, @Param("userIds") List<Long> userIds);
+
+    /**
+     * 실행할 작업을 최대 limit 개 잡음 (대기 중 + 시도 시각 도래, 또는 임대가 만료된 실행 중)
+     * 여러 서버가 동시에 잡아도 SKIP LOCKED 로 겹치지 않고, 잡은 작업은 attempts 가 1 늘어남
+     * @param types 잡을 작업 종류 (워커가 종류별로 따로 자리를 나눠 잡음)
+     */
+    List<ClaimedJob> claim(@Param("types") List<ReportJobDto.Type> types,
+                           @Param("limit") int limit, @Param("leaseSeconds") long leaseSeconds);
+
+    int complete(@Param("jobId") Long jobId, @Param("attempts") int attempts,
+                 @Param("status") ReportJobDto.Status status, @Param("error") String error);
+
+    int retry(@Param("jobId") Long jobId, @Param("attempts") int attempts,
+              @Param("delaySeconds") long delaySeconds, @Param("error") String error);
+
+    Optional<JobRow> findJob(@Param("type") ReportJobDto.Type type,
+                             @Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    record ClaimedJob(Long jobId, ReportJobDto.Type type, Long roomId, Long sessionId, Long userId, int attempts) {}
+
+    record JobRow(Long jobId, ReportJobDto.Type type, Long sessionId, ReportJobDto.Status status, int attempts,
+                  LocalDateTime nextRunAt, LocalDateTime updatedAt) {}
+}
@@ -1,11 +1,14 @@
 package com.ssafy.s14p11c204.server.domain.game.dao;
 
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Optional;
+
 @Mapper
 public interface ReportMapper {
-    // 리포트 저장
+    // 리포트 저장 (작업 재시도로 다시 불려도 세션/유저당 하나)
     void insertReport(@Param("sessionId") Long sessionId, 
                       @Param("userId") Long userId, 
                       @Param("content") String content, 
@@ -13,4 +16,7 @@ public interface ReportMapper {
                       
     // 집중도 전체 기록 조회 (AI 분석용)
     String findFocusScores(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    // 저장된 리포트 (작업 결과 조회용)
+    Optional<ReportJobDto.StudyReport> findReport(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
 }
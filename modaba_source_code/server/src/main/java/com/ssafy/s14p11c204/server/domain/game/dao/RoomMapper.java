@@ -30,6 +30,9 @@ public interface RoomMapper {
     // 방장 ID 조회
     Optional<Long> findHostIdByRoomId(@Param("roomId") Long roomId);
 
+    // 방 지역 (리더보드 지역 보드 갱신용)
+    Optional<Integer> findRegionIdByRoomId(@Param("roomId") Long roomId);
+
     // 참가자 삭제
     void deleteParticipant(@Param("roomId") Long roomId, @Param("userId") Long userId);
 
@@ -78,11 +81,19 @@ public interface RoomMapper {
     // 지역별 방 검색 (동적 쿼리)
     List<RoomResponseDto> findRoomsByRegion(@Param("city") String city, @Param("district") String district, @Param("neighborhood") String neighborhood);
 
-    // 곧 시작할 방 조회 (1시간 전)
-    List<RoomResponseDto> findRoomsStartingSoon(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+    // 알림 시각이 된 방을 선점 (is_noti_sent = true로 바꾸면서 반환 - 여러 서버가 동시에 실행해도 한 번만 선점)
+    List<RoomResponseDto> claimRoomsToNotify(@Param("from") LocalDateTime from,
+                                             @Param("until") LocalDateTime until,
+                                             @Param("limit") int limit);
+
+    // 발송하지 못한 방의 선점 해제 (다음 실행에서 다시 선점)
+    int releaseNotiClaims(@Param("roomIds") List<Long> roomIds);
 
-    // 알림 발송 상태 업데이트
-    void updateNotiSent(@Param("roomId") Long roomId, @Param("isNotiSent") boolean isNotiSent);
+    // 아직 알림을 보내지 않은 가장 이른 약속 시간 (다음 알림 예약용)
+    Optional<LocalDateTime> findNextNotiAppointmentTime(@Param("from") LocalDateTime from);
+
+    // 방들의 푸시 대상 (device_token이 있는 참가자)
+    List<PushTargetInfo> findPushTargets(@Param("roomIds") List<Long> roomIds);
 
     // 위치 공유 상태 업데이트
     void updateLocationSharingEnabled(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("enabled") boolean enabled);
@@ -93,11 +104,29 @@ public interface RoomMapper {
     // MMR 기반 방 검색
     List<RoomResponseDto> findRoomsByMmr(@Param("minMmr") int minMmr, @Param("maxMmr") int maxMmr);
 
-    // 방 참가자 목록 조회 (ID만)
-    List<Long> findParticipantIds(@Param("roomId") Long roomId);
 
-    // 참가자 역할 업데이트
-    void updateParticipantRole(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("role") PlayerRole role);
+    // 방 시작: 상태를 PLAYING으로 바꾸면서 구역 정보 반환 (조회 왕복 1회 절약)
+    Optional<RoomBoundaryInfo> startRoomReturningBoundary(@Param("roomId") Long roomId);
+
+    // 참가자 전원 역할 + 상태 일괄 변경 (UPDATE ... FROM (VALUES ...) 1회)
+    void updateParticipantRoles(@Param("roomId") Long roomId,
+                                @Param("participants") List<GameStartResponseDto.ParticipantInfo> participants,
+                                @Param("status") ParticipantStatus status);
+
+    // 이 방 참가자들이 함께 참여 중인 다른 방 (방 ID, 유저 ID)
+    List<OtherRoomMembership> findOtherRoomMemberships(@Param("roomId") Long roomId);
+
+    // 이 방 참가자들을 다른 방에서 일괄 퇴장
+    int deleteParticipantsFromOtherRooms(@Param("roomId") Long roomId);
+
+    // 참가자가 없는 방의 게임 세션 일괄 삭제 (방 삭제 전 외래 키 정리)
+    void deleteGameSessionsOfEmptyRooms(@Param("roomIds") List<Long> roomIds);
+
+    // 참가자가 없는 방 일괄 삭제, 삭제된 방 ID 반환
+    List<Long> deleteEmptyRooms(@Param("roomIds") List<Long> roomIds);
+
+    // 방장이 더 이상 참가자가 아닌 방은 가장 오래된(ID 최소) 참가자에게 위임
+    void reassignMissingHosts(@Param("roomIds") List<Long> roomIds);
 
     // 게임 구역(Boundary) 및 감옥 구역(Jail Boundary) 업데이트
     void updateRoomBoundary(@Param("roomId") Long roomId, @Param("boundaryWkt") String boundaryWkt, @Param("jailWkt") String jailWkt);
@@ -111,8 +140,6 @@ public interface RoomMapper {
     // 특정 참가자 상태 조회
     ParticipantStatus findParticipantStatus(@Param("roomId") Long roomId, @Param("userId") Long userId);
 
-    // 내가 참여 중인 다른 방 ID 목록 조회
-    List<Long> findOtherParticipatingRooms(@Param("userId") Long userId, @Param("currentRoomId") Long currentRoomId);
 
     // 특정 역할(도둑)의 모든 참가자 상태 업데이트
     void updateAllThievesStatus(@Param("roomId") Long roomId, @Param("status") ParticipantStatus status);
@@ -120,8 +147,8 @@ public interface RoomMapper {
     // 참가자 정보(ID, 닉네임, 역할) 조회
     List<GameStartResponseDto.ParticipantInfo> findParticipantsWithNickname(@Param("roomId") Long roomId);
 
-    // 시간 초과된 방 조회
-    List<Long> findTimeOverRooms(@Param("timeLimit") LocalDateTime timeLimit);
+    // 진행 중인 게임 세션 조회 (서버 시작 시 게임 타이머 복구용)
+    List<PlayingSessionInfo> findPlayingSessions();
 
     // 유저 역할 조회
     PlayerRole findUserRole(@Param("roomId") Long roomId, @Param("nickname") String nickname);
@@ -138,7 +165,18 @@ public interface RoomMapper {
     // 방의 구역 정보 조회 (WKT)
     Optional<RoomBoundaryInfo> findRoomBoundary(@Param("roomId") Long roomId);
 
+    // 참가자 ID, 닉네임, 역할, 상태 일괄 조회 (게임 상태 복구용)
+    List<ParticipantStateInfo> findParticipantStates(@Param("roomId") Long roomId);
+
     record ParticipantEmailInfo(String email, PlayerRole role) {}
+
+    record ParticipantStateInfo(Long userId, String nickname, PlayerRole role, ParticipantStatus status) {}
     
     record RoomBoundaryInfo(String boundaryWkt, String jailWkt) {}
+
+    record PlayingSessionInfo(Long roomId, LocalDateTime startTime) {}
+
+    record PushTargetInfo(Long roomId, Long userId, String deviceToken) {}
+
+    record OtherRoomMembership(Long roomId, Long userId) {}
 }
@@ -2,11 +2,13 @@ package com.ssafy.s14p11c204.server.domain.game.dto;
 
 import java.time.LocalDateTime;
 
+/**
+ * 활동 기록 요약 (궤적은 크기가 커서 포함하지 않음 - ActivityService#getTrajectory 로 따로 조회)
+ */
 public record ActivityRecord(
     Long id,
     Long sessionId,
     Long userId,
-    String trajectory,
     Double totalDistance,
     Double avgSpeed,
     Double maxSpeed,
@@ -0,0 +1,22 @@
+package com.ssafy.s14p11c204.server.domain.game.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 기록 목록 한 줄 (궤적 / AI 리포트 본문 제외 - 상세와 경로는 따로 조회)
+ *
+ * @param activityId 다음 페이지 조회 시 lastActivityId 로 넘기는 값
+ * @param activeTime 이동 시간 (초)
+ * @param aiTitle AI 리포트 제목 (아직 생성 전이면 null)
+ */
+public record ActivitySummaryDto(
+        Long activityId,
+        Long sessionId,
+        Double totalDistance,
+        Double avgSpeed,
+        Double maxSpeed,
+        Integer activeTime,
+        Integer score,
+        String aiTitle,
+        LocalDateTime createdAt
+) {}
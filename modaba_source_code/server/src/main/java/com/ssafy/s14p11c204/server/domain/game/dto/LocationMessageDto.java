@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.List;
+
 @Getter
 @Setter
 @Builder
@@ -47,4 +49,7 @@ public class LocationMessageDto {
     
     // 세션 정보 (추가됨)
     private Long sessionId;
+
+    // 틱 모드 일괄 전송 시 플레이어별 최신 위치 (LOCATION_UPDATE)
+    private List<LocationMessageDto> locations;
 }
@@ -0,0 +1,48 @@
+package com.ssafy.s14p11c204.server.domain.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+
+import java.util.List;
+
+/**
+ * 리플레이 NDJSON 한 줄 (type 에 따라 채워지는 필드가 다름)
+ *
+ * START    - sessionId, players, t(이어 보기 시작 시각, 없으면 처음부터)
+ * POSITION - t, userId, lat, lng, spd
+ * ARREST / ESCAPE / TAG - t, actorId, targetId (action_logs)
+ * END      - t(마지막 이벤트 시각, 이어 보기 커서로 사용)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReplayEventDto(
+        String type,
+        Long t,
+        Long userId,
+        Double lat,
+        Double lng,
+        Double spd,
+        Long actorId,
+        Long targetId,
+        Long sessionId,
+        List<Player> players
+) {
+    public record Player(Long userId, String nickname) {}
+
+    public static ReplayEventDto start(Long sessionId, List<Player> players, Long from) {
+        return new ReplayEventDto("START", from, null, null, null, null, null, null, sessionId, players);
+    }
+
+    public static ReplayEventDto position(Long userId, TrajectoryPoint point) {
+        return new ReplayEventDto("POSITION", point.t(), userId, point.lat(), point.lng(), point.spd(),
+                null, null, null, null);
+    }
+
+    public static ReplayEventDto action(GameMapper.ReplayAction action) {
+        return new ReplayEventDto(action.type(), action.t(), null, null, null, null,
+                action.actorId(), action.targetId(), null, null);
+    }
+
+    public static ReplayEventDto end(Long lastT) {
+        return new ReplayEventDto("END", lastT, null, null, null, null, null, null, null, null);
+    }
+}
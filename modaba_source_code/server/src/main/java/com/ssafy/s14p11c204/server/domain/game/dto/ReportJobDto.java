@@ -0,0 +1,56 @@
+package com.ssafy.s14p11c204.server.domain.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 리포트 작업 상태 (ai_report_jobs, GET /api/v0/reports/{type}/{sessionId})
+ * 완료(READY / FALLBACK)면 type 에 맞는 리포트 결과가 함께 채워진다.
+ *
+ * @param nextRunAt 대기 중이면 다음 시도 예정 시각 (재시도 대기 포함)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReportJobDto(
+        Long jobId,
+        Type type,
+        Long sessionId,
+        Status status,
+        int attempts,
+        LocalDateTime nextRunAt,
+        LocalDateTime updatedAt,
+        GameAiResponse gameReport,
+        StudyReport studyReport
+) {
+    public enum Type {
+        GAME("/sub/game/"),
+        STUDY("/sub/study/"),
+        TRAJECTORY(null); // 게임 궤적 정산 (LLM 없음, 끝나면 GAME 작업을 등록하고 알림은 보내지 않음)
+
+        private final String destinationPrefix;
+
+        Type(String destinationPrefix) {
+            this.destinationPrefix = destinationPrefix;
+        }
+
+        // 완료 알림 (ReportReadyDto) 을 보내는 방 채널
+        public String destination(Long roomId) {
+            return destinationPrefix + roomId + "/report";
+        }
+    }
+
+    public enum Status {
+        PENDING,  // 대기 (첫 시도 전 / 재시도 대기)
+        RUNNING,  // 워커가 처리 중
+        READY,    // 이하 ReportReadyDto.Status 와 같음
+        FALLBACK,
+        FAILED;
+
+        public boolean isDone() {
+            return this != PENDING && this != RUNNING;
+        }
+    }
+
+    public record StudyReport(String summary, String content, LocalDateTime createdAt) {}
+}
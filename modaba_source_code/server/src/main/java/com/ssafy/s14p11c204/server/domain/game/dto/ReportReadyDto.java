@@ -0,0 +1,27 @@
+package com.ssafy.s14p11c204.server.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리포트 작업 완료 알림 (게임: /sub/game/{roomId}/report, 스터디: /sub/study/{roomId}/report)
+ * 받으면 리포트 작업 조회 API(GET /api/v0/reports/{type}/{sessionId}) 또는 활동 상세 API로 리포트를 조회한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportReadyDto {
+    private Long roomId;
+    private Long sessionId;
+    private Long userId;
+    private Status status;
+
+    public enum Status {
+        READY,    // AI 리포트 생성 완료
+        FALLBACK, // AI 실패 / 시간 초과 - 기본 안내 리포트 저장
+        FAILED    // 활동 기록 저장 실패 / 분석할 기록 없음 / 재시도 모두 실패
+    }
+}
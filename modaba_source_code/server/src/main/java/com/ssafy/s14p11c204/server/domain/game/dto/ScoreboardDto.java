@@ -0,0 +1,34 @@
+package com.ssafy.s14p11c204.server.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 진행 중인 게임의 실시간 점수판
+ * STOMP /sub/game/{roomId}/scoreboard 로 변경 시마다 전송되고, GET /api/v0/games/{roomId}/scoreboard 로 조회할 수 있다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreboardDto {
+    private Long roomId;
+    private Long sessionId;
+
+    private int policeCount;
+    private int aliveThiefCount;
+    private int arrestedThiefCount;
+
+    private int totalArrests;
+    private int totalRescues;
+
+    // 경찰 닉네임 -> 검거 수
+    private Map<String, Integer> arrestsByPolice;
+
+    // 구출자 닉네임 -> 풀어준 도둑 수
+    private Map<String, Integer> rescuesByPlayer;
+}
@@ -0,0 +1,43 @@
+package com.ssafy.s14p11c204.server.domain.game.dto;
+
+/**
+ * 저장해 두는 궤적 해상도 (종료 시 Douglas-Peucker 로 미리 만들어 둠)
+ *
+ * FULL   - 수신한 위치 전체 (분석용)
+ * MEDIUM - 5m 오차, 최대 300개 (상세 화면 지도)
+ * LOW    - 20m 오차, 최대 40개 (목록 / 썸네일)
+ */
+public enum TrajectoryResolution {
+    FULL(0, Integer.MAX_VALUE),
+    MEDIUM(5.0, 300),
+    LOW(20.0, 40);
+
+    private final double toleranceMeters;
+    private final int maxPoints;
+
+    TrajectoryResolution(double toleranceMeters, int maxPoints) {
+        this.toleranceMeters = toleranceMeters;
+        this.maxPoints = maxPoints;
+    }
+
+    public double toleranceMeters() {
+        return toleranceMeters;
+    }
+
+    public int maxPoints() {
+        return maxPoints;
+    }
+
+    /**
+     * maxPoints 만 지정된 경우 그 수를 넘지 않는 가장 세밀한 해상도
+     */
+    public static TrajectoryResolution forMaxPoints(int maxPoints) {
+        if (maxPoints <= LOW.maxPoints) {
+            return LOW;
+        }
+        if (maxPoints <= MEDIUM.maxPoints) {
+            return MEDIUM;
+        }
+        return FULL;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.s14p11c204.server.domain.game.dto;
+
+/**
+ * 궤적 누적 통계 (위치를 받을 때마다 Redis에서 갱신 - 게임 중 실시간 조회 / 종료 시 그대로 저장)
+ *
+ * @param totalDistance 총 이동 거리 (m)
+ * @param avgSpeed 위치별 속도의 평균 (km/h)
+ * @param maxSpeed 최고 속도 (km/h)
+ * @param movingSeconds 1km/h 이상으로 움직인 시간 (초)
+ */
+public record TrajectoryStats(
+        int pointCount,
+        double totalDistance,
+        double avgSpeed,
+        double maxSpeed,
+        long movingSeconds,
+        Double minLat,
+        Double maxLat,
+        Double minLng,
+        Double maxLng
+) {
+    public static final TrajectoryStats EMPTY = new TrajectoryStats(0, 0, 0, 0, 0, null, null, null, null);
+}
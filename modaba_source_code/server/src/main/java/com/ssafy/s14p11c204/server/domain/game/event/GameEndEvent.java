@@ -7,4 +7,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class GameEndEvent {
     private final Long roomId;
+    // 다른 서버에서 끝난 게임 (Redis 로 전달받음 - 다시 전파하지 않음)
+    private final boolean remote;
+
+    public GameEndEvent(Long roomId) {
+        this(roomId, false);
+    }
 }
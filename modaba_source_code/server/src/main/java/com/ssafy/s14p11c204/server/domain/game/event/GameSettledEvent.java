@@ -0,0 +1,14 @@
+package com.ssafy.s14p11c204.server.domain.game.event;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+
+import java.util.List;
+
+/**
+ * 게임 결과 정산 (플레이어별 승패, 결과 트랜잭션 안에서 전적 반영 대기열에 기록)
+ */
+public record GameSettledEvent(
+        Long sessionId,
+        List<GameMapper.GyeongdoDelta> outcomes
+) {
+}
@@ -0,0 +1,10 @@
+package com.ssafy.s14p11c204.server.domain.game.event;
+
+/**
+ * 진행 중인 게임의 참가자 상태 변경 (검거 / 탈옥 / 퇴장)
+ * 커밋 이후 GameStateManager 가 다른 서버에 알려 메모리 상태를 DB 기준으로 맞추게 함
+ */
+public record GameStateChangedEvent(
+        Long roomId
+) {
+}
@@ -1,6 +1,13 @@
 package com.ssafy.s14p11c204.server.domain.game.event;
 
+/**
+ * 도둑 검거 (검거 트랜잭션 안에서 전적 반영 대기열에 기록)
+ *
+ * @param eventKey 중복 반영 방지 키 (action_logs의 검거 로그 ID 기준)
+ */
 public record ImprisonEvent(
+        String eventKey,
+        long policeId,
         long prisonerId
 ) {
 }
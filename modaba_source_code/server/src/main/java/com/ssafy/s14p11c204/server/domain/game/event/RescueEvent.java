@@ -0,0 +1,14 @@
+package com.ssafy.s14p11c204.server.domain.game.event;
+
+/**
+ * 감옥 구출 (구출 트랜잭션 안에서 전적 반영 대기열에 기록)
+ *
+ * @param eventKey 중복 반영 방지 키
+ * @param released 이번 구출로 풀려난 도둑 수
+ */
+public record RescueEvent(
+        String eventKey,
+        long rescuerId,
+        int released
+) {
+}
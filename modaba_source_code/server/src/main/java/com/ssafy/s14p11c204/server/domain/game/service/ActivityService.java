@@ -1,6 +1,11 @@
 package com.ssafy.s14p11c204.server.domain.game.service;
 
+import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiResponse;
 import com.ssafy.s14p11c204.server.domain.game.dto.ActivityRecord;
+import com.ssafy.s14p11c204.server.domain.game.dto.ActivitySummaryDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryResolution;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryStats;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +13,8 @@ import java.util.Optional;
  * 유저의 활동량(이동 거리, 속도, 궤적 등)을 기록하고 분석하는 서비스
  */
 public interface ActivityService {
+
+    int MAX_HISTORY_PAGE_SIZE = 50;
     
     /**
      * 유저의 현재 위치를 실시간으로 기록 (Redis에 누적)
@@ -15,18 +22,50 @@ public interface ActivityService {
     void recordMovement(Long sessionId, Long userId, double lat, double lng);
 
     /**
-     * 게임 종료 시 누적된 활동 데이터를 분석하여 DB에 최종 저장
+     * 게임 중 누적 통계 (거리, 속도, 이동 시간 등 - 위치를 받을 때마다 갱신된 값을 그대로 조회)
+     */
+    TrajectoryStats getLiveStats(Long sessionId, Long userId);
+
+    /**
+     * 게임 종료 시 누적된 활동 데이터를 분석하여 DB에 최종 저장 (AI 리포트는 비어 있는 상태)
      */
     void finalizeActivity(Long sessionId, Long userId);
 
     /**
-     * 유저의 과거 활동 기록 리스트 조회
+     * 활동 기록이 저장돼 있는지 (finalizeActivity 가 이미 반영됐는지)
      */
-    List<ActivityRecord> getUserActivities(Long userId);
+    boolean hasActivity(Long sessionId, Long userId);
 
     /**
-     * 특정 게임 세션의 상세 활동 기록 조회
+     * 저장된 활동 기록으로 AI 리포트 생성 (LLM 호출 - 오래 걸릴 수 있으므로 트랜잭션 밖에서 호출)
+     * @throws IllegalArgumentException 활동 기록이 없는 경우
+     * @throws RuntimeException AI 호출 실패 (리포트 작업이 재시도)
+     */
+    GameAiResponse generateReport(Long sessionId, Long userId);
+
+    /**
+     * AI 리포트 저장. report가 null이면(실패/시간 초과) 기본 안내 리포트를 저장
+     */
+    void saveReport(Long sessionId, Long userId, GameAiResponse report);
+
+    /**
+     * 유저의 과거 활동 기록 한 페이지 (최신순, 요약만)
+     * @param lastActivityId 이전 페이지의 마지막 activityId (첫 페이지면 null)
+     * @param size 페이지 크기 (최대 MAX_HISTORY_PAGE_SIZE)
+     */
+    List<ActivitySummaryDto> getUserActivities(Long userId, Long lastActivityId, int size);
+
+    /**
+     * 특정 게임 세션의 상세 활동 기록 조회 (궤적 제외)
      * @throws IllegalArgumentException 기록을 찾을 수 없는 경우
      */
     ActivityRecord getActivityDetail(Long sessionId, Long userId);
+
+    /**
+     * 특정 게임 세션의 이동 궤적 (요청할 때만 압축을 풀어서 반환)
+     * @param resolution 저장해 둔 해상도 (null 이면 maxPoints 에 맞는 해상도, 둘 다 없으면 전체)
+     * @param maxPoints 최대 위치 수 (null 이면 제한 없음). 해상도보다 적으면 더 단순화
+     * @throws IllegalArgumentException 기록을 찾을 수 없는 경우
+     */
+    List<TrajectoryPoint> getTrajectory(Long sessionId, Long userId, TrajectoryResolution resolution, Integer maxPoints);
 }
@@ -1,6 +1,7 @@
 package com.ssafy.s14p11c204.server.domain.game.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiRequest;
 import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiResponse;
@@ -10,20 +11,23 @@ import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.ActivityRecord;
+import com.ssafy.s14p11c204.server.domain.game.dto.ActivitySummaryDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
 import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryResolution;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryStats;
+import com.ssafy.s14p11c204.server.domain.heatmap.service.HeatmapService;
 import com.ssafy.s14p11c204.server.domain.user.User;
 import com.ssafy.s14p11c204.server.domain.user.Repositories.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -37,138 +41,212 @@ public class ActivityServiceImpl implements ActivityService {
     private final AiTestService aiTestService;
     private final RoomMapper roomMapper;
     private final UserMapper userMapper;
+    private final LocationIngestService locationIngestService;
+    private final TrajectoryBufferCodec trajectoryBufferCodec;
+    private final TrajectoryStorageCodec trajectoryStorageCodec;
+    private final TrajectorySimplifier trajectorySimplifier;
+    private final HeatmapService heatmapService;
 
-    private static final String REDIS_KEY_PREFIX = "activity:";
-    private static final long REDIS_TTL_HOURS = 2; // 게임 데이터는 2시간 후 자동 삭제
+    private static final String REDIS_KEY_PREFIX = "trajectory:";
+    private static final String LEGACY_KEY_PREFIX = "activity:";
+    static final long REDIS_TTL_HOURS = 2; // 게임 데이터는 2시간 후 자동 삭제
+    private static final double MOVING_SPEED_KMH = 1.0; // 이 속도 이상이면 이동 시간으로 집계
+
+    // Key 형식: trajectory:{sessionId}:{userId} (고정 길이 바이너리 레코드, TrajectoryBufferCodec)
+    static String trajectoryKey(Long sessionId, Long userId) {
+        return REDIS_KEY_PREFIX + sessionId + ":" + userId;
+    }
+
+    // 마지막 위치 + 누적 통계 (다음 위치의 속도 계산과 실시간 통계용, 버퍼를 다시 읽지 않음)
+    static String statsKey(String trajectoryKey) {
+        return trajectoryKey + ":stats";
+    }
+
+    // 이전 형식 (JSON LIST) - 배포 전에 시작한 게임의 궤적
+    private static String legacyTrajectoryKey(Long sessionId, Long userId) {
+        return LEGACY_KEY_PREFIX + sessionId + ":" + userId;
+    }
 
     @Override
     public void recordMovement(Long sessionId, Long userId, double lat, double lng) {
-        String key = REDIS_KEY_PREFIX + sessionId + ":" + userId;
-        long now = Instant.now().getEpochSecond();
-
-        // 1. 이전 좌표 정보 가져오기 (속도 계산용) - Optional 활용
-        double speed = Optional.ofNullable(redisTemplate.opsForList().range(key, -1, -1))
-                .filter(list -> !list.isEmpty())
-                .map(list -> objectMapper.convertValue(list.getFirst(), TrajectoryPoint.class))
-                .map(last -> calculateSpeed(last.lat(), last.lng(), last.t(), lat, lng, now))
-                .orElse(0.0);
+        // 대기열에 넣고 바로 반환 (속도 계산 + APPEND + 통계 갱신은 LocationIngestService 소비 스레드에서 일괄 처리)
+        locationIngestService.ingestTrajectory(sessionId, userId, lat, lng);
+    }
 
-        // 2. 현재 좌표 저장
-        TrajectoryPoint current = new TrajectoryPoint(now, lat, lng, speed);
-        redisTemplate.opsForList().rightPush(key, current);
-        
-        // 3. 만료 시간 설정 (메모리 관리)
-        redisTemplate.expire(key, REDIS_TTL_HOURS, TimeUnit.HOURS);
+    @Override
+    public TrajectoryStats getLiveStats(Long sessionId, Long userId) {
+        byte[] stats = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(bytes(statsKey(trajectoryKey(sessionId, userId)))));
+        return trajectoryBufferCodec.decodeStats(stats);
     }
 
     @Override
     public void finalizeActivity(Long sessionId, Long userId) {
-        String key = REDIS_KEY_PREFIX + sessionId + ":" + userId;
-        
-        // Redis 데이터를 가져옴 (없으면 빈 리스트)
-        List<Object> rawData = redisTemplate.opsForList().range(key, 0, -1);
-        if (rawData == null) rawData = Collections.emptyList();
-        
-        processAndSaveActivity(sessionId, userId, rawData, key);
+        String key = trajectoryKey(sessionId, userId);
+
+        // 아직 기록되지 않은 위치가 있으면 먼저 반영
+        locationIngestService.flushPending();
+
+        // 궤적 버퍼 + 누적 통계를 한 번에 읽음 (MGET). 통계는 수신 시 계산돼 있으므로 다시 훑지 않는다
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(bytes(key), bytes(statsKey(key))));
+        byte[] buffer = values != null ? values.get(0) : null;
+        byte[] stats = values != null ? values.get(1) : null;
+
+        List<TrajectoryPoint> trajectory;
+        TrajectoryStats summary;
+        if (buffer != null) {
+            trajectory = trajectoryBufferCodec.decode(buffer);
+            summary = trajectoryBufferCodec.decodeStats(stats);
+        } else {
+            // 이전 형식은 통계가 없으므로 궤적으로 계산
+            trajectory = readLegacyTrajectory(sessionId, userId);
+            summary = computeStats(trajectory);
+        }
+
+        saveActivity(sessionId, userId, trajectory, summary,
+                List.of(key, statsKey(key), legacyTrajectoryKey(sessionId, userId)));
     }
 
-    private void processAndSaveActivity(Long sessionId, Long userId, List<Object> rawData, String key) {
-        // 1. 시계열 데이터 가공 및 통계 계산
-        List<TrajectoryPoint> trajectory = rawData.stream()
+    private List<TrajectoryPoint> readLegacyTrajectory(Long sessionId, Long userId) {
+        List<Object> rawData = redisTemplate.opsForList().range(legacyTrajectoryKey(sessionId, userId), 0, -1);
+        if (rawData == null) rawData = Collections.emptyList();
+        return rawData.stream()
                 .map(obj -> objectMapper.convertValue(obj, TrajectoryPoint.class))
                 .toList();
+    }
+
+    private void saveActivity(Long sessionId, Long userId, List<TrajectoryPoint> trajectory,
+                              TrajectoryStats stats, List<String> keys) {
+        int activityScore = (int) (stats.totalDistance() * (1.0 + stats.avgSpeed() / 10.0));
 
+        // DB 저장 (AI 리포트는 GameReportService가 따로 생성해서 채움)
+        try {
+            // 전체 궤적과 함께 목록 / 지도용 단순화 궤적을 미리 만들어 둠
+            ActivityMapper.EncodedTrajectory encoded = trajectoryStorageCodec.encodeLevels(trajectory);
+            
+            // 데이터 크기 체크 로그
+            log.info("Activity data sizes - Trajectory: {} points, {} bytes (medium {}, low {})", trajectory.size(),
+                    encoded.full().length, encoded.medium().length, encoded.low().length);
+
+            ActivityRecord record = new ActivityRecord(
+                null, sessionId, userId, 
+                stats.totalDistance(), stats.avgSpeed(), stats.maxSpeed(),
+                (int) stats.movingSeconds(), activityScore, null, null
+            );
+
+            activityMapper.insertActivity(record, encoded);
+            accumulateHeatmap(sessionId, userId, trajectory);
+            redisTemplate.delete(keys);
+            
+        } catch (Exception e) {
+            // DB 저장 실패가 전체 게임 종료 로직을 망치지 않도록 예외를 잡아서 로그만 남김
+            log.error("CRITICAL: Failed to save activity record to DB for session {}, user {}. Error: {}", 
+                    sessionId, userId, e.getMessage(), e);
+        }
+    }
+
+    // 실패해도 heat_applied 가 false 로 남아 HeatmapService 백필에서 다시 더함
+    private void accumulateHeatmap(Long sessionId, Long userId, List<TrajectoryPoint> trajectory) {
+        try {
+            heatmapService.accumulate(sessionId, userId, trajectory);
+        } catch (Exception e) {
+            log.warn("Failed to add activity to heatmap for session {}, user {}: {}", sessionId, userId, e.getMessage());
+        }
+    }
+
+    // 누적 통계가 없는 궤적용 (location_ingest.lua 와 같은 기준)
+    private TrajectoryStats computeStats(List<TrajectoryPoint> trajectory) {
+        if (trajectory.isEmpty()) {
+            return TrajectoryStats.EMPTY;
+        }
         double totalDistance = 0.0;
         double maxSpeed = 0.0;
         double sumSpeed = 0.0;
+        long movingSeconds = 0;
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
 
         for (int i = 0; i < trajectory.size(); i++) {
             TrajectoryPoint current = trajectory.get(i);
             maxSpeed = Math.max(maxSpeed, current.spd());
             sumSpeed += current.spd();
+            minLat = Math.min(minLat, current.lat());
+            maxLat = Math.max(maxLat, current.lat());
+            minLng = Math.min(minLng, current.lng());
+            maxLng = Math.max(maxLng, current.lng());
 
             if (i > 0) {
                 TrajectoryPoint prev = trajectory.get(i - 1);
                 totalDistance += calculateDistance(prev.lat(), prev.lng(), current.lat(), current.lng());
+                if (current.spd() >= MOVING_SPEED_KMH && current.t() > prev.t()) {
+                    movingSeconds += current.t() - prev.t();
+                }
             }
         }
+        return new TrajectoryStats(trajectory.size(), totalDistance, sumSpeed / trajectory.size(), maxSpeed,
+                movingSeconds, minLat, maxLat, minLng, maxLng);
+    }
 
-        double avgSpeed = trajectory.isEmpty() ? 0.0 : sumSpeed / trajectory.size();
-        int activityScore = (int) (totalDistance * (1.0 + avgSpeed / 10.0));
+    @Override
+    public GameAiResponse generateReport(Long sessionId, Long userId) {
+        ActivityRecord activity = activityMapper.findBySessionAndUser(sessionId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게임의 활동 기록을 찾을 수 없습니다. Session: " + sessionId));
 
-        // 2. AI 리포트 생성
-        String aiReportJson = null;
-        try {
-            // 유저 역할 및 게임 결과 조회
-            String nickname = userMapper.findById(userId).map(User::getNickname).orElse("Unknown");
-            
-            // [수정] sessionId로 진짜 roomId를 찾아와야 정확한 역할 조회가 가능함
-            Long roomId = gameMapper.findRoomIdBySessionId(sessionId).orElse(null);
-            PlayerRole role = (roomId != null) ? roomMapper.findUserRole(roomId, nickname) : PlayerRole.THIEF;
-            
-            ParticipantStatus status = roomMapper.findParticipantStatus(roomId != null ? roomId : sessionId, userId);
-            
-            // 승패 결정 (간단한 예시 로직)
-            String result = (status != ParticipantStatus.ARRESTED) ? "WIN" : "LOSE";
-
-            // 지명 정보 (현재는 수동 고정)
-            List<String> locations = List.of("신창동", "수완동");
-
-            GameAiRequest aiRequest = new GameAiRequest(
-                role != null ? role.name() : "THIEF",
-                result,
-                (int) totalDistance,
-                maxSpeed,
-                (int) (trajectory.size() * 5 / 60), // 대략적인 시간 (5초 주기 가정)
-                locations
-            );
+        // 유저 역할 및 게임 결과 조회
+        String nickname = userMapper.findById(userId).map(User::getNickname).orElse("Unknown");
 
-            GameAiResponse aiResponse = aiTestService.generateGameReport(aiRequest);
-            aiReportJson = objectMapper.writeValueAsString(aiResponse);
-        } catch (Exception e) {
-            log.error("AI 리포트 생성 실패: {}", e.getMessage());
-            // AI가 실패해도 기본 메시지를 JSON 형태로 생성하여 진행
-            try {
-                GameAiResponse fallbackResponse = new GameAiResponse(
-                    "리포트를 생성할 수 없습니다.", 
-                    "AI 서비스 일시적 오류", 
-                    Collections.emptyList(), 
-                    "나중에 다시 시도해주세요."
-                );
-                aiReportJson = objectMapper.writeValueAsString(fallbackResponse);
-            } catch (Exception jsonEx) {
-                aiReportJson = "{\"summary\": \"리포트 생성 실패\"}";
-            }
-        }
+        // [수정] sessionId로 진짜 roomId를 찾아와야 정확한 역할 조회가 가능함
+        Long roomId = gameMapper.findRoomIdBySessionId(sessionId).orElse(null);
+        PlayerRole role = (roomId != null) ? roomMapper.findUserRole(roomId, nickname) : PlayerRole.THIEF;
 
-        // 3. DB 저장
-        try {
-            String trajectoryJson = objectMapper.writeValueAsString(trajectory);
-            
-            // 데이터 크기 체크 로그
-            log.info("Activity data sizes - Trajectory: {} chars, AI Report: {} chars", 
-                    trajectoryJson.length(), 
-                    aiReportJson != null ? aiReportJson.length() : 0);
+        ParticipantStatus status = roomMapper.findParticipantStatus(roomId != null ? roomId : sessionId, userId);
 
-            ActivityRecord record = new ActivityRecord(
-                null, sessionId, userId, trajectoryJson, 
-                totalDistance, avgSpeed, maxSpeed, 
-                trajectory.size(), activityScore, aiReportJson, null
-            );
+        // 승패 결정 (간단한 예시 로직)
+        String result = (status != ParticipantStatus.ARRESTED) ? "WIN" : "LOSE";
 
-            activityMapper.insertActivity(record);
-            redisTemplate.delete(key); 
-            
+        // 지명 정보 (현재는 수동 고정)
+        List<String> locations = List.of("신창동", "수완동");
+
+        int movingSeconds = activity.activeTime() != null ? activity.activeTime() : 0;
+        GameAiRequest aiRequest = new GameAiRequest(
+            role != null ? role.name() : "THIEF",
+            result,
+            activity.totalDistance() != null ? activity.totalDistance().intValue() : 0,
+            activity.maxSpeed() != null ? activity.maxSpeed() : 0.0,
+            movingSeconds / 60, // 이동 시간 (분)
+            locations
+        );
+
+        return aiTestService.requestGameReport(aiRequest);
+    }
+
+    @Override
+    public boolean hasActivity(Long sessionId, Long userId) {
+        return activityMapper.existsBySessionAndUser(sessionId, userId);
+    }
+
+    @Override
+    public void saveReport(Long sessionId, Long userId, GameAiResponse report) {
+        String aiReportJson;
+        try {
+            // AI가 실패해도 기본 메시지를 JSON 형태로 생성하여 진행
+            GameAiResponse saved = report != null ? report : new GameAiResponse(
+                "리포트를 생성할 수 없습니다.", 
+                "AI 서비스 일시적 오류", 
+                Collections.emptyList(), 
+                "나중에 다시 시도해주세요."
+            );
+            aiReportJson = objectMapper.writeValueAsString(saved);
         } catch (Exception e) {
-            // DB 저장 실패가 전체 게임 종료 로직을 망치지 않도록 예외를 잡아서 로그만 남김
-            log.error("CRITICAL: Failed to save activity record to DB for session {}, user {}. Error: {}", 
-                    sessionId, userId, e.getMessage(), e);
+            aiReportJson = "{\"summary\": \"리포트 생성 실패\"}";
         }
+        activityMapper.updateAiReport(sessionId, userId, aiReportJson);
     }
 
     @Override
-    public List<ActivityRecord> getUserActivities(Long userId) {
-        return activityMapper.findByUserId(userId);
+    public List<ActivitySummaryDto> getUserActivities(Long userId, Long lastActivityId, int size) {
+        return activityMapper.findHistory(userId, lastActivityId, Math.clamp(size, 1, MAX_HISTORY_PAGE_SIZE));
     }
 
     @Override
@@ -177,6 +255,47 @@ public class ActivityServiceImpl implements ActivityService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 게임의 활동 기록을 찾을 수 없습니다. Session: " + sessionId));
     }
 
+    @Override
+    public List<TrajectoryPoint> getTrajectory(Long sessionId, Long userId,
+                                               TrajectoryResolution resolution, Integer maxPoints) {
+        if (resolution == null) {
+            resolution = maxPoints != null ? TrajectoryResolution.forMaxPoints(maxPoints) : TrajectoryResolution.FULL;
+        }
+        ActivityMapper.StoredTrajectory stored = activityMapper.findTrajectory(sessionId, userId, resolution)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게임의 활동 기록을 찾을 수 없습니다. Session: " + sessionId));
+
+        List<TrajectoryPoint> points;
+        if (stored.level() != null) {
+            points = trajectoryStorageCodec.decode(stored.level());
+        } else {
+            // 해상도 컬럼이 없는 기록 (아직 옮겨지지 않은 JSONB 포함) - 전체 궤적으로 바로 단순화
+            List<TrajectoryPoint> full = stored.data() != null
+                    ? trajectoryStorageCodec.decode(stored.data())
+                    : parseLegacyJson(stored.legacyJson());
+            points = trajectorySimplifier.simplify(full, resolution);
+        }
+
+        if (maxPoints != null && points.size() > maxPoints) {
+            points = trajectorySimplifier.simplify(points, 0, maxPoints);
+        }
+        return points;
+    }
+
+    private List<TrajectoryPoint> parseLegacyJson(String json) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<TrajectoryPoint>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 궤적을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
     private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
         double R = 6371e3; // 지구 반지름 (m)
         double phi1 = Math.toRadians(lat1);
@@ -191,12 +310,4 @@ public class ActivityServiceImpl implements ActivityService {
 
         return R * c;
     }
-
-    private double calculateSpeed(double lat1, double lon1, long t1, double lat2, double lon2, long t2) {
-        if (t1 == t2) return 0.0;
-        double distanceMeters = calculateDistance(lat1, lon1, lat2, lon2);
-        double timeSeconds = t2 - t1;
-        
-        return (distanceMeters / timeSeconds) * 3.6;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,177 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReplayEventDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+/**
+ * 끝난 게임 리플레이 (참여자 전원 궤적 + 검거 / 구출 로그를 시간순 한 줄기로)
+ *
+ * - 궤적은 압축된 채로 읽고, 참여자별 커서에서 하나씩 꺼내 k-way 병합 (병합된 전체 타임라인을 만들지 않음)
+ * - NDJSON 으로 바로 흘려보내므로 16명 게임도 첫 줄이 즉시 나감
+ * - speed > 0 이면 게임 시간 / speed 속도로 재생, 0 이면 최대한 빨리
+ * - from 으로 이어 보기 (마지막으로 받은 t 를 넘기면 그 시각부터)
+ */
+@Service
+@RequiredArgsConstructor
+public class GameReplayService {
+
+    public static final double MAX_SPEED = 64.0;
+    private static final int FLUSH_EVERY = 256; // 배속 없이 보낼 때 flush 주기 (이벤트 수)
+
+    private final ActivityMapper activityMapper;
+    private final GameMapper gameMapper;
+    private final TrajectoryStorageCodec trajectoryStorageCodec;
+    private final ObjectMapper objectMapper;
+
+    public record GameReplay(Long sessionId, List<ActivityMapper.ReplayTrack> tracks,
+                             List<GameMapper.ReplayAction> actions) {}
+
+    /**
+     * 응답을 시작하기 전에 권한 확인과 조회를 끝냄 (스트리밍 도중에는 상태 코드를 바꿀 수 없으므로)
+     * @throws IllegalArgumentException 기록이 없거나 참여하지 않은 게임인 경우
+     */
+    public GameReplay open(Long sessionId, Long userId) {
+        List<ActivityMapper.ReplayTrack> tracks = activityMapper.findReplayTracks(sessionId);
+        if (tracks.stream().noneMatch(track -> track.userId().equals(userId))) {
+            throw new IllegalArgumentException("참여한 게임의 기록만 다시 볼 수 있습니다. Session: " + sessionId);
+        }
+        return new GameReplay(sessionId, tracks, gameMapper.findReplayActions(sessionId));
+    }
+
+    public void stream(GameReplay replay, Long from, double speed, OutputStream target) throws IOException {
+        OutputStream out = new BufferedOutputStream(target);
+        List<ReplayEventDto.Player> players = replay.tracks().stream()
+                .map(track -> new ReplayEventDto.Player(track.userId(), track.nickname()))
+                .toList();
+        writeLine(out, ReplayEventDto.start(replay.sessionId(), players, from));
+
+        // 같은 시각이면 위치 먼저, 그다음 액션 (order 순)
+        PriorityQueue<Source> queue = new PriorityQueue<>(
+                Comparator.comparingLong((Source s) -> s.current.t()).thenComparingInt(s -> s.order));
+        int order = 0;
+        for (ActivityMapper.ReplayTrack track : replay.tracks()) {
+            Iterator<ReplayEventDto> events = lazyMap(points(track), p -> ReplayEventDto.position(track.userId(), p));
+            Source.offer(queue, events, order++);
+        }
+        Source.offer(queue, replay.actions().stream().map(ReplayEventDto::action).iterator(), order);
+
+        long wallStart = System.nanoTime();
+        Long baseT = null;
+        Long lastT = from;
+        int sinceFlush = 0;
+        while (!queue.isEmpty()) {
+            Source source = queue.poll();
+            ReplayEventDto event = source.current;
+            if (source.advance()) {
+                queue.add(source);
+            }
+            if (from != null && event.t() < from) {
+                continue;
+            }
+
+            if (speed > 0) {
+                if (baseT == null) {
+                    baseT = event.t();
+                }
+                long due = wallStart + (long) ((event.t() - baseT) / speed * 1_000_000_000L);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    out.flush();
+                    sinceFlush = 0;
+                    sleep(wait);
+                }
+            }
+
+            writeLine(out, event);
+            lastT = event.t();
+            if (++sinceFlush >= FLUSH_EVERY) {
+                out.flush();
+                sinceFlush = 0;
+            }
+        }
+        writeLine(out, ReplayEventDto.end(lastT));
+        out.flush();
+    }
+
+    private Iterator<TrajectoryPoint> points(ActivityMapper.ReplayTrack track) {
+        if (track.data() != null) {
+            return trajectoryStorageCodec.open(track.data());
+        }
+        if (track.legacyJson() == null) {
+            return List.<TrajectoryPoint>of().iterator();
+        }
+        // 아직 압축 형식으로 옮겨지지 않은 기록 (LegacyTrajectoryMigrator)
+        try {
+            return objectMapper.readValue(track.legacyJson(), new TypeReference<List<TrajectoryPoint>>() {}).iterator();
+        } catch (IOException e) {
+            throw new IllegalStateException("저장된 궤적을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static <T, R> Iterator<R> lazyMap(Iterator<T> source, Function<T, R> mapper) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(source, Spliterator.ORDERED), false)
+                .map(mapper)
+                .iterator();
+    }
+
+    private void writeLine(OutputStream out, ReplayEventDto event) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(event));
+        out.write('\n');
+    }
+
+    private static void sleep(long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("리플레이 전송이 중단되었습니다.");
+        }
+    }
+
+    // 병합 중인 한 줄기 (참여자 궤적 또는 액션 로그)
+    private static final class Source {
+        private final Iterator<ReplayEventDto> events;
+        private final int order;
+        private ReplayEventDto current;
+
+        private Source(Iterator<ReplayEventDto> events, int order) {
+            this.events = events;
+            this.order = order;
+        }
+
+        static void offer(PriorityQueue<Source> queue, Iterator<ReplayEventDto> events, int order) {
+            Source source = new Source(events, order);
+            if (source.advance()) {
+                queue.add(source);
+            }
+        }
+
+        boolean advance() {
+            if (!events.hasNext()) {
+                return false;
+            }
+            current = events.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiResponse;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportReadyDto;
+import com.ssafy.s14p11c204.server.global.properties.GameReportProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게임 종료 후처리
+ * 결과 트랜잭션 안에서 플레이어마다 TRAJECTORY 작업을 등록하고 (transactional outbox),
+ * 커밋 이후 ReportJobWorker 가 두 단계로 처리한다:
+ * 1. finalizeTrajectory: 궤적 정산/저장 후 GAME 작업 등록 (LLM 대기열과 따로 처리 - Redis 버퍼가 만료되기 전에 끝냄)
+ * 2. process: AI 리포트 생성(제한 시간) → 리포트 저장. 완료 알림은 워커가 보냄
+ *
+ * - 결과 트랜잭션은 MMR 정산만 하고 바로 커밋 (LLM 호출 동안 DB 커넥션을 잡지 않음)
+ * - 실패 / 시간 초과는 예외로 넘겨 워커가 간격을 늘려 가며 재시도, 마지막 시도면 기본 안내 리포트를 저장
+ * - 재시도 때는 이미 저장된 활동 기록을 다시 정산하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameReportService {
+
+    private final ActivityService activityService;
+    private final ReportJobService reportJobService;
+    private final GameReportProperties properties;
+
+    // LLM 호출에 제한 시간을 걸기 위한 실행기 (호출 1건 = 가상 스레드 1개)
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("report-", 0).factory());
+
+    public static String destination(Long roomId) {
+        return ReportJobDto.Type.GAME.destination(roomId);
+    }
+
+    /**
+     * 작업 등록. 호출한 트랜잭션과 같이 커밋되므로 커밋 직후 서버가 죽어도 작업은 남음
+     */
+    public void start(Long roomId, Long sessionId, List<Long> userIds) {
+        log.info("Post-game pipeline started for room {} session {} ({} players)", roomId, sessionId, userIds.size());
+        reportJobService.enqueue(ReportJobDto.Type.TRAJECTORY, roomId, sessionId, userIds);
+    }
+
+    /**
+     * 궤적 정산 작업 1회 처리. 저장되면 (또는 마지막 시도까지 실패하면) AI 리포트 작업을 등록
+     * @param lastAttempt 마지막 시도면 정산 실패 시 예외 대신 FAILED - GAME 작업이 실패 알림을 보냄
+     * @return READY (저장됨) / FAILED
+     * @throws RuntimeException 다시 시도할 실패
+     */
+    ReportReadyDto.Status finalizeTrajectory(Long roomId, Long sessionId, Long userId, boolean lastAttempt) {
+        ReportReadyDto.Status status = ReportReadyDto.Status.READY;
+        try {
+            // 재시도면 이미 저장돼 있을 수 있음
+            if (!activityService.hasActivity(sessionId, userId)) {
+                activityService.finalizeActivity(sessionId, userId);
+            }
+        } catch (RuntimeException e) {
+            if (!lastAttempt) {
+                throw e;
+            }
+            log.error("Trajectory finalization failed on last attempt for session {}, user {}: {}",
+                    sessionId, userId, e.getMessage());
+            status = ReportReadyDto.Status.FAILED;
+        }
+        reportJobService.enqueue(ReportJobDto.Type.GAME, roomId, sessionId, List.of(userId));
+        return status;
+    }
+
+    /**
+     * AI 리포트 작업 1회 처리 (궤적 정산이 끝난 뒤 등록됨)
+     * @param lastAttempt 마지막 시도면 AI 실패 시 예외 대신 기본 안내 리포트를 저장
+     * @return 알림 상태 (READY / FALLBACK / FAILED)
+     * @throws RuntimeException 다시 시도할 실패 (AI 실패 / 시간 초과)
+     */
+    ReportReadyDto.Status process(Long sessionId, Long userId, boolean lastAttempt) {
+        // 1. 정산된 활동 기록 (정산이 끝내 실패했으면 다시 해도 같음)
+        if (!activityService.hasActivity(sessionId, userId)) {
+            log.error("No activity saved for session {}, user {}", sessionId, userId);
+            return ReportReadyDto.Status.FAILED;
+        }
+
+        // 2. AI 리포트 (제한 시간)
+        GameAiResponse report;
+        try {
+            report = generateWithTimeout(sessionId, userId);
+        } catch (RuntimeException e) {
+            if (!lastAttempt) {
+                throw e;
+            }
+            log.warn("AI report failed on last attempt for session {}, user {}: {}", sessionId, userId, e.getMessage());
+            report = null;
+        }
+
+        // 3. 저장
+        activityService.saveReport(sessionId, userId, report);
+        return report != null ? ReportReadyDto.Status.READY : ReportReadyDto.Status.FALLBACK;
+    }
+
+    private GameAiResponse generateWithTimeout(Long sessionId, Long userId) {
+        Future<GameAiResponse> future = executor.submit(() -> activityService.generateReport(sessionId, userId));
+        try {
+            return future.get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("AI 리포트 생성 시간 초과 (" + properties.timeout() + ")");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 리포트 생성이 중단되었습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
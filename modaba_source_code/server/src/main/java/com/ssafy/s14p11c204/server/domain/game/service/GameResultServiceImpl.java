@@ -8,9 +8,13 @@ import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.GameResultDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.GameSettledEvent;
+import com.ssafy.s14p11c204.server.domain.ranking.service.LeaderboardService;
 import com.ssafy.s14p11c204.server.domain.user.dto.MmrHistoryDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +22,7 @@ import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -28,9 +33,12 @@ public class GameResultServiceImpl implements GameResultService {
     private final GameMapper gameMapper;
     private final RoomMapper roomMapper; // RoomDao 대신 주입
     private final RedisPublisher redisPublisher;
-    private final ActivityService activityService;
+    private final GameReportService gameReportService;
+    private final ReportJobWorker reportJobWorker;
+    private final LeaderboardService leaderboardService;
     private final ChannelTopic channelTopic;
     private final ObjectMapper objectMapper; // 직렬화를 위한 Jackson Mapper
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -43,18 +51,22 @@ public class GameResultServiceImpl implements GameResultService {
         // 1. 참가자 정보 조회
         List<GameResultDto.PlayerResultDto> players = gameMapper.findGameParticipants(roomId);
 
-        // 1-1. 활동량 데이터 정산 및 저장
-        if (sessionId != null) {
-            for (GameResultDto.PlayerResultDto player : players) {
-                activityService.finalizeActivity(sessionId, player.getUserId());
-            }
-        }
-
         // 2. 평균 MMR 계산
         int totalMmr = players.stream().mapToInt(GameResultDto.PlayerResultDto::getOldMmr).sum();
         int avgMmr = players.isEmpty() ? 1000 : totalMmr / players.size();
 
-        // 3. 각 플레이어별 MMR 변동 계산 및 업데이트
+        // 2-1. 세션 종료를 먼저 반영해 정산을 선점 (동시에 두 번 들어오면 뒤의 호출은 행 잠금을 기다렸다가 0건)
+        if (gameMapper.updateGameSession(roomId, avgMmr, winnerTeam) == 0) {
+            log.warn("Game in room {} is already settled, skipping", roomId);
+            return GameResultDto.builder()
+                    .roomId(roomId)
+                    .winnerTeam(winnerTeam)
+                    .playerResults(List.of())
+                    .build();
+        }
+
+        // 3. 각 플레이어별 MMR 변동 계산 (메모리)
+        List<MmrHistoryDto> histories = new ArrayList<>(players.size());
         for (GameResultDto.PlayerResultDto player : players) {
             int changeValue = calculateMmrChange(player, winnerTeam, avgMmr);
             int newMmr = Math.max(0, player.getOldMmr() + changeValue);
@@ -62,25 +74,41 @@ public class GameResultServiceImpl implements GameResultService {
             player.setNewMmr(newMmr);
             player.setChangeValue(changeValue);
 
-            gameMapper.updateUserMmr(player.getUserId(), newMmr);
-
-            // MMR 히스토리 저장
+            // MMR 히스토리
             if (sessionId != null) {
-                MmrHistoryDto history = MmrHistoryDto.builder()
+                histories.add(MmrHistoryDto.builder()
                         .userId(player.getUserId())
                         .gameId(sessionId) // sessionId 사용
                         .changeValue(changeValue)
                         .finalMmr(newMmr)
                         .reason(player.isEscaped() ? "ESCAPE_PENALTY" : "GAME_RESULT")
                         .createdAt(LocalDateTime.now())
-                        .build();
-                gameMapper.insertMmrHistory(history);
+                        .build());
             }
         }
 
-        // 4. 방 상태 변경 및 세션 업데이트
+        // 3-1. 정산 반영 (인원과 관계없이 MMR / 히스토리 각 1회)
+        if (!players.isEmpty()) {
+            gameMapper.updateUserMmrs(players);
+        }
+        if (!histories.isEmpty()) {
+            gameMapper.insertMmrHistories(histories);
+        }
+
+        // 3-2. 승패 전적은 같은 트랜잭션에서 반영 대기열에 기록, 집계기가 주기적으로 반영 (검거/구출 수는 발생할 때마다 따로 기록됨)
+        if (sessionId != null && !players.isEmpty()) {
+            eventPublisher.publishEvent(new GameSettledEvent(sessionId, toGyeongdoDeltas(sessionId, players, winnerTeam)));
+        }
+
+        // 4. 방 상태 변경 (세션 종료는 2-1에서 반영)
         roomMapper.updateRoomStatus(roomId, "FINISHED");
-        gameMapper.updateGameSession(roomId, avgMmr, winnerTeam);
+
+        // 4-1. 게임 종료 이벤트 발행 (게임 상태/위치 캐시 정리)
+        // 시간 초과(스케줄러), 테스트 API 등 모든 종료 경로가 이 메서드를 거치므로 여기서 발행
+        eventPublisher.publishEvent(new GameEndEvent(roomId));
+
+        // 4-2. 활동량 정산 + AI 리포트 작업 등록 (결과와 같이 커밋, 롤백되면 작업도 남지 않음)
+        enqueuePostGameJobs(roomId, sessionId, players);
 
         // 5. [수정] 트랜잭션이 완전히 커밋된 후 알림 전송 (Race Condition 방지)
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
@@ -88,10 +116,14 @@ public class GameResultServiceImpl implements GameResultService {
                 @Override
                 public void afterCommit() {
                     sendGameEndNotification(roomId, winnerTeam, sessionId);
+                    updateLeaderboard(roomId, players);
+                    reportJobWorker.wakeUp();
                 }
             });
         } else {
             sendGameEndNotification(roomId, winnerTeam, sessionId);
+            updateLeaderboard(roomId, players);
+            reportJobWorker.wakeUp();
         }
 
         return GameResultDto.builder()
@@ -101,6 +133,24 @@ public class GameResultServiceImpl implements GameResultService {
                 .build();
     }
 
+    // 리더보드 반영 (Redis 장애가 결과 처리에 영향 주지 않도록)
+    private void updateLeaderboard(Long roomId, List<GameResultDto.PlayerResultDto> players) {
+        try {
+            leaderboardService.recordSettlement(roomId, players);
+        } catch (Exception e) {
+            log.error("Failed to update leaderboard for room {}: {}", roomId, e.getMessage(), e);
+        }
+    }
+
+    // 작업 행만 넣고, 처리는 커밋 이후 워커가 (플레이어별 병렬, 준비되는 대로 알림)
+    private void enqueuePostGameJobs(Long roomId, Long sessionId, List<GameResultDto.PlayerResultDto> players) {
+        if (sessionId == null) {
+            return;
+        }
+        List<Long> userIds = players.stream().map(GameResultDto.PlayerResultDto::getUserId).toList();
+        gameReportService.start(roomId, sessionId, userIds);
+    }
+
     private void sendGameEndNotification(Long roomId, String winnerTeam, Long sessionId) {
         try {
             String finishMessageText = "POLICE".equals(winnerTeam) ? "경찰 팀 승리!" : "도둑 팀 승리!";
@@ -125,6 +175,27 @@ public class GameResultServiceImpl implements GameResultService {
         }
     }
 
+    // 플레이어별 승패 (세션 + 유저 단위 키 - 같은 결과가 두 번 반영되지 않음)
+    private List<GameMapper.GyeongdoDelta> toGyeongdoDeltas(Long sessionId, List<GameResultDto.PlayerResultDto> players,
+                                                           String winnerTeam) {
+        return players.stream()
+                .filter(player -> player.getRole() != null)
+                .map(player -> {
+                    boolean police = player.getRole() == PlayerRole.POLICE;
+                    boolean win = !player.isEscaped() && player.getRole().name().equals(winnerTeam);
+                    return new GameMapper.GyeongdoDelta(
+                            "result:" + sessionId + ":" + player.getUserId(),
+                            player.getUserId(),
+                            police && win ? 1 : 0,
+                            police && !win ? 1 : 0,
+                            0,
+                            !police && win ? 1 : 0,
+                            !police && !win ? 1 : 0,
+                            0);
+                })
+                .toList();
+    }
+
     private int calculateMmrChange(GameResultDto.PlayerResultDto player, String winnerTeam, int avgMmr) {
         if (player.isEscaped()) return -50;
 
@@ -23,6 +23,9 @@ public interface GameService {
 
     // 검거 처리
     void handleArrest(Long roomId, String thiefNickname);
+
+    // 검거한 경찰까지 점수판에 기록
+    void handleArrest(Long roomId, String thiefNickname, String policeNickname);
     
     // 탈옥 처리
     void handleUnleash(Long roomId, String rescuerNickname);
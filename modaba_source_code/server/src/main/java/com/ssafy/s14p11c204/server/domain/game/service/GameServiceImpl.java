@@ -12,17 +12,24 @@ import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.MyPosition;
 import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
 import com.ssafy.s14p11c204.server.domain.game.dto.TagRequest;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.GeofenceCache;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
 import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.locationtech.jts.geom.Geometry;
 // import org.locationtech.jts.geom.Point; // 충돌 방지를 위해 제거
 import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.GameStateChangedEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.ImprisonEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.RescueEvent;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -46,53 +53,49 @@ public class GameServiceImpl implements GameService {
     private final ChannelTopic channelTopic;
     private final GameResultService gameResultService;
     private final RedisGeoService redisGeoService;
-    private final GeometryUtil geometryUtil;
     private final ApplicationEventPublisher eventPublisher;
+    private final GameStateManager gameStateManager;
+    private final GeofenceCache geofenceCache;
+    private final ScoreboardService scoreboardService;
+    private final GameTimerService gameTimerService;
     
     @Value("${game.test-mode:false}")
     private boolean isTestMode;
     
-    private static final int GAME_DURATION_MINUTES = 15; // 게임 제한 시간 (15분)
-    private static final double UNLEASH_DISTANCE_LIMIT = 0.00005; // 탈옥 허용 거리 (약 5m)
+    public static final int GAME_DURATION_MINUTES = 15; // 게임 제한 시간 (15분)
 
     @Override
     @Transactional
     public void startGame(Long roomId) {
         log.info("Starting game for room {}", roomId);
 
-        // 1. 방 상태 변경 (WAITING -> PLAYING)
-        roomMapper.updateRoomStatus(roomId, "PLAYING");
+        // 1. 방 상태 변경 (WAITING -> PLAYING) + 구역 정보 (전파용)
+        RoomMapper.RoomBoundaryInfo boundaryInfo = roomMapper.startRoomReturningBoundary(roomId).orElse(null);
 
         // 1-1. 게임 세션 생성 (시작 시간 기록)
-        gameMapper.createGameSession(roomId);
-        
+        Long sessionId = gameMapper.insertGameSession(roomId);
+
         // 종료 예정 시간 계산
         LocalDateTime endTime = LocalDateTime.now().plusMinutes(GAME_DURATION_MINUTES);
 
-        // 2. 참여자 리스트 조회
-        List<Long> participantIds = roomMapper.findParticipantIds(roomId);
-        int totalCount = participantIds.size();
+        // 2. 참여자 리스트 조회 (ID, 닉네임)
+        List<GameStartResponseDto.ParticipantInfo> joined = roomMapper.findParticipantsWithNickname(roomId);
+        int totalCount = joined.size();
 
-        // 3. 다른 방 정리 (모든 참가자에 대해 수행)
-        for (Long userId : participantIds) {
-            cleanupOtherRooms(userId, roomId);
-        }
+        // 3. 다른 방 정리 (참가자 전원 한 번에)
+        cleanupOtherRooms(roomId);
 
-        // 4. 역할 배정
+        // 4. 역할 배정 (메모리에서 정하고 한 번에 반영)
+        List<GameStartResponseDto.ParticipantInfo> participants = new ArrayList<>(totalCount);
         int policeCount = 0;
         int thiefCount = 0;
 
         if (isTestMode) {
             log.info("Test mode active: assigning roles based on nickname keywords.");
-            List<GameStartResponseDto.ParticipantInfo> participantsWithNick = roomMapper.findParticipantsWithNickname(roomId);
-            
-            for (Long userId : participantIds) {
-                // 닉네임 찾기
-                String nickname = participantsWithNick.stream()
-                        .filter(p -> p.getUserId().equals(userId))
-                        .map(GameStartResponseDto.ParticipantInfo::getNickname)
-                        .findFirst()
-                        .orElse("");
+
+            for (int i = 0; i < totalCount; i++) {
+                GameStartResponseDto.ParticipantInfo p = joined.get(i);
+                String nickname = p.getNickname() != null ? p.getNickname() : "";
 
                 PlayerRole role;
                 if (nickname.contains("경찰")) {
@@ -103,7 +106,7 @@ public class GameServiceImpl implements GameService {
                     thiefCount++;
                 } else {
                     // 키워드 없으면 도둑을 기본값으로 하되, 경찰이 한 명도 없으면 마지막 유저를 경찰로
-                    if (policeCount == 0 && userId.equals(participantIds.get(participantIds.size() - 1))) {
+                    if (policeCount == 0 && i == totalCount - 1) {
                         role = PlayerRole.POLICE;
                         policeCount++;
                     } else {
@@ -111,35 +114,33 @@ public class GameServiceImpl implements GameService {
                         thiefCount++;
                     }
                 }
-                roomMapper.updateParticipantRole(roomId, userId, role);
-                log.info("Assigned role {} to user {} (Nickname: {})", role, userId, nickname);
+                participants.add(withRole(p, role));
+                log.info("Assigned role {} to user {} (Nickname: {})", role, p.getUserId(), nickname);
             }
         } else {
             // [기존 로직] 랜덤 배정 (Shuffle)
-            Collections.shuffle(participantIds);
-            
+            List<GameStartResponseDto.ParticipantInfo> shuffled = new ArrayList<>(joined);
+            Collections.shuffle(shuffled);
+
             // 경찰 비율 30% (최소 1명 보장)
             policeCount = Math.max(1, (int) (totalCount * 0.3));
             thiefCount = totalCount - policeCount;
 
             for (int i = 0; i < totalCount; i++) {
-                Long userId = participantIds.get(i);
                 PlayerRole role = (i < policeCount) ? PlayerRole.POLICE : PlayerRole.THIEF;
-                roomMapper.updateParticipantRole(roomId, userId, role);
+                participants.add(withRole(shuffled.get(i), role));
             }
         }
 
-        // 5. 참가자 상태 변경 (IN_GAME)
-        roomMapper.updateAllParticipantsStatus(roomId, ParticipantStatus.IN_GAME);
+        // 5. 역할 + 참가자 상태(IN_GAME) 일괄 반영
+        if (!participants.isEmpty()) {
+            roomMapper.updateParticipantRoles(roomId, participants, ParticipantStatus.IN_GAME);
+        }
 
-        // 6. 게임 시작 알림 전송 (역할 정보 포함)
-        List<GameStartResponseDto.ParticipantInfo> participants = roomMapper.findParticipantsWithNickname(roomId);
-        
-        // 구역 정보 조회 (전파용)
-        RoomMapper.RoomBoundaryInfo boundaryInfo = roomMapper.findRoomBoundary(roomId).orElse(null);
+        // 6. 게임 시작 알림 전송 (역할 정보 포함, 이미 가진 데이터로 구성)
         List<List<List<Double>>> coordinates = null;
         List<List<Double>> jailCoordinates = null;
-        
+
         if (boundaryInfo != null) {
             coordinates = parsePolygonWkt(boundaryInfo.boundaryWkt());
             jailCoordinates = parseSingleRingWkt(boundaryInfo.jailWkt());
@@ -158,6 +159,13 @@ public class GameServiceImpl implements GameService {
 
         redisPublisher.publish(channelTopic, gameStartDto);
 
+        // 7. 게임 상태 메모리 적재 (커밋 이후 - 위치 메시지 처리 시 DB 조회 제거용)
+        runAfterCommit(() -> {
+            gameStateManager.load(roomId, sessionId, endTime, participants);
+            scoreboardService.push(roomId);
+            gameTimerService.schedule(roomId, endTime);
+        });
+
         // (선택) 기존 텍스트 알림도 유지할지 결정 (일단 유지)
         ChatMessageDto message = ChatMessageDto.builder()
                 .roomId(roomId)
@@ -171,45 +179,51 @@ public class GameServiceImpl implements GameService {
         redisPublisher.publish(channelTopic, message);
     }
 
-    private void cleanupOtherRooms(Long userId, Long currentRoomId) {
-        List<Long> otherRoomIds = roomMapper.findOtherParticipatingRooms(userId, currentRoomId);
-
-        for (Long otherRoomId : otherRoomIds) {
-            log.info("Cleaning up user {} from other room {}", userId, otherRoomId);
-
-            // 1. 방장 여부 확인 (Optional 적용)
-            Long hostId = roomMapper.findHostIdByRoomId(otherRoomId).orElse(null);
-            boolean isHost = userId.equals(hostId);
-
-            // 2. 퇴장 처리
-            roomMapper.deleteParticipant(otherRoomId, userId);
-
-            // 3. 방장 위임 또는 방 삭제
-            int remainingCount = roomMapper.countParticipants(otherRoomId);
-            if (remainingCount == 0) {
-                // [수정] 방 삭제 전 게임 세션 기록 먼저 삭제 (외래 키 제약 조건 해결)
-                roomMapper.deleteGameSessionsByRoomId(otherRoomId);
-                roomMapper.deleteRoom(otherRoomId);
-                log.info("Room {} deleted (no participants left)", otherRoomId);
-                
-                // 방 삭제 시 관련 캐시 정리
-                eventPublisher.publishEvent(new GameEndEvent(otherRoomId));
-            } else if (isHost) {
-                roomMapper.findOldestParticipant(otherRoomId).ifPresent(newHostId -> {
-                    roomMapper.updateRoomHost(otherRoomId, newHostId);
-                    log.info("Host of room {} changed to user {}", otherRoomId, newHostId);
-                });
-            }
+    private static GameStartResponseDto.ParticipantInfo withRole(GameStartResponseDto.ParticipantInfo p, PlayerRole role) {
+        return GameStartResponseDto.ParticipantInfo.builder()
+                .userId(p.getUserId())
+                .nickname(p.getNickname())
+                .role(role)
+                .build();
+    }
+
+    // 이 방 참가자들을 다른 방에서 모두 퇴장 (참가자 / 방 수와 관계없이 조회 1회 + 일괄 처리 4회)
+    private void cleanupOtherRooms(Long currentRoomId) {
+        List<RoomMapper.OtherRoomMembership> memberships = roomMapper.findOtherRoomMemberships(currentRoomId);
+        if (memberships.isEmpty()) {
+            return;
+        }
+        List<Long> otherRoomIds = memberships.stream().map(RoomMapper.OtherRoomMembership::roomId).distinct().toList();
+        log.info("Cleaning up {} memberships in other rooms {}", memberships.size(), otherRoomIds);
+
+        // 1. 퇴장 처리
+        roomMapper.deleteParticipantsFromOtherRooms(currentRoomId);
+        for (RoomMapper.OtherRoomMembership membership : memberships) {
+            gameStateManager.removePlayer(membership.roomId(), membership.userId());
+        }
+        otherRoomIds.forEach(otherRoomId -> eventPublisher.publishEvent(new GameStateChangedEvent(otherRoomId)));
 
-            // 4. 퇴장 알림 전송 (선택 사항)
-            ChatMessageDto leaveMsg = ChatMessageDto.builder()
-                    .roomId(otherRoomId)
-                    .senderNickname("SYSTEM")
-                    .message("참가자가 다른 게임을 시작하여 퇴장했습니다.")
-                    .type(MessageType.QUIT)
-                    .build();
-            redisPublisher.publish(channelTopic, leaveMsg);
+        // 2. 빈 방 삭제 (게임 세션 기록 먼저 삭제 - 외래 키 제약 조건), 남은 방은 방장 위임
+        roomMapper.deleteGameSessionsOfEmptyRooms(otherRoomIds);
+        List<Long> deletedRoomIds = roomMapper.deleteEmptyRooms(otherRoomIds);
+        roomMapper.reassignMissingHosts(otherRoomIds);
+
+        // 방 삭제 시 관련 캐시 정리
+        for (Long deletedRoomId : deletedRoomIds) {
+            log.info("Room {} deleted (no participants left)", deletedRoomId);
+            eventPublisher.publishEvent(new GameEndEvent(deletedRoomId));
         }
+
+        // 3. 퇴장 알림 전송 (파이프라인 1회)
+        List<ChatMessageDto> leaveMessages = memberships.stream()
+                .map(membership -> ChatMessageDto.builder()
+                        .roomId(membership.roomId())
+                        .senderNickname("SYSTEM")
+                        .message("참가자가 다른 게임을 시작하여 퇴장했습니다.")
+                        .type(MessageType.QUIT)
+                        .build())
+                .toList();
+        redisPublisher.publishAll(channelTopic, leaveMessages);
     }
 
     @Override
@@ -224,6 +238,7 @@ public class GameServiceImpl implements GameService {
         log.info("Saving boundaries for room {}: Game={}, Jail={}", roomId, boundaryWkt, jailWkt);
         
         roomMapper.updateRoomBoundary(roomId, boundaryWkt, jailWkt);
+        runAfterCommit(() -> geofenceCache.evict(roomId));
     }
 
     // 도넛 모양(구멍 뚫린 다각형)을 위한 WKT 변환
@@ -379,14 +394,36 @@ public class GameServiceImpl implements GameService {
     @Override
     @Transactional
     public void handleArrest(Long roomId, String thiefNickname) {
-        Long thiefId = roomMapper.findUserIdByNickname(thiefNickname).orElse(null);
+        handleArrest(roomId, thiefNickname, null);
+    }
+
+    @Override
+    @Transactional
+    public void handleArrest(Long roomId, String thiefNickname, String policeNickname) {
+        Long thiefId = gameStateManager.find(roomId)
+                .flatMap(state -> state.findUserId(thiefNickname))
+                .or(() -> roomMapper.findUserIdByNickname(thiefNickname))
+                .orElse(null);
         if (thiefId == null) return;
 
+        // 이미 검거된 도둑이면 검거 수를 다시 세지 않음
+        boolean alreadyArrested = gameStateManager.find(roomId)
+                .flatMap(state -> state.findStatus(thiefId))
+                .map(status -> status == ParticipantStatus.ARRESTED)
+                .orElse(false);
+
         roomMapper.updateParticipantStatus(roomId, thiefId, ParticipantStatus.ARRESTED);
+        // 종료 판정(checkGameEnd)이 바뀐 인원으로 세야 하므로 메모리도 바로 바꾸고, 롤백되면 버림
+        evictOnRollback(roomId);
+        gameStateManager.updateStatus(roomId, thiefId, ParticipantStatus.ARRESTED);
+        if (!alreadyArrested) {
+            gameStateManager.recordArrest(roomId, policeNickname);
+            publishImprisonEvent(roomId, policeNickname, thiefId);
+        }
         log.info("User {} (ID: {}) status updated to ARRESTED in room {}", thiefNickname, thiefId, roomId);
+        eventPublisher.publishEvent(new GameStateChangedEvent(roomId));
 
-        // 남은 도둑 수 계산
-        int aliveThiefCount = countAliveThieves(roomId);
+        runAfterCommit(() -> scoreboardService.push(roomId));
         
         checkGameEnd(roomId);
     }
@@ -405,19 +442,17 @@ public class GameServiceImpl implements GameService {
             return;
         }
         
-        // 2. 감옥 구역 조회
-        RoomMapper.RoomBoundaryInfo boundaryInfo = roomMapper.findRoomBoundary(roomId).orElse(null);
-        if (boundaryInfo == null || boundaryInfo.jailWkt() == null) {
+        // 2. 감옥 구역 조회 (허용 거리만큼 버퍼가 적용된 Geofence 캐시)
+        GeometryUtil.Geofence jail = geofenceCache.findJail(roomId).orElse(null);
+        if (jail == null) {
             log.warn("Unleash failed: Jail boundary not found for room {}", roomId);
             sendUnleashFailMessage(roomId, rescuerNickname, "감옥 구역 정보가 없습니다.");
             return;
         }
         
-        Geometry jailBoundary = geometryUtil.parseWkt(boundaryInfo.jailWkt());
-        
         // 3. 거리 검증 (감옥 근처 5m 이내인지)
         // Spring Point -> JTS Point 변환 없이 좌표값(Y=lat, X=lng) 직접 사용
-        if (!geometryUtil.isNear(jailBoundary, rescuerLocation.getY(), rescuerLocation.getX(), UNLEASH_DISTANCE_LIMIT)) {
+        if (!jail.contains(rescuerLocation.getY(), rescuerLocation.getX())) {
             log.warn("Unleash failed: Rescuer {} is too far from jail", rescuerNickname);
             sendUnleashFailMessage(roomId, rescuerNickname, "감옥과 너무 멉니다. 더 가까이 가세요!");
             return;
@@ -425,6 +460,12 @@ public class GameServiceImpl implements GameService {
         
         // 4. 감옥에 있는 모든 도둑 상태 변경 (ARRESTED -> IN_GAME)
         roomMapper.updateAllArrestedThievesToAlive(roomId);
+        evictOnRollback(roomId);
+        int released = gameStateManager.releaseArrestedThieves(roomId);
+        gameStateManager.recordRescue(roomId, rescuerNickname, released);
+        publishRescueEvent(roomId, rescuerNickname, released);
+        eventPublisher.publishEvent(new GameStateChangedEvent(roomId));
+        runAfterCommit(() -> scoreboardService.push(roomId));
         
         // 5. 남은 도둑 수 계산
         int aliveThiefCount = countAliveThieves(roomId);
@@ -442,6 +483,28 @@ public class GameServiceImpl implements GameService {
         redisPublisher.publish(channelTopic, unleashMsg);
     }
     
+    // 검거 로그(action_logs)를 남기고, 로그 ID를 키로 전적 집계 이벤트 발행 (같은 트랜잭션에서 반영 대기열에 기록)
+    private void publishImprisonEvent(Long roomId, String policeNickname, Long thiefId) {
+        if (policeNickname == null) return;
+        RoomGameState state = gameStateManager.find(roomId).orElse(null);
+        Long policeId = state != null ? state.findUserId(policeNickname).orElse(null) : null;
+        if (policeId == null || state.getSessionId() == null) return;
+
+        Long logId = gameMapper.insertActionLogReturningId(state.getSessionId(), policeId, thiefId, "ARREST");
+        eventPublisher.publishEvent(new ImprisonEvent("arrest:" + logId, policeId, thiefId));
+    }
+
+    // 구출도 액션 로그로 남김 (리플레이 / 집계 키). 풀려난 도둑이 여러 명이라 target 은 구출자 본인
+    private void publishRescueEvent(Long roomId, String rescuerNickname, int released) {
+        if (released <= 0) return;
+        RoomGameState state = gameStateManager.find(roomId).orElse(null);
+        Long rescuerId = state != null ? state.findUserId(rescuerNickname).orElse(null) : null;
+        if (rescuerId == null || state.getSessionId() == null) return;
+
+        Long logId = gameMapper.insertActionLogReturningId(state.getSessionId(), rescuerId, rescuerId, "ESCAPE");
+        eventPublisher.publishEvent(new RescueEvent("rescue:" + logId, rescuerId, released));
+    }
+
     private void sendUnleashFailMessage(Long roomId, String nickname, String reason) {
         LocationMessageDto failMsg = LocationMessageDto.builder()
                 .type(LocationMessageDto.MessageType.UNLEASH_RESULT)
@@ -466,18 +529,11 @@ public class GameServiceImpl implements GameService {
         }
     }
     
-    // 살아있는 도둑 수 계산 (Helper)
+    // 살아있는 도둑 수 계산 (Helper) - 메모리 점수판 O(1), 상태가 없으면 COUNT 쿼리 1번
     private int countAliveThieves(Long roomId) {
-        List<Long> participantIds = roomMapper.findParticipantIds(roomId);
-        int count = 0;
-        for (Long userId : participantIds) {
-            PlayerRole role = gameMapper.findParticipantRole(roomId, userId).orElse(null);
-            ParticipantStatus status = roomMapper.findParticipantStatus(roomId, userId);
-            if (role == PlayerRole.THIEF && status != ParticipantStatus.ARRESTED) {
-                count++;
-            }
-        }
-        return count;
+        return gameStateManager.find(roomId)
+                .map(RoomGameState::getAliveThiefCount)
+                .orElseGet(() -> gameMapper.countAliveThieves(roomId));
     }
     
     // LocationController에서 호출할 수 있도록 public 메서드 추가 (인터페이스에도 추가 필요)
@@ -489,14 +545,49 @@ public class GameServiceImpl implements GameService {
     @Transactional
     public void endGame(Long roomId, String winnerTeam) {
         log.info("Ending game for room {}. Winner: {}", roomId, winnerTeam);
+        // 게임 종료 이벤트(캐시 정리 등)는 processGameResult 내부에서 발행
         gameResultService.processGameResult(roomId, winnerTeam); // 주석 해제
-        
-        // 게임 종료 이벤트 발행 (캐시 정리 등)
-        eventPublisher.publishEvent(new GameEndEvent(roomId));
     }
 
     @Override
     public Long getCurrentSessionId(Long roomId) {
+        Optional<Long> cached = gameStateManager.find(roomId).map(RoomGameState::getSessionId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        // 방금 게임 중이 아닌 것으로 확인된 방이면 DB 조회 생략 (끝난 게임 뒤의 위치 수신 등)
+        if (gameStateManager.isInactive(roomId)) {
+            return null;
+        }
         return gameMapper.findCurrentSessionId(roomId).orElse(null);
     }
+
+    // 트랜잭션 안에서 먼저 바꾼 메모리 상태는 커밋되지 않으면 버림 (다음 조회 때 DB에서 다시 적재)
+    private void evictOnRollback(Long roomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        log.warn("Transaction for room {} did not commit, evicting in-memory game state", roomId);
+                        gameStateManager.evict(roomId);
+                    }
+                }
+            });
+        }
+    }
+
+    // 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 실행
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다른 서버의 게임 상태 알림 수신 (game-state 채널)
+ * - 종료: GameEndEvent 를 로컬로 발행해 상태 / 타이머 / 위치 버퍼 등을 이 서버에서도 정리
+ * - 변경: 캐시한 상태를 DB 기준으로 다시 맞춤
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameStateSubscriber {
+
+    private final ObjectMapper objectMapper;
+    private final GameStateManager gameStateManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void handleInvalidation(String publishMessage) {
+        try {
+            GameStateManager.Invalidation invalidation =
+                    objectMapper.readValue(publishMessage, GameStateManager.Invalidation.class);
+            if (!gameStateManager.isRemote(invalidation)) {
+                return;
+            }
+            switch (invalidation.kind()) {
+                case ENDED -> eventPublisher.publishEvent(new GameEndEvent(invalidation.roomId(), true));
+                case CHANGED -> gameStateManager.refresh(invalidation.roomId());
+            }
+        } catch (Exception e) {
+            log.error("GameStateSubscriber failed to handle {}: {}", publishMessage, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.chat.dto.ChatMessageDto;
+import com.ssafy.s14p11c204.server.domain.chat.dto.MessageType;
+import com.ssafy.s14p11c204.server.domain.chat.service.RedisPublisher;
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomExecutor;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import com.ssafy.s14p11c204.server.global.util.TimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 제한 시간 타이머 (분 단위 전체 조회 대신 종료 시각에 정확히 종료)
+ *
+ * - Redis ZSET(game:deadlines)에 방별 종료 시각을 저장 → 여러 서버 / 재시작 후에도 유지
+ * - 각 서버는 계층형 타이밍 휠로 종료 시각에 깨어나고, Lua 스크립트로 ZSET 항목을 원자적으로 선점한 한 서버만 종료 처리
+ * - 선점은 임대: 항목을 지우지 않고 점수를 미뤄 두고, 종료 정산이 커밋된 뒤에야 제거 (실패하면 바로 되돌림)
+ * - 게임이 먼저 끝나면(GameEndEvent, 커밋 이후) 항목 제거 → 다른 서버의 휠이 깨어나도 선점 실패로 무시
+ * - 예약한 서버가 죽은 경우 / 임대가 만료된 경우를 위해 마감이 지난 항목만 ZRANGEBYSCORE로 확인 (DB 조회 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameTimerService {
+
+    static final String DEADLINE_KEY = "game:deadlines";
+
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3; // 6.4초 / 6.8분 / 7.3시간
+
+    // 예약한 서버가 처리할 시간을 준 뒤 다른 서버가 회수
+    private static final long RECOVERY_GRACE_MILLIS = 2_000;
+
+    // 선점한 서버가 종료 정산을 마칠 시간. 그 안에 항목이 제거되지 않으면 다른 서버가 다시 선점
+    static final long CLAIM_LEASE_MILLIS = 60_000;
+
+    private static final RedisScript<Long> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/game_deadline_claim.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RoomMapper roomMapper;
+    private final GameStateManager gameStateManager;
+    private final GameResultService gameResultService;
+    private final RedisPublisher redisPublisher;
+    private final ChannelTopic channelTopic;
+    private final RoomExecutor roomExecutor;
+
+    // roomId -> 이 서버 휠에 걸린 타이머
+    private final Map<Long, TimingWheel.Timeout> timeouts = new ConcurrentHashMap<>();
+
+    private final TimingWheel wheel = new TimingWheel(TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("game-timer").daemon().factory());
+
+    @PostConstruct
+    void start() {
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 게임 시작 커밋 이후 호출. 종료 시각(GameStartResponseDto.endTime)에 도둑 승리로 종료된다.
+     */
+    public void schedule(Long roomId, LocalDateTime endTime) {
+        long deadline = toEpochMillis(endTime);
+        redisTemplate.opsForZSet().add(DEADLINE_KEY, roomId.toString(), deadline);
+        scheduleLocal(roomId, deadline);
+        log.info("Game timer scheduled for room {} at {}", roomId, endTime);
+    }
+
+    public void cancel(Long roomId) {
+        redisTemplate.opsForZSet().remove(DEADLINE_KEY, roomId.toString());
+        TimingWheel.Timeout timeout = timeouts.remove(roomId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    // 검거 완료 / 전원 퇴장 등으로 먼저 끝난 게임 (정산이 롤백되면 타이머는 그대로 둠)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameEndEvent(GameEndEvent event) {
+        cancel(event.getRoomId());
+    }
+
+    /**
+     * 서버 시작 시 복구: 진행 중인 게임의 종료 시각을 ZSET에 채우고(NX), ZSET 전체를 휠에 적재
+     * 시작 전에 이미 마감이 지난 게임은 바로 종료 처리된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        for (RoomMapper.PlayingSessionInfo session : roomMapper.findPlayingSessions()) {
+            LocalDateTime endTime = session.startTime().plusMinutes(GameServiceImpl.GAME_DURATION_MINUTES);
+            zSet.addIfAbsent(DEADLINE_KEY, session.roomId().toString(), toEpochMillis(endTime));
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> deadlines = zSet.rangeWithScores(DEADLINE_KEY, 0, -1);
+        if (deadlines == null) {
+            return;
+        }
+        for (ZSetOperations.TypedTuple<String> deadline : deadlines) {
+            if (deadline.getValue() != null && deadline.getScore() != null) {
+                scheduleLocal(Long.valueOf(deadline.getValue()), deadline.getScore().longValue());
+            }
+        }
+        log.info("Restored {} game timers", deadlines.size());
+    }
+
+    /**
+     * 예약한 서버가 내려가 처리되지 않은 마감만 회수 (마감 지난 항목만 조회하므로 평소에는 빈 결과)
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void recoverOverdue() {
+        long now = System.currentTimeMillis();
+        Set<String> overdue = redisTemplate.opsForZSet()
+                .rangeByScore(DEADLINE_KEY, Double.NEGATIVE_INFINITY, now - RECOVERY_GRACE_MILLIS);
+        if (overdue == null) {
+            return;
+        }
+        for (String member : overdue) {
+            expire(Long.valueOf(member));
+        }
+    }
+
+    private void scheduleLocal(Long roomId, long deadline) {
+        TimingWheel.Timeout timeout = wheel.schedule(deadline, () -> expire(roomId));
+        TimingWheel.Timeout previous = timeouts.put(roomId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void tick() {
+        try {
+            List<TimingWheel.Timeout> expired = wheel.advance(System.currentTimeMillis());
+            for (TimingWheel.Timeout timeout : expired) {
+                timeout.run();
+            }
+        } catch (Exception e) {
+            log.error("Game timer tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // 타이머 스레드는 바로 돌려보내고, 선점과 종료 처리는 방 실행기에서
+    private void expire(Long roomId) {
+        timeouts.remove(roomId);
+        roomExecutor.execute(roomId, () -> {
+            if (claim(roomId)) {
+                finishTimeOverGame(roomId);
+            }
+        });
+    }
+
+    boolean claim(Long roomId) {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(DEADLINE_KEY),
+                roomId.toString(), String.valueOf(System.currentTimeMillis()), String.valueOf(CLAIM_LEASE_MILLIS));
+        return claimed != null && claimed == 1L;
+    }
+
+    void finishTimeOverGame(Long roomId) {
+        // 검거 등으로 이미 끝난 게임이면 건너뜀 (이중 종료 방지)
+        RoomGameState state = gameStateManager.getOrLoad(roomId).orElse(null);
+        if (state == null) {
+            log.info("Game in room {} already finished. Skip time over.", roomId);
+            releaseDeadline(roomId);
+            return;
+        }
+        log.info("Game time over for room {}. Force finish (Thief Win).", roomId);
+
+        // 현재 세션 ID (종료 처리 전)
+        Long sessionId = state.getSessionId();
+
+        // 도둑 승리로 게임 종료 처리 (트랜잭션이 끝나 돌아오면 커밋된 것)
+        try {
+            gameResultService.processGameResult(roomId, "THIEF");
+        } catch (Exception e) {
+            // 임대를 풀어 바로 회수 대상이 되게 함 (다음 recoverOverdue 에서 재시도)
+            log.error("Failed to finish timed-out game in room {}, will retry: {}", roomId, e.getMessage(), e);
+            redisTemplate.opsForZSet().add(DEADLINE_KEY, roomId.toString(), System.currentTimeMillis());
+            return;
+        }
+        releaseDeadline(roomId);
+
+        ChatMessageDto message = ChatMessageDto.builder()
+                .roomId(roomId)
+                .senderId(null)
+                .senderNickname("SYSTEM")
+                .message("제한 시간이 초과되었습니다. 도둑 팀 승리!")
+                .type(MessageType.GAME_END)
+                .sessionId(sessionId)
+                .build();
+
+        redisPublisher.publish(channelTopic, message);
+    }
+
+    // 종료가 커밋된 뒤 마감 항목 제거 (이미 정산된 게임이라 종료 이벤트가 없던 경우 포함)
+    private void releaseDeadline(Long roomId) {
+        redisTemplate.opsForZSet().remove(DEADLINE_KEY, roomId.toString());
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,136 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+import com.ssafy.s14p11c204.server.domain.game.event.GameSettledEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.ImprisonEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.RescueEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경도 전적(gyeongdo_records) 집계
+ * 검거 / 구출 / 결과 정산 이벤트를 발생한 트랜잭션 안에서 반영 대기열(gyeongdo_stat_outbox)에 기록하고,
+ * 주기적으로 모아 한 구문에 반영한다.
+ *
+ * - 프로필 조회는 gyeongdo_records PK 조회 1번 (이력 테이블 집계 없음)
+ * - 대기열은 종료 처리와 같이 커밋되므로 커밋 직후 서버가 죽거나 배포돼도 증가분이 사라지지 않음
+ * - 이벤트마다 eventKey가 있어 재시도 / 중복 수신 / 여러 서버가 같은 행을 반영해도 한 번만 더해진다 (gyeongdo_applied_events)
+ * - 같은 유저의 증가분은 DB에서 합산되므로 한 판 동안 검거가 많아도 유저당 upsert 1회
+ * - 묶음 반영이 실패하면 한 건씩 다시 반영하고, 제약 위반(탈퇴한 유저 등)으로 MAX_ATTEMPTS 번 실패한 건은 버림
+ *   (한 건 때문에 뒤의 증가분이 계속 막히지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GyeongdoStatsMaterializer {
+
+    static final int FLUSH_BATCH_SIZE = 500;
+    static final int MAX_ATTEMPTS = 5;
+    private static final long APPLIED_EVENT_RETENTION_DAYS = 7;
+
+    private final GameMapper gameMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleImprisonEvent(ImprisonEvent event) {
+        gameMapper.insertGyeongdoOutbox(List.of(
+                new GameMapper.GyeongdoDelta(event.eventKey(), event.policeId(), 0, 0, 1, 0, 0, 0)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleRescueEvent(RescueEvent event) {
+        gameMapper.insertGyeongdoOutbox(List.of(
+                new GameMapper.GyeongdoDelta(event.eventKey(), event.rescuerId(), 0, 0, 0, 0, 0, event.released())));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleGameSettledEvent(GameSettledEvent event) {
+        if (!event.outcomes().isEmpty()) {
+            gameMapper.insertGyeongdoOutbox(event.outcomes());
+        }
+    }
+
+    /**
+     * 대기열 반영. 반영한 행은 삭제 (삭제 전에 죽어도 다시 반영할 때 이미 반영된 키는 DB에서 걸러짐)
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void flush() {
+        while (true) {
+            List<GameMapper.OutboxDelta> rows;
+            try {
+                rows = gameMapper.findGyeongdoOutbox(FLUSH_BATCH_SIZE);
+            } catch (Exception e) {
+                log.error("Failed to load gyeongdo stat outbox: {}", e.getMessage());
+                return;
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                // 같은 키가 두 번 들어온 경우 먼저 하나로
+                Map<String, GameMapper.GyeongdoDelta> batch = new LinkedHashMap<>();
+                for (GameMapper.OutboxDelta row : rows) {
+                    batch.putIfAbsent(row.eventKey(), row.delta());
+                }
+                gameMapper.applyGyeongdoDeltas(List.copyOf(batch.values()));
+                gameMapper.deleteGyeongdoOutbox(rows.stream().map(GameMapper.OutboxDelta::outboxId).toList());
+            } catch (Exception e) {
+                // 실패한 건의 시도 횟수는 주기마다 한 번만 올라가도록 이번 주기는 여기서 끝냄
+                log.warn("Failed to apply {} gyeongdo stat deltas, retrying one by one: {}", rows.size(), e.getMessage());
+                flushEach(rows);
+                return;
+            }
+            if (rows.size() < FLUSH_BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    // 한 건씩 반영. DB 장애처럼 건과 상관없는 실패면 멈추고 다음 주기에 재시도 (시도 횟수를 올리지 않음)
+    private void flushEach(List<GameMapper.OutboxDelta> rows) {
+        for (GameMapper.OutboxDelta row : rows) {
+            try {
+                gameMapper.applyGyeongdoDeltas(List.of(row.delta()));
+                gameMapper.deleteGyeongdoOutbox(List.of(row.outboxId()));
+            } catch (DataIntegrityViolationException e) {
+                reject(row, e);
+            } catch (Exception e) {
+                log.error("Failed to apply gyeongdo stat delta {}, will retry: {}", row.eventKey(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void reject(GameMapper.OutboxDelta row, Exception cause) {
+        try {
+            if (row.attempts() + 1 >= MAX_ATTEMPTS) {
+                log.error("Dropping gyeongdo stat delta {} after {} attempts: {} ({})",
+                        row.eventKey(), row.attempts() + 1, row.delta(), cause.getMessage());
+                gameMapper.deleteGyeongdoOutbox(List.of(row.outboxId()));
+            } else {
+                log.warn("Gyeongdo stat delta {} rejected (attempt {}): {}",
+                        row.eventKey(), row.attempts() + 1, cause.getMessage());
+                gameMapper.incrementGyeongdoOutboxAttempts(row.outboxId());
+            }
+        } catch (Exception e) {
+            log.error("Failed to record failed gyeongdo stat delta {}: {}", row.eventKey(), e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void pruneAppliedEvents() {
+        int deleted = gameMapper.deleteAppliedStatEventsBefore(LocalDateTime.now().minusDays(APPLIED_EVENT_RETENTION_DAYS));
+        if (deleted > 0) {
+            log.info("Pruned {} applied gyeongdo stat events", deleted);
+        }
+    }
+}
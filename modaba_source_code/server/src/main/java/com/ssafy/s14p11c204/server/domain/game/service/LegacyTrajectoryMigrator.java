@@ -0,0 +1,123 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSONB 로 저장된 이전 궤적을 압축 형식(trajectory_data + 해상도별 컬럼)으로 조금씩 옮긴다.
+ *
+ * - 한 번에 BATCH_SIZE 행만 읽고 한 구문으로 교체하므로 서비스 중에도 부담이 적음
+ * - 여러 서버가 동시에 돌아도 trajectory_data IS NULL 조건으로 한 번만 반영됨
+ * - 행마다 따로 변환하고, 읽을 수 없는 행은 원본을 그대로 두고 건너뜀 (activity_id 커서가 지나감 - 다음 기동 때 다시 시도)
+ * - 한 구문 교체가 실패하면 행마다 다시 시도하고, MAX_ATTEMPTS 번 실패한 행도 건너뜀
+ * - 남은 행이 없으면 더 이상 조회하지 않음 (새 기록은 처음부터 압축 형식)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyTrajectoryMigrator {
+
+    static final int BATCH_SIZE = 200;
+    static final int MAX_ATTEMPTS = 3;
+
+    private final ActivityMapper activityMapper;
+    private final ObjectMapper objectMapper;
+    private final TrajectoryStorageCodec trajectoryStorageCodec;
+
+    private volatile boolean done;
+    // 이 activity_id 까지는 처리(또는 건너뜀)함
+    private volatile long lastActivityId;
+    // activity_id -> 교체 실패 횟수
+    private final Map<Long, Integer> failures = new ConcurrentHashMap<>();
+
+    @Scheduled(initialDelay = 30_000, fixedDelay = 10_000)
+    public void migrateBatch() {
+        if (done) {
+            return;
+        }
+        List<ActivityMapper.LegacyTrajectory> legacy;
+        try {
+            legacy = activityMapper.findLegacyTrajectories(lastActivityId, BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Failed to load legacy trajectories: {}", e.getMessage(), e);
+            return;
+        }
+        if (legacy.isEmpty()) {
+            done = true;
+            log.info("Legacy trajectory migration finished");
+            return;
+        }
+
+        Map<Long, ActivityMapper.MigratedTrajectory> encoded = new LinkedHashMap<>();
+        for (ActivityMapper.LegacyTrajectory row : legacy) {
+            try {
+                encoded.put(row.activityId(), new ActivityMapper.MigratedTrajectory(row.activityId(), encode(row.json())));
+            } catch (Exception e) {
+                // 다시 해도 같음 - 원본은 그대로 두고 건너뜀
+                log.error("Skipping legacy trajectory of activity {}: unreadable ({})", row.activityId(), e.getMessage());
+            }
+        }
+
+        boolean batched = encoded.isEmpty() || migrateAll(List.copyOf(encoded.values()));
+        long cursor = lastActivityId;
+        for (ActivityMapper.LegacyTrajectory row : legacy) {
+            ActivityMapper.MigratedTrajectory migrated = encoded.get(row.activityId());
+            if (!batched && migrated != null && !migrateOne(migrated)) {
+                break; // 다음 주기에 이 행부터 다시
+            }
+            cursor = row.activityId();
+        }
+        lastActivityId = cursor;
+    }
+
+    // JSONB null 은 빈 궤적
+    private ActivityMapper.EncodedTrajectory encode(String json) throws Exception {
+        List<TrajectoryPoint> points = objectMapper.readValue(json, new TypeReference<>() {});
+        return trajectoryStorageCodec.encodeLevels(points != null ? points : List.of());
+    }
+
+    private boolean migrateAll(List<ActivityMapper.MigratedTrajectory> rows) {
+        try {
+            int migrated = activityMapper.migrateTrajectories(rows);
+            log.info("Migrated {} legacy trajectories to compressed format", migrated);
+            return true;
+        } catch (Exception e) {
+            log.warn("Batch migration of {} legacy trajectories failed, retrying one by one: {}", rows.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 한 행만 교체. 실패하면 MAX_ATTEMPTS 번째까지는 다음 주기에 다시, 그 뒤로는 원본을 그대로 두고 건너뜀
+     * @return 다음 행으로 넘어가도 되면 true
+     */
+    private boolean migrateOne(ActivityMapper.MigratedTrajectory row) {
+        try {
+            activityMapper.migrateTrajectories(List.of(row));
+            failures.remove(row.activityId());
+            return true;
+        } catch (Exception e) {
+            int attempts = failures.merge(row.activityId(), 1, Integer::sum);
+            if (attempts < MAX_ATTEMPTS) {
+                log.warn("Failed to migrate legacy trajectory of activity {} (attempt {}): {}",
+                        row.activityId(), attempts, e.getMessage());
+                return false;
+            }
+            log.error("Skipping legacy trajectory of activity {} after {} failed attempts: {}",
+                    row.activityId(), attempts, e.getMessage(), e);
+            failures.remove(row.activityId());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위치/게임 이벤트용 바이너리 포맷 (JSON 대비 1/5 ~ 1/10 크기)
+ *
+ * u8 버전 | u8 타입 | varint 플래그 | varint roomId | 플래그에 해당하는 필드들 (아래 F_* 순서)
+ * - 닉네임 대신 userId(varint). 방 명단에 없는 닉네임만 문자열로 전송
+ * - 좌표는 1e7 배율 정수 (i32, 약 1cm 정밀도)
+ * - 타입은 enum 순서값, 역할은 고정 코드 (ROLES - enum 에 상수가 늘어도 기존 코드는 그대로)
+ */
+@Component
+public class LocationBinaryCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final double COORD_SCALE = 1e7;
+
+    private static final int F_SENDER_ID = 1;
+    private static final int F_SENDER_NAME = 1 << 1;
+    private static final int F_COORD = 1 << 2;
+    private static final int F_ROLE = 1 << 3;
+    private static final int F_TARGET_ID = 1 << 4;
+    private static final int F_TARGET_NAME = 1 << 5;
+    private static final int F_SUCCESS = 1 << 6;
+    private static final int F_ALIVE_COUNT = 1 << 7;
+    private static final int F_SESSION = 1 << 8;
+    private static final int F_MESSAGE = 1 << 9;
+    private static final int F_STATUS = 1 << 10;
+    private static final int F_LOCATIONS = 1 << 11;
+
+    private static final String DEFAULT_STATUS = "NORMAL";
+
+    // 역할 코드 = 배열 인덱스 (목록 안에서는 0 = 없음, 코드 + 1). 새 역할은 끝에만 추가
+    private static final PlayerRole[] ROLES = {PlayerRole.POLICE, PlayerRole.THIEF};
+
+    // 목록 위치 1건의 최소 크기: userId varint 1 + 좌표 8 + 역할 1
+    private static final int MIN_LOCATION_BYTES = 10;
+
+    public byte[] encode(LocationMessageDto m, RoomGameState state) {
+        Writer w = new Writer();
+        Long senderId = userIdOf(state, m.getSenderNickname());
+        Long targetId = userIdOf(state, m.getTargetNickname());
+
+        int flags = 0;
+        if (senderId != null) flags |= F_SENDER_ID;
+        else if (m.getSenderNickname() != null) flags |= F_SENDER_NAME;
+        if (m.getLat() != null && m.getLng() != null) flags |= F_COORD;
+        if (m.getRole() != null) flags |= F_ROLE;
+        if (targetId != null) flags |= F_TARGET_ID;
+        else if (m.getTargetNickname() != null) flags |= F_TARGET_NAME;
+        if (m.getSuccess() != null) flags |= F_SUCCESS;
+        if (m.getAliveThiefCount() != null) flags |= F_ALIVE_COUNT;
+        if (m.getSessionId() != null) flags |= F_SESSION;
+        if (m.getMessage() != null) flags |= F_MESSAGE;
+        if (m.getStatus() != null && !DEFAULT_STATUS.equals(m.getStatus())) flags |= F_STATUS;
+        if (m.getLocations() != null) flags |= F_LOCATIONS;
+
+        w.u8(VERSION);
+        w.u8(m.getType().ordinal());
+        w.varint(flags);
+        w.varint(m.getRoomId() != null ? m.getRoomId() : 0);
+        if ((flags & F_SENDER_ID) != 0) w.varint(senderId);
+        if ((flags & F_SENDER_NAME) != 0) w.string(m.getSenderNickname());
+        if ((flags & F_COORD) != 0) w.coords(m.getLat(), m.getLng());
+        if ((flags & F_ROLE) != 0) w.u8(roleCode(m.getRole()));
+        if ((flags & F_TARGET_ID) != 0) w.varint(targetId);
+        if ((flags & F_TARGET_NAME) != 0) w.string(m.getTargetNickname());
+        if ((flags & F_SUCCESS) != 0) w.u8(m.getSuccess() ? 1 : 0);
+        if ((flags & F_ALIVE_COUNT) != 0) w.varint(m.getAliveThiefCount());
+        if ((flags & F_SESSION) != 0) w.varint(m.getSessionId());
+        if ((flags & F_MESSAGE) != 0) w.string(m.getMessage());
+        if ((flags & F_STATUS) != 0) w.string(m.getStatus());
+        if ((flags & F_LOCATIONS) != 0) {
+            w.varint(m.getLocations().size());
+            for (LocationMessageDto l : m.getLocations()) {
+                // userId(0이면 닉네임 문자열) | 좌표 | 역할(0=없음, 1부터 역할 코드+1)
+                Long id = userIdOf(state, l.getSenderNickname());
+                w.varint(id != null ? id : 0);
+                if (id == null) w.string(l.getSenderNickname() != null ? l.getSenderNickname() : "");
+                w.coords(l.getLat() != null ? l.getLat() : 0, l.getLng() != null ? l.getLng() : 0);
+                w.u8(l.getRole() != null ? roleCode(l.getRole()) + 1 : 0);
+            }
+        }
+        return w.toByteArray();
+    }
+
+    public LocationMessageDto decode(byte[] bytes, RoomGameState state) {
+        ByteBuffer r = ByteBuffer.wrap(bytes);
+        int version = r.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 바이너리 버전입니다: " + version);
+        }
+        LocationMessageDto.MessageType[] types = LocationMessageDto.MessageType.values();
+        int typeOrdinal = Byte.toUnsignedInt(r.get());
+        if (typeOrdinal >= types.length) {
+            throw new IllegalArgumentException("알 수 없는 메시지 타입입니다: " + typeOrdinal);
+        }
+
+        int flags = (int) readVarint(r);
+        LocationMessageDto m = LocationMessageDto.builder()
+                .type(types[typeOrdinal])
+                .roomId(readVarint(r))
+                .build();
+        if ((flags & F_SENDER_ID) != 0) m.setSenderNickname(nicknameOf(state, readVarint(r)));
+        if ((flags & F_SENDER_NAME) != 0) m.setSenderNickname(readString(r));
+        if ((flags & F_COORD) != 0) {
+            m.setLat(r.getInt() / COORD_SCALE);
+            m.setLng(r.getInt() / COORD_SCALE);
+        }
+        if ((flags & F_ROLE) != 0) m.setRole(roleOf(Byte.toUnsignedInt(r.get())));
+        if ((flags & F_TARGET_ID) != 0) m.setTargetNickname(nicknameOf(state, readVarint(r)));
+        if ((flags & F_TARGET_NAME) != 0) m.setTargetNickname(readString(r));
+        if ((flags & F_SUCCESS) != 0) m.setSuccess(r.get() != 0);
+        if ((flags & F_ALIVE_COUNT) != 0) m.setAliveThiefCount((int) readVarint(r));
+        if ((flags & F_SESSION) != 0) m.setSessionId(readVarint(r));
+        if ((flags & F_MESSAGE) != 0) m.setMessage(readString(r));
+        if ((flags & F_STATUS) != 0) m.setStatus(readString(r));
+        if ((flags & F_LOCATIONS) != 0) {
+            // 클라이언트가 보낸 개수로 미리 할당하므로 남은 바이트로 담을 수 있는 개수까지만 허용
+            long count = readVarint(r);
+            if (count < 0 || count > r.remaining() / MIN_LOCATION_BYTES) {
+                throw new IllegalArgumentException("잘못된 위치 개수입니다: " + count);
+            }
+            List<LocationMessageDto> locations = new ArrayList<>((int) count);
+            for (int i = 0; i < count; i++) {
+                long id = readVarint(r);
+                String nickname = id != 0 ? nicknameOf(state, id) : readString(r);
+                double lat = r.getInt() / COORD_SCALE;
+                double lng = r.getInt() / COORD_SCALE;
+                int role = Byte.toUnsignedInt(r.get());
+                locations.add(LocationMessageDto.builder()
+                        .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+                        .senderNickname(nickname)
+                        .lat(lat)
+                        .lng(lng)
+                        .role(role > 0 ? roleOf(role - 1) : null)
+                        .build());
+            }
+            m.setLocations(locations);
+        }
+        return m;
+    }
+
+    private static int roleCode(PlayerRole role) {
+        for (int code = 0; code < ROLES.length; code++) {
+            if (ROLES[code] == role) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("바이너리 코드가 없는 역할입니다: " + role);
+    }
+
+    private static PlayerRole roleOf(int code) {
+        if (code >= ROLES.length) {
+            throw new IllegalArgumentException("알 수 없는 역할 코드입니다: " + code);
+        }
+        return ROLES[code];
+    }
+
+    private Long userIdOf(RoomGameState state, String nickname) {
+        if (state == null || nickname == null) {
+            return null;
+        }
+        return state.findUserId(nickname).orElse(null);
+    }
+
+    private String nicknameOf(RoomGameState state, long userId) {
+        if (state == null) {
+            return null;
+        }
+        return state.findPlayer(userId).map(RoomGameState.PlayerState::getNickname).orElse(null);
+    }
+
+    private long readVarint(ByteBuffer r) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift >= 64) {
+                throw new IllegalArgumentException("잘못된 varint 입니다.");
+            }
+            b = r.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private String readString(ByteBuffer r) {
+        int length = (int) readVarint(r);
+        if (length > r.remaining()) {
+            throw new IllegalArgumentException("잘못된 문자열 길이입니다: " + length);
+        }
+        byte[] bytes = new byte[length];
+        r.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(32);
+
+        void u8(int value) {
+            out.write(value);
+        }
+
+        void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void i32(int value) {
+            out.write(value >>> 24);
+            out.write(value >>> 16);
+            out.write(value >>> 8);
+            out.write(value);
+        }
+
+        void coords(double lat, double lng) {
+            i32((int) Math.round(lat * COORD_SCALE));
+            i32((int) Math.round(lng * COORD_SCALE));
+        }
+
+        void string(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.RoomRequestDto;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import com.ssafy.s14p11c204.server.global.properties.GameLocationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 틱 모드 위치 전파
+ * 방 타입별 주기(game.location.tick-interval)가 설정된 방은 플레이어별 최신 위치만 모아두었다가
+ * 주기마다 LOCATION_UPDATE 한 프레임으로 묶어서 전송한다. (플레이어 수만큼 나가던 프레임을 1개로)
+ * 시야 반경(game.location.visible-radius)이 설정된 방은 공용 채널 대신 수신자별 개인 채널로 보이는 위치만 전송한다.
+ * (게임 상태를 불러올 수 없으면 보낼 대상을 가릴 수 없으므로 전송하지 않는다)
+ * 방별 버퍼(방 타입 조회 결과 포함)는 IDLE_BUFFER_TTL 동안 위치가 없으면 제거한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationBroadcaster {
+
+    private final LocationSender locationSender;
+    private final RoomMapper roomMapper;
+    private final GameLocationProperties properties;
+    private final GameStateManager gameStateManager;
+    private final LocationInterestService locationInterestService;
+
+    // 시야 제한 방인데 틱 주기가 없으면 사용할 기본 주기
+    private static final Duration DEFAULT_FOG_TICK = Duration.ofMillis(300);
+    // 이 시간 동안 위치가 들어오지 않은 방의 버퍼는 제거 (삭제된 방 / 다른 서버에서 끝난 게임 / 게임이 아닌 방)
+    static final Duration IDLE_BUFFER_TTL = Duration.ofSeconds(30);
+
+    // roomId -> 전송 대기 중인 위치 버퍼
+    private final Map<Long, RoomBuffer> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * 틱 모드인 방이면 버퍼에 넣고 true, 즉시 전송해야 하는 방이면 false
+     */
+    public boolean offer(Long roomId, LocationMessageDto message) {
+        long now = System.currentTimeMillis();
+        // 최근 수신 시각을 같은 칸 잠금 안에서 갱신해야 flush 의 유휴 제거와 겹쳐도 방금 받은 위치가 버려진 버퍼에 들어가지 않음
+        RoomBuffer buffer = buffers.compute(roomId, (id, existing) -> {
+            RoomBuffer current = existing != null ? existing : createBuffer(id);
+            current.lastOfferAt = now;
+            return current;
+        });
+        if (buffer.interval.isZero() || message.getSenderNickname() == null) {
+            return false;
+        }
+        // 같은 플레이어의 이전 위치는 덮어쓴다 (최신 위치만 전송)
+        buffer.pending.put(message.getSenderNickname(), message);
+        return true;
+    }
+
+    private RoomBuffer createBuffer(Long roomId) {
+        String roomType = roomMapper.findRoomById(roomId)
+                .map(RoomRequestDto::getRoomType)
+                .orElse(null);
+        Duration interval = properties.tickIntervalOf(roomType);
+        double visibleRadius = properties.visibleRadiusOf(roomType);
+        if (visibleRadius > 0 && interval.isZero()) {
+            interval = DEFAULT_FOG_TICK; // 시야 계산은 틱 단위로만 수행
+        }
+        if (!interval.isZero()) {
+            log.info("Tick broadcast enabled for room {} ({}, {}ms, radius {}m)",
+                    roomId, roomType, interval.toMillis(), visibleRadius);
+        }
+        return new RoomBuffer(interval, visibleRadius);
+    }
+
+    // 가장 짧은 틱보다 촘촘하게 돌면서 주기가 된 방만 전송, 오래 조용한 방의 버퍼는 제거
+    @Scheduled(fixedRate = 100)
+    public void flush() {
+        flush(System.currentTimeMillis());
+    }
+
+    void flush(long now) {
+        buffers.forEach((roomId, buffer) -> {
+            if (now - buffer.lastOfferAt > IDLE_BUFFER_TTL.toMillis()) {
+                buffers.computeIfPresent(roomId, (id, current) ->
+                        current.pending.isEmpty() && now - current.lastOfferAt > IDLE_BUFFER_TTL.toMillis() ? null : current);
+            }
+            if (buffer.interval.isZero() || now - buffer.lastFlushAt < buffer.interval.toMillis()) {
+                return;
+            }
+            buffer.lastFlushAt = now;
+            flushRoom(roomId, buffer);
+        });
+    }
+
+    private void flushRoom(Long roomId, RoomBuffer buffer) {
+        if (buffer.pending.isEmpty()) {
+            return;
+        }
+        List<LocationMessageDto> locations = new ArrayList<>(buffer.pending.size());
+        for (String nickname : buffer.pending.keySet()) {
+            LocationMessageDto latest = buffer.pending.remove(nickname);
+            if (latest != null) {
+                locations.add(latest);
+            }
+        }
+        if (locations.isEmpty()) {
+            return;
+        }
+
+        if (buffer.visibleRadius > 0) {
+            // 시야 제한: 수신자별로 보이는 위치만 개인 채널로 전송
+            // 게임 상태가 없으면 (종료 / 복구 실패) 방 전체로 흘리지 않고 버림
+            RoomGameState state = gameStateManager.getOrLoad(roomId).orElse(null);
+            if (state == null) {
+                log.debug("Dropped {} locations for fog-of-war room {} without game state", locations.size(), roomId);
+                return;
+            }
+            locationInterestService.select(roomId, state, buffer.visibleRadius, locations)
+                    .forEach((email, visible) -> locationSender.sendToUser(email, roomId,
+                            LocationMessageDto.builder()
+                                    .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+                                    .roomId(roomId)
+                                    .locations(visible)
+                                    .build()));
+            return;
+        }
+
+        LocationMessageDto batch = LocationMessageDto.builder()
+                .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+                .roomId(roomId)
+                .locations(locations)
+                .build();
+        locationSender.sendToRoom(roomId, batch);
+        log.debug("Broadcasted {} locations to room {}", locations.size(), roomId);
+    }
+
+    @EventListener
+    public void handleGameEndEvent(GameEndEvent event) {
+        RoomBuffer buffer = buffers.remove(event.getRoomId());
+        if (buffer != null) {
+            flushRoom(event.getRoomId(), buffer); // 남은 위치는 마지막으로 전송
+        }
+    }
+
+    private static class RoomBuffer {
+        private final Duration interval;
+        private final double visibleRadius;
+        // nickname -> 최신 위치 메시지
+        private final Map<String, LocationMessageDto> pending = new ConcurrentHashMap<>();
+        private volatile long lastFlushAt;
+        private volatile long lastOfferAt;
+
+        private RoomBuffer(Duration interval, double visibleRadius) {
+            this.interval = interval;
+            this.visibleRadius = visibleRadius;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.global.properties.GameLocationProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 위치 수신 시 Redis 기록 (현재 위치 GEOADD + 활동 궤적 APPEND + 누적 통계 갱신 + EXPIRE)
+ * - STOMP 수신 스레드는 대기열에 넣기만 하고 바로 반환 (Redis 대기 없음)
+ * - 전용 소비 스레드가 쌓인 만큼 한 번에 꺼내 유저별로 묶어 Lua 스크립트로 기록 (유저당 EVALSHA 1번, 전체 파이프라인 1번)
+ * - 대기열이 가득 차면 가장 오래된 위치를 버린다 (최신 위치 우선)
+ */
+@Slf4j
+@Service
+public class LocationIngestService {
+
+    private static final RedisScript<Long> INGEST_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/location_ingest.lua"), Long.class);
+    private static final byte[] SCRIPT_BODY = INGEST_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    private static final String SCRIPT_SHA = INGEST_SCRIPT.getSha1();
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long TRAJECTORY_TTL_SECONDS = TimeUnit.HOURS.toSeconds(ActivityServiceImpl.REDIS_TTL_HOURS);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final BlockingQueue<Ping> queue;
+    private final int maxBatch;
+
+    // 소비 스레드와 finalize 시 직접 비우는 스레드가 동시에 쓰지 않도록 (같은 유저 궤적 순서 보장)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    private volatile boolean running;
+    // SCRIPT LOAD 를 한 번 했는지 (파이프라인은 EVALSHA 만 보냄)
+    private volatile boolean scriptLoaded;
+    private volatile Thread consumer;
+
+    public LocationIngestService(RedisTemplate<String, Object> redisTemplate, GameLocationProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.queue = new ArrayBlockingQueue<>(properties.ingestQueueCapacity());
+        this.maxBatch = properties.ingestMaxBatch();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumer = Thread.ofPlatform().name("location-ingest").daemon().start(this::consumeLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        flushPending(); // 남은 위치 기록
+    }
+
+    /**
+     * 현재 위치 + 활동 궤적 기록 (sessionId/userId가 없으면 현재 위치만)
+     */
+    public void ingest(Long roomId, String nickname, Long sessionId, Long userId, double lat, double lng) {
+        String trajectoryKey = (sessionId != null && userId != null)
+                ? ActivityServiceImpl.trajectoryKey(sessionId, userId)
+                : "";
+        enqueue(new Ping(RedisGeoService.locationKey(roomId), trajectoryKey, serializeMember(nickname),
+                lat, lng, Instant.now().getEpochSecond()));
+    }
+
+    /**
+     * 활동 궤적만 기록 (REST 위치 갱신 등)
+     */
+    public void ingestTrajectory(Long sessionId, Long userId, double lat, double lng) {
+        enqueue(new Ping("", ActivityServiceImpl.trajectoryKey(sessionId, userId), new byte[0],
+                lat, lng, Instant.now().getEpochSecond()));
+    }
+
+    private void enqueue(Ping ping) {
+        accepted.incrementAndGet();
+        while (!queue.offer(ping)) {
+            // 가득 참: 가장 오래된 위치를 버리고 최신 위치를 넣는다
+            if (queue.poll() != null) {
+                long count = dropped.incrementAndGet();
+                if (count == 1 || count % 1000 == 0) {
+                    log.warn("Location ingest queue full, dropped {} pings so far (stats: {})", count, stats());
+                }
+            }
+        }
+        Thread target = consumer;
+        if (target != null) {
+            LockSupport.unpark(target);
+        }
+    }
+
+    private void consumeLoop() {
+        while (running) {
+            if (queue.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS); // enqueue 시 깨어남
+                continue;
+            }
+            try {
+                drainAndWrite();
+            } catch (Exception e) {
+                log.error("Location ingest consumer error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    // 꺼내기와 기록을 같은 락 안에서 처리해야 flushPending과 섞여도 유저별 궤적 순서가 유지된다
+    private void drainAndWrite() {
+        writeLock.lock();
+        try {
+            List<Ping> batch = new ArrayList<>();
+            queue.drainTo(batch, maxBatch);
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 위치를 호출 스레드에서 바로 기록 (게임 종료 정산 직전 등)
+     */
+    public void flushPending() {
+        while (!queue.isEmpty()) {
+            drainAndWrite();
+        }
+    }
+
+    private void write(List<Ping> batch) {
+        // 같은 유저(같은 GEO member + 궤적 키)의 위치는 한 번의 EVAL로 묶는다 (순서 유지)
+        Map<String, List<Ping>> groups = new LinkedHashMap<>();
+        for (Ping p : batch) {
+            groups.computeIfAbsent(p.groupKey(), k -> new ArrayList<>()).add(p);
+        }
+
+        try {
+            if (groups.size() == 1) {
+                List<Ping> group = groups.values().iterator().next();
+                Ping head = group.getFirst();
+                redisTemplate.execute(INGEST_SCRIPT, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                        List.of(head.geoKey(), head.trajectoryKey(), head.statsKey()), (Object[]) args(group));
+            } else {
+                writePipelined(List.copyOf(groups.values()));
+            }
+            written.addAndGet(batch.size());
+            batches.incrementAndGet();
+        } catch (Exception e) {
+            log.error("Failed to write {} location pings: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 유저 묶음마다 EVALSHA 로 보냄 (스크립트 본문은 한 번만 올려 두고 SHA 만 전송)
+     * Redis 재시작 등으로 스크립트가 없어(NOSCRIPT) 실패한 묶음만 EVAL 로 다시 보냄 (EVAL 이 스크립트를 다시 올려 둠)
+     */
+    private void writePipelined(List<List<Ping>> groups) {
+        if (!scriptLoaded) {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(SCRIPT_BODY));
+            scriptLoaded = true;
+        }
+        List<List<Ping>> missing = new ArrayList<>();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (List<Ping> group : groups) {
+                    connection.scriptingCommands().evalSha(SCRIPT_SHA, ReturnType.INTEGER, 3, keysAndArgs(group));
+                }
+                return null;
+            });
+        } catch (RedisPipelineException e) {
+            List<Object> results = e.getPipelineResult();
+            for (int i = 0; i < groups.size() && i < results.size(); i++) {
+                if (results.get(i) instanceof Throwable error && isNoScript(error)) {
+                    missing.add(groups.get(i));
+                }
+            }
+            if (missing.isEmpty()) {
+                throw e;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        log.warn("Ingest script missing on Redis, resending {} of {} groups with EVAL", missing.size(), groups.size());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (List<Ping> group : missing) {
+                connection.scriptingCommands().eval(SCRIPT_BODY, ReturnType.INTEGER, 3, keysAndArgs(group));
+            }
+            return null;
+        });
+    }
+
+    private static boolean isNoScript(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public IngestStats stats() {
+        return new IngestStats(accepted.get(), dropped.get(), written.get(), batches.get(), queue.size());
+    }
+
+    // RedisGeoService와 같은 직렬화 (GEO member는 redisTemplate 값 직렬화 형식)
+    @SuppressWarnings("unchecked")
+    private byte[] serializeMember(String nickname) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(nickname);
+    }
+
+    // ARGV: member, ttl, (lng, lat, t) 반복
+    private static byte[][] args(List<Ping> group) {
+        byte[][] args = new byte[2 + group.size() * 3][];
+        args[0] = group.getFirst().member();
+        args[1] = bytes(Long.toString(TRAJECTORY_TTL_SECONDS));
+        int i = 2;
+        for (Ping p : group) {
+            args[i++] = bytes(Double.toString(p.lng()));
+            args[i++] = bytes(Double.toString(p.lat()));
+            args[i++] = bytes(Long.toString(p.epochSecond()));
+        }
+        return args;
+    }
+
+    private static byte[][] keysAndArgs(List<Ping> group) {
+        byte[][] args = args(group);
+        byte[][] result = new byte[args.length + 3][];
+        result[0] = bytes(group.getFirst().geoKey());
+        result[1] = bytes(group.getFirst().trajectoryKey());
+        result[2] = bytes(group.getFirst().statsKey());
+        System.arraycopy(args, 0, result, 3, args.length);
+        return result;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    record Ping(String geoKey, String trajectoryKey, byte[] member, double lat, double lng, long epochSecond) {
+        String groupKey() {
+            return geoKey + "|" + trajectoryKey + "|" + new String(member, StandardCharsets.UTF_8);
+        }
+
+        String statsKey() {
+            return trajectoryKey.isEmpty() ? "" : ActivityServiceImpl.statsKey(trajectoryKey);
+        }
+    }
+
+    /**
+     * accepted: 수신 건수, dropped: 대기열 초과로 버린 건수, written: Redis 기록 건수,
+     * batches: 기록 횟수(왕복), queued: 현재 대기 건수
+     */
+    public record IngestStats(long accepted, long dropped, long written, long batches, int queued) {}
+}
@@ -0,0 +1,90 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시야 제한(fog-of-war) 위치 전파 대상 계산
+ * 수신자마다 같은 팀 위치 + 반경 안에 있는 상대 팀 위치만 골라낸다.
+ * 수신자 위치는 방의 메모리 위치 인덱스에서 읽고, 인덱스에 아직 없는 수신자만 GEOPOS 한 번으로 가져온다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LocationInterestService {
+
+    private final RedisGeoService redisGeoService;
+    private final GeometryUtil geometryUtil;
+
+    /**
+     * @return 수신자 email -> 보여줄 위치 목록 (보여줄 게 없는 수신자는 제외)
+     */
+    public Map<String, List<LocationMessageDto>> select(Long roomId, RoomGameState state, double visibleRadius,
+                                                        List<LocationMessageDto> changed) {
+        List<RoomGameState.PlayerState> recipients = state.getRoster().stream()
+                .filter(p -> p.getEmail() != null && p.getNickname() != null)
+                .toList();
+        Map<String, List<LocationMessageDto>> result = new HashMap<>();
+        if (recipients.isEmpty() || changed.isEmpty()) {
+            return result;
+        }
+
+        // 1. 수신자 위치 조회 (메모리 인덱스 -> 없으면 Redis) 후, 이번 틱에 들어온 위치로 덮어쓰기 (더 최신)
+        Map<String, Point> positions = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (RoomGameState.PlayerState recipient : recipients) {
+            state.getPositions().find(recipient.getNickname()).ifPresentOrElse(
+                    p -> positions.put(p.nickname(), new Point(p.lng(), p.lat())),
+                    () -> missing.add(recipient.getNickname()));
+        }
+        if (!missing.isEmpty()) {
+            positions.putAll(redisGeoService.getUserLocations(roomId, missing));
+        }
+        for (LocationMessageDto m : changed) {
+            if (m.getLat() != null && m.getLng() != null) {
+                positions.put(m.getSenderNickname(), new Point(m.getLng(), m.getLat()));
+            }
+        }
+
+        // 2. 수신자별 필터링
+        for (RoomGameState.PlayerState recipient : recipients) {
+            Point recipientPos = positions.get(recipient.getNickname());
+            List<LocationMessageDto> visible = new ArrayList<>();
+            for (LocationMessageDto m : changed) {
+                if (isVisible(recipient, recipientPos, m, state, visibleRadius)) {
+                    visible.add(m);
+                }
+            }
+            if (!visible.isEmpty()) {
+                result.put(recipient.getEmail(), visible);
+            }
+        }
+        return result;
+    }
+
+    private boolean isVisible(RoomGameState.PlayerState recipient, Point recipientPos, LocationMessageDto m,
+                              RoomGameState state, double visibleRadius) {
+        if (recipient.getNickname().equals(m.getSenderNickname())) {
+            return false; // 본인 위치는 클라이언트가 이미 알고 있음
+        }
+        PlayerRole senderRole = m.getRole() != null ? m.getRole()
+                : state.findRole(m.getSenderNickname()).orElse(null);
+        if (senderRole != null && senderRole == recipient.getRole()) {
+            return true; // 같은 팀은 항상 공개
+        }
+        if (recipientPos == null || m.getLat() == null || m.getLng() == null) {
+            return false;
+        }
+        double distance = geometryUtil.distanceMeters(recipientPos.getY(), recipientPos.getX(), m.getLat(), m.getLng());
+        return distance <= visibleRadius;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import com.ssafy.s14p11c204.server.global.util.StompSubscriptionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게임 위치 채널 전송 (JSON / 바이너리 선택)
+ * - JSON: /sub/game/{roomId}/location (기존 클라이언트)
+ * - 바이너리: /sub/game/{roomId}/location.bin (LocationBinaryCodec 포맷, STOMP binary frame)
+ * 클라이언트는 구독할 채널로 포맷을 고르고, 서버는 구독자가 있는 포맷만 직렬화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LocationSender {
+
+    public static final String BINARY_SUFFIX = ".bin";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StompSubscriptionRegistry subscriptionRegistry;
+    private final LocationBinaryCodec binaryCodec;
+    private final GameStateManager gameStateManager;
+
+    public static String destination(Long roomId) {
+        return "/sub/game/" + roomId + "/location";
+    }
+
+    // 방 전체 전송
+    public void sendToRoom(Long roomId, LocationMessageDto message) {
+        String destination = destination(roomId);
+        if (subscriptionRegistry.hasSubscribers(destination)) {
+            messagingTemplate.convertAndSend(destination, message);
+        }
+        String binaryDestination = destination + BINARY_SUFFIX;
+        if (subscriptionRegistry.hasSubscribers(binaryDestination)) {
+            messagingTemplate.convertAndSend(binaryDestination, binaryCodec.encode(message, findState(roomId)));
+        }
+    }
+
+    // 개인 채널 전송 (email = STOMP 사용자 이름). 바이너리 채널을 구독한 사용자만 바이너리로 받는다.
+    public void sendToUser(String email, Long roomId, LocationMessageDto message) {
+        String destination = destination(roomId);
+        if (subscriptionRegistry.isSubscribed(email, "/user" + destination + BINARY_SUFFIX)) {
+            messagingTemplate.convertAndSendToUser(email, destination + BINARY_SUFFIX,
+                    binaryCodec.encode(message, findState(roomId)));
+            return;
+        }
+        messagingTemplate.convertAndSendToUser(email, destination, message);
+    }
+
+    private RoomGameState findState(Long roomId) {
+        return gameStateManager.find(roomId).orElse(null);
+    }
+}
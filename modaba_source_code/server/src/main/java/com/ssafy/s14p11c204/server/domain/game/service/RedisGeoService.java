@@ -8,7 +8,9 @@ import org.springframework.data.redis.connection.RedisGeoCommands;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -18,10 +20,14 @@ public class RedisGeoService {
     private final RedisTemplate<String, Object> redisTemplate;
 
     // Key 형식: room:{roomId}:locations
-    private String getKey(Long roomId) {
+    public static String locationKey(Long roomId) {
         return "room:" + roomId + ":locations";
     }
 
+    private String getKey(Long roomId) {
+        return locationKey(roomId);
+    }
+
     // 유저 위치 저장 (GEOADD)
     public void saveUserLocation(Long roomId, String nickname, double lat, double lng) {
         String key = getKey(roomId);
@@ -51,6 +57,24 @@ public class RedisGeoService {
         return null;
     }
 
+    // 여러 유저 위치 한 번에 조회 (GEOPOS 1회) - 위치가 없는 유저는 제외
+    public Map<String, Point> getUserLocations(Long roomId, List<String> nicknames) {
+        Map<String, Point> result = new HashMap<>();
+        if (nicknames.isEmpty()) {
+            return result;
+        }
+        List<Point> points = redisTemplate.opsForGeo().position(getKey(roomId), nicknames.toArray());
+        if (points == null) {
+            return result;
+        }
+        for (int i = 0; i < nicknames.size() && i < points.size(); i++) {
+            if (points.get(i) != null) {
+                result.put(nicknames.get(i), points.get(i));
+            }
+        }
+        return result;
+    }
+
     // 유저 위치 삭제 (방 나갈 때)
     public void removeUserLocation(Long roomId, String nickname) {
         String key = getKey(roomId);
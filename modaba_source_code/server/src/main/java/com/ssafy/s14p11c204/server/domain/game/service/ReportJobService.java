@@ -0,0 +1,82 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiResponse;
+import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.ReportJobMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.ReportMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.ActivityRecord;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 리포트 작업 등록 / 상태 조회 (처리는 ReportJobWorker)
+ *
+ * - 요청 / 트랜잭션 경로에서는 작업 행만 넣고 바로 반환 (LLM 을 기다리지 않음)
+ * - 호출한 트랜잭션 안에서 등록하면 종료 처리와 함께 커밋되고, 롤백되면 작업도 남지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    private final ReportJobMapper reportJobMapper;
+    private final ActivityMapper activityMapper;
+    private final ReportMapper reportMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 플레이어마다 작업 1개 등록. 이미 등록된 (type, sessionId, userId) 는 그대로 둠
+     */
+    public void enqueue(ReportJobDto.Type type, Long roomId, Long sessionId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        int created = reportJobMapper.enqueue(type, roomId, sessionId, userIds);
+        log.info("Enqueued {} {} report jobs for session {} ({} requested)", created, type, sessionId, userIds.size());
+    }
+
+    public ReportJobDto getJob(ReportJobDto.Type type, Long sessionId, Long userId) {
+        ReportJobMapper.JobRow job = reportJobMapper.findJob(type, sessionId, userId)
+                .or(() -> pendingGameJob(type, sessionId, userId))
+                .orElseThrow(() -> new IllegalArgumentException("리포트 작업을 찾을 수 없습니다. Session: " + sessionId));
+
+        GameAiResponse gameReport = null;
+        ReportJobDto.StudyReport studyReport = null;
+        if (job.status() == ReportJobDto.Status.READY || job.status() == ReportJobDto.Status.FALLBACK) {
+            switch (type) {
+                case GAME -> gameReport = activityMapper.findBySessionAndUser(sessionId, userId)
+                        .map(ActivityRecord::aiReport)
+                        .map(this::readGameReport)
+                        .orElse(null);
+                case STUDY -> studyReport = reportMapper.findReport(sessionId, userId).orElse(null);
+            }
+        }
+        return new ReportJobDto(job.jobId(), job.type(), job.sessionId(), job.status(), job.attempts(),
+                job.status().isDone() ? null : job.nextRunAt(), job.updatedAt(), gameReport, studyReport);
+    }
+
+    // GAME 작업은 궤적 정산이 끝나야 등록됨 - 그 전에는 정산 작업을 대기 중인 GAME 작업으로 보여줌
+    private Optional<ReportJobMapper.JobRow> pendingGameJob(ReportJobDto.Type type, Long sessionId, Long userId) {
+        if (type != ReportJobDto.Type.GAME) {
+            return Optional.empty();
+        }
+        return reportJobMapper.findJob(ReportJobDto.Type.TRAJECTORY, sessionId, userId)
+                .map(trajectory -> new ReportJobMapper.JobRow(null, ReportJobDto.Type.GAME, sessionId,
+                        ReportJobDto.Status.PENDING, 0, trajectory.nextRunAt(), trajectory.updatedAt()));
+    }
+
+    private GameAiResponse readGameReport(String json) {
+        try {
+            return objectMapper.readValue(json, GameAiResponse.class);
+        } catch (Exception e) {
+            log.warn("Stored AI report is not readable: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.ReportJobMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportReadyDto;
+import com.ssafy.s14p11c204.server.global.properties.GameReportProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 리포트 작업 처리 (ai_report_jobs)
+ * 주기적으로 빈 자리(concurrency - 처리 중)만큼 작업을 잡아 가상 스레드에서 처리하고, 끝나면 방 채널로 알림
+ *
+ * - 궤적 정산(TRAJECTORY) 은 LLM 작업(GAME / STUDY) 과 자리를 따로 써서, LLM 이 느려도 정산이 밀리지 않음
+ * - 실패하면 retryBackoff x 2^(시도-1) (상한 maxRetryBackoff) 뒤 재시도, maxAttempts 번째 시도가 마지막
+ * - 작업을 등록한 트랜잭션이 커밋되면 wakeUp 으로 다음 주기를 기다리지 않고 바로 잡음
+ * - 처리 중 서버가 죽으면 임대(lease)가 만료된 뒤 다른 서버가 다시 잡음
+ * - 임대가 만료돼 이미 다른 워커가 다시 잡은 작업은 결과를 반영하지 않음 (attempts 비교)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportJobWorker {
+
+    private final ReportJobMapper reportJobMapper;
+    private final GameReportService gameReportService;
+    private final AiReportService aiReportService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final GameReportProperties properties;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("report-job-", 0).factory());
+    private final Lane llmLane = new Lane(List.of(ReportJobDto.Type.GAME, ReportJobDto.Type.STUDY));
+    private final Lane trajectoryLane = new Lane(List.of(ReportJobDto.Type.TRAJECTORY));
+
+    // 작업 종류 묶음별 처리 중 수
+    private record Lane(List<ReportJobDto.Type> types, AtomicInteger inFlight) {
+        Lane(List<ReportJobDto.Type> types) {
+            this(types, new AtomicInteger());
+        }
+    }
+
+    /**
+     * 새 작업이 커밋됐을 때 호출. 호출한 스레드를 막지 않도록 실행기에서 바로 한 번 잡음
+     */
+    public void wakeUp() {
+        try {
+            executor.execute(this::poll);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 남은 작업은 다음 기동 때 잡힘
+            log.debug("Report job worker is shutting down, skipping wake-up");
+        }
+    }
+
+    // 주기 호출과 wakeUp 이 겹쳐도 빈 자리보다 많이 잡지 않도록 직렬화
+    @Scheduled(initialDelay = 5_000, fixedDelay = 1_000)
+    public synchronized void poll() {
+        claim(trajectoryLane);
+        claim(llmLane);
+    }
+
+    private void claim(Lane lane) {
+        int capacity = properties.concurrency() - lane.inFlight().get();
+        if (capacity <= 0) {
+            return;
+        }
+        List<ReportJobMapper.ClaimedJob> jobs;
+        try {
+            jobs = reportJobMapper.claim(lane.types(), capacity, properties.lease().toSeconds());
+        } catch (Exception e) {
+            log.error("Failed to claim {} jobs: {}", lane.types(), e.getMessage());
+            return;
+        }
+        for (ReportJobMapper.ClaimedJob job : jobs) {
+            lane.inFlight().incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    lane.inFlight().decrementAndGet();
+                }
+            });
+        }
+    }
+
+    void run(ReportJobMapper.ClaimedJob job) {
+        boolean lastAttempt = job.attempts() >= properties.maxAttempts();
+        ReportReadyDto.Status status;
+        String error = null;
+        try {
+            status = switch (job.type()) {
+                case TRAJECTORY -> gameReportService.finalizeTrajectory(
+                        job.roomId(), job.sessionId(), job.userId(), lastAttempt);
+                case GAME -> gameReportService.process(job.sessionId(), job.userId(), lastAttempt);
+                case STUDY -> aiReportService.createReport(job.sessionId(), job.userId()) != null
+                        ? ReportReadyDto.Status.READY
+                        : ReportReadyDto.Status.FAILED; // 분석할 집중도 기록 없음 - 다시 해도 같음
+            };
+        } catch (Exception e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (!lastAttempt) {
+                Duration delay = retryDelay(job.attempts());
+                log.warn("Report job {} ({} session {}, user {}) failed on attempt {}, retrying in {}: {}",
+                        job.jobId(), job.type(), job.sessionId(), job.userId(), job.attempts(), delay, error);
+                try {
+                    reportJobMapper.retry(job.jobId(), job.attempts(), delay.toSeconds(), error);
+                } catch (Exception saveError) {
+                    // 임대가 만료되면 다시 잡힘
+                    log.error("Failed to reschedule report job {}: {}", job.jobId(), saveError.getMessage());
+                }
+                return;
+            }
+            log.error("Report job {} ({} session {}, user {}) failed after {} attempts: {}",
+                    job.jobId(), job.type(), job.sessionId(), job.userId(), job.attempts(), error, e);
+            status = ReportReadyDto.Status.FAILED;
+        }
+
+        try {
+            if (reportJobMapper.complete(job.jobId(), job.attempts(), ReportJobDto.Status.valueOf(status.name()), error) == 0) {
+                log.warn("Report job {} was taken over by another worker, skipping notification", job.jobId());
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to complete report job {}: {}", job.jobId(), e.getMessage());
+            return;
+        }
+        if (job.type() == ReportJobDto.Type.TRAJECTORY) {
+            // 방금 등록된 GAME 작업을 바로 잡음
+            wakeUp();
+            return;
+        }
+        notify(job, status);
+    }
+
+    Duration retryDelay(int attempts) {
+        Duration delay = properties.retryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.maxRetryBackoff()) > 0 ? properties.maxRetryBackoff() : delay;
+    }
+
+    private void notify(ReportJobMapper.ClaimedJob job, ReportReadyDto.Status status) {
+        if (job.roomId() == null) {
+            return;
+        }
+        ReportReadyDto message = ReportReadyDto.builder()
+                .roomId(job.roomId())
+                .sessionId(job.sessionId())
+                .userId(job.userId())
+                .status(status)
+                .build();
+        messagingTemplate.convertAndSend(job.type().destination(job.roomId()), message);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
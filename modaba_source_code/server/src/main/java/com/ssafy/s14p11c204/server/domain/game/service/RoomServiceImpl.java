@@ -6,7 +6,11 @@ import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomListResponseDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomRequestDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomResponseDto;
+import com.ssafy.s14p11c204.server.domain.game.event.GameStateChangedEvent;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.GeofenceCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +23,11 @@ public class RoomServiceImpl implements RoomService {
 
     private final RoomMapper roomMapper;
     private final GameService gameService;
+    private final GameStateManager gameStateManager;
+    private final GeofenceCache geofenceCache;
+    private final ScoreboardService scoreboardService;
+    private final SchedulerService schedulerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -41,6 +50,11 @@ public class RoomServiceImpl implements RoomService {
         } else {
             throw new RuntimeException("방 생성 실패: ID를 가져오지 못했습니다.");
         }
+
+        // 약속 1시간 전 알림 예약 (롤백되더라도 깨어나서 대상이 없으면 다음 시각만 다시 잡음)
+        if (status == RoomStatus.WAITING) {
+            schedulerService.scheduleNotification(dto.getAppointmentTime());
+        }
     }
 
     @Override
@@ -57,6 +71,9 @@ public class RoomServiceImpl implements RoomService {
 
         // 2. 참가자 목록에서 삭제
         roomMapper.deleteParticipant(roomId, userId);
+        gameStateManager.removePlayer(roomId, userId);
+        eventPublisher.publishEvent(new GameStateChangedEvent(roomId)); // 커밋 이후 다른 서버에도 반영
+        scoreboardService.push(roomId); // 진행 중인 게임이면 현황 갱신
 
         // 3. 남은 인원 확인
         int remainingCount = roomMapper.countParticipants(roomId);
@@ -64,6 +81,8 @@ public class RoomServiceImpl implements RoomService {
         if (remainingCount == 0) {
             // 4. 인원이 0명이면 방 삭제
             roomMapper.deleteRoom(roomId);
+            gameStateManager.evict(roomId);
+            geofenceCache.evict(roomId);
         } else if (isHost) {
             // 5. 방장이 나갔고 인원이 남아있으면 방장 양도
             roomMapper.findOldestParticipant(roomId)
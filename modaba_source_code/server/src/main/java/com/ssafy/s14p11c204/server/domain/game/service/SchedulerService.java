@@ -2,51 +2,133 @@ package com.ssafy.s14p11c204.server.domain.game.service;
 
 import com.ssafy.s14p11c204.server.domain.chat.dto.ChatMessageDto;
 import com.ssafy.s14p11c204.server.domain.chat.dto.MessageType;
+import com.ssafy.s14p11c204.server.domain.chat.dto.PushNotificationDto;
+import com.ssafy.s14p11c204.server.domain.chat.service.PushSender;
 import com.ssafy.s14p11c204.server.domain.chat.service.RedisPublisher;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 약속 1시간 전 알림
+ * 매 분 조회하는 대신, 미발송 방 중 가장 이른 (약속 시간 - 1시간)에 한 번만 깨어나 발송하고 다음 시각을 다시 예약한다.
+ *
+ * - 선점: UPDATE ... RETURNING 한 번으로 발송 대상 조회 + 발송 처리 (FOR UPDATE SKIP LOCKED - 여러 서버 중복 발송 없음)
+ * - 발송: 방 채팅 알림은 파이프라인 한 번으로 발행, 기기 푸시는 PushSender로 묶어서 전달
+ * - 트랜잭션 없이 구문 단위로 커밋하므로 몰리는 시간대에도 긴 트랜잭션을 잡지 않는다
+ * - 채팅 발행에 실패하면 선점을 풀고 (is_noti_sent = false) RETRY_DELAY 뒤 다시 시도한다
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SchedulerService {
 
+    static final long NOTI_LEAD_HOURS = 1;
+    static final int CLAIM_BATCH_SIZE = 200;
+    static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
     private final RoomMapper roomMapper;
-    private final GameResultService gameResultService;
-    private final GameService gameService; // 추가
     private final RedisPublisher redisPublisher;
     private final ChannelTopic channelTopic;
+    private final PushSender pushSender;
+    private final TaskScheduler taskScheduler;
+
+    // 다음 발송 예약 (this 락으로 보호)
+    private ScheduledFuture<?> nextRun;
+    private LocalDateTime nextRunAt;
 
-    // 1시간 전 알림 (기존 로직)
-    @Scheduled(cron = "0 * * * * *") // 매 분 0초에 실행
-    @Transactional
+    /**
+     * 알림 시각이 된 방을 모두 선점해서 발송하고, 다음 알림 시각을 예약
+     */
     public void checkUpcomingRooms() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneHourLater = now.plusHours(1);
-        LocalDateTime oneHourLaterPlusOneMinute = oneHourLater.plusMinutes(1);
+        boolean failed = false;
+        try {
+            int sent = 0;
+            while (true) {
+                LocalDateTime now = LocalDateTime.now();
+                List<RoomResponseDto> rooms = roomMapper.claimRoomsToNotify(now, now.plusHours(NOTI_LEAD_HOURS), CLAIM_BATCH_SIZE);
+                if (!rooms.isEmpty()) {
+                    if (!dispatch(rooms)) {
+                        failed = true;
+                        break;
+                    }
+                    sent += rooms.size();
+                }
+                if (rooms.size() < CLAIM_BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (sent > 0) {
+                log.info("Sent appointment notifications for {} rooms", sent);
+            }
+        } finally {
+            synchronized (this) {
+                nextRun = null;
+                nextRunAt = null;
+            }
+            if (failed) {
+                // 바로 다시 잡으면 Redis 장애 동안 계속 돌게 되므로 간격을 둠
+                scheduleAt(LocalDateTime.now().plus(RETRY_DELAY));
+            } else {
+                rearm();
+            }
+        }
+    }
+
+    /**
+     * 방 생성 등으로 약속 시간이 생겼을 때 호출. 예약된 시각보다 이르면 앞당긴다.
+     */
+    public void scheduleNotification(LocalDateTime appointmentTime) {
+        if (appointmentTime != null) {
+            scheduleAt(appointmentTime.minusHours(NOTI_LEAD_HOURS));
+        }
+    }
 
-        log.info("Scheduler running at {}. Searching rooms between {} and {}", now, oneHourLater, oneHourLaterPlusOneMinute);
+    /**
+     * 다음 알림 시각 재계산 (서버 시작 시 + 다른 서버가 만든 방 대비 10분마다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public void rearm() {
+        roomMapper.findNextNotiAppointmentTime(LocalDateTime.now())
+                .ifPresent(this::scheduleNotification);
+    }
 
-        List<RoomResponseDto> rooms = roomMapper.findRoomsStartingSoon(oneHourLater, oneHourLaterPlusOneMinute);
-        
-        if (rooms.isEmpty()) {
-            log.info("Found 0 rooms starting soon.");
-        } else {
-            log.info("Found {} rooms starting soon.", rooms.size());
+    private synchronized void scheduleAt(LocalDateTime runAt) {
+        if (nextRun != null && !nextRun.isDone() && !nextRunAt.isAfter(runAt)) {
+            return; // 이미 더 이른 시각에 예약됨
+        }
+        if (nextRun != null) {
+            nextRun.cancel(false);
         }
+        nextRunAt = runAt;
+        nextRun = taskScheduler.schedule(this::checkUpcomingRooms, runAt.atZone(ZoneId.systemDefault()).toInstant());
+        log.debug("Next appointment notification scheduled at {}", runAt);
+    }
 
+    /**
+     * @return 채팅 알림 발행 여부 (실패하면 선점을 풀어 다음 실행에서 다시 보냄)
+     */
+    private boolean dispatch(List<RoomResponseDto> rooms) {
+        List<ChatMessageDto> messages = new ArrayList<>(rooms.size());
         for (RoomResponseDto room : rooms) {
-            log.info("Sending notification for room {}. Type: {}", room.getRoomId(), room.getRoomType());
-            
             String content = "약속 시간 1시간 전입니다! 잊지 않으셨죠?";
             MessageType type = MessageType.EVENT;
 
@@ -56,53 +138,52 @@ public class SchedulerService {
                 type = MessageType.LOCATION_REQUEST;
             }
 
-            ChatMessageDto message = ChatMessageDto.builder()
+            messages.add(ChatMessageDto.builder()
                     .roomId(room.getRoomId())
                     .senderId(null)
                     .senderNickname("SYSTEM")
                     .message(content)
                     .type(type)
                     .createdAt(LocalDateTime.now())
-                    .build();
-
-            redisPublisher.publish(channelTopic, message);
+                    .build());
+        }
+        List<Long> roomIds = messages.stream().map(ChatMessageDto::getRoomId).toList();
+        try {
+            redisPublisher.publishAll(channelTopic, messages);
+        } catch (Exception e) {
+            log.error("Failed to publish appointment notifications for {} rooms, releasing claims: {}",
+                    rooms.size(), e.getMessage(), e);
+            releaseClaims(roomIds);
+            return false;
+        }
 
-            // 알림 발송 완료 처리 (중복 발송 방지)
-            roomMapper.updateNotiSent(room.getRoomId(), true);
+        // 기기 푸시 (토큰이 있는 참가자만, 방 전체를 한 번에 조회)
+        // 채팅은 이미 나갔으므로 여기서 실패해도 선점은 유지 (다시 보내면 채팅이 중복됨)
+        Map<Long, ChatMessageDto> messageByRoom = messages.stream()
+                .collect(Collectors.toMap(ChatMessageDto::getRoomId, Function.identity()));
+        Map<Long, String> titleByRoom = rooms.stream()
+                .collect(Collectors.toMap(RoomResponseDto::getRoomId, room -> String.valueOf(room.getTitle())));
+        try {
+            List<PushNotificationDto> pushes = roomMapper.findPushTargets(roomIds).stream()
+                    .map(target -> new PushNotificationDto(target.userId(), target.deviceToken(), target.roomId(),
+                            titleByRoom.get(target.roomId()), messageByRoom.get(target.roomId()).getMessage()))
+                    .toList();
+            if (!pushes.isEmpty()) {
+                pushSender.send(pushes);
+            }
+        } catch (Exception e) {
+            // 푸시 실패는 채팅 알림에 영향 주지 않음
+            log.error("Failed to send push notifications for {} rooms: {}", rooms.size(), e.getMessage(), e);
         }
+        return true;
     }
 
-    // 게임 시간 초과 체크 (추가됨)
-    // 매 분마다 실행하여 15분 이상 지난 게임을 강제 종료 (도둑 승리)
-    @Scheduled(cron = "0 * * * * *") 
-    @Transactional
-    public void checkTimeOverGames() {
-        // 제한 시간: 15분 (테스트를 위해 짧게 설정 가능)
-        int timeLimitMinutes = 15;
-        LocalDateTime timeLimit = LocalDateTime.now().minusMinutes(timeLimitMinutes);
-
-        List<Long> timeOverRoomIds = roomMapper.findTimeOverRooms(timeLimit);
-
-        for (Long roomId : timeOverRoomIds) {
-            log.info("Game time over for room {}. Force finish (Thief Win).", roomId);
-            
-            // 현재 세션 ID 조회 (종료 처리 전)
-            Long sessionId = gameService.getCurrentSessionId(roomId);
-            
-            // 도둑 승리로 게임 종료 처리
-            gameResultService.processGameResult(roomId, "THIEF");
-            
-            // 알림 전송
-            ChatMessageDto message = ChatMessageDto.builder()
-                    .roomId(roomId)
-                    .senderId(null)
-                    .senderNickname("SYSTEM")
-                    .message("제한 시간이 초과되었습니다. 도둑 팀 승리!")
-                    .type(MessageType.GAME_END) // GAME_END 타입 사용
-                    .sessionId(sessionId) // sessionId 추가
-                    .build();
-
-            redisPublisher.publish(channelTopic, message);
+    private void releaseClaims(List<Long> roomIds) {
+        try {
+            roomMapper.releaseNotiClaims(roomIds);
+        } catch (Exception e) {
+            // 선점이 남으면 이 방들은 알림 없이 지나감 - 운영에서 확인할 수 있도록 방 ID를 남김
+            log.error("Failed to release notification claims for rooms {}: {}", roomIds, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.ScoreboardDto;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 실시간 점수판 조회 / 전송
+ * 점수판은 RoomGameState가 참가자 상태 변경 시마다 갱신하므로 여기서는 스냅샷만 만든다. (DB 조회 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreboardService {
+
+    private final GameStateManager gameStateManager;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public static String destination(Long roomId) {
+        return "/sub/game/" + roomId + "/scoreboard";
+    }
+
+    // 진행 중인 게임이 아니면 empty
+    public Optional<ScoreboardDto> find(Long roomId) {
+        return gameStateManager.getOrLoad(roomId).map(RoomGameState::snapshotScoreboard);
+    }
+
+    // 검거 / 탈옥 / 퇴장 등 현황이 바뀐 뒤 호출
+    public void push(Long roomId) {
+        gameStateManager.find(roomId).ifPresent(state -> {
+            messagingTemplate.convertAndSend(destination(roomId), state.snapshotScoreboard());
+            log.debug("Pushed scoreboard for room {}", roomId);
+        });
+    }
+}
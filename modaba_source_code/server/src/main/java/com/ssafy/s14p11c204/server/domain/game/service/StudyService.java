@@ -30,8 +30,8 @@ public interface StudyService {
     StudyStateResponseDto getCurrentState(String nickname);
 
     /**
-     * 스터디를 종료하고 AI 리포트를 생성합니다.
-     * @return 생성된 리포트 ID
+     * 스터디를 종료하고 AI 리포트 작업을 등록합니다. (리포트는 비동기로 생성)
+     * @return 종료된 세션 ID (리포트 작업 조회 / 알림의 키)
      */
     Long endStudy(Long roomId, String nickname);
 }
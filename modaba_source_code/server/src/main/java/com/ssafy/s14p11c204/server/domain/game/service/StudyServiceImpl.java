@@ -6,6 +6,7 @@ import com.ssafy.s14p11c204.server.domain.game.dao.FocusMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomRequestDto;
 import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
 import com.ssafy.s14p11c204.server.domain.game.dto.StudyStateResponseDto;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -32,7 +34,7 @@ public class StudyServiceImpl implements StudyService {
     private final RedisPublisher redisPublisher;
     private final ChannelTopic channelTopic;
     private final StringRedisTemplate redisTemplate;
-    private final AiReportService aiReportService;
+    private final ReportJobService reportJobService;
     
     private static final String HEARTBEAT_KEY_PREFIX = "study:heartbeat:";
     private static final double ARRIVAL_DISTANCE_LIMIT = 0.0001;
@@ -189,7 +191,8 @@ public class StudyServiceImpl implements StudyService {
         
         log.info("Study session {} ended for room {}", sessionId, roomId);
 
-        // AI 리포트 생성 및 저장
-        return aiReportService.createReport(sessionId, userId); 
+        // AI 리포트는 작업으로 등록만 (종료와 같이 커밋, 생성되면 /sub/study/{roomId}/report 로 알림)
+        reportJobService.enqueue(ReportJobDto.Type.STUDY, roomId, sessionId, List.of(userId));
+        return sessionId;
     }
 }
\ No newline at end of file
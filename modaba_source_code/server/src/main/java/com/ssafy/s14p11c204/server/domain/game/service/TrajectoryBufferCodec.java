@@ -0,0 +1,97 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryStats;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임 중 Redis 궤적 버퍼 형식 (location_ingest.lua 가 APPEND 로 쌓는 고정 길이 레코드)
+ *
+ * 헤더 5바이트: u8 버전 | u32 기준 시각 (첫 위치 epoch seconds)
+ * 위치 14바이트: u32 기준 시각 이후 초 | i32 위도 x 1e7 | i32 경도 x 1e7 | u16 속도 (km/h x 100)
+ * - JSON LIST 원소(약 80~100바이트 + 리스트 오버헤드) 대비 위치당 14바이트
+ * - 빅엔디언, 좌표 정밀도 약 1cm / 속도 0.01km/h (최대 655.35km/h)
+ *
+ * 누적 통계 58바이트 (:stats 키, 위치를 받을 때마다 스크립트가 갱신)
+ * u32 기준 시각 | u32 마지막 시각 | i32 마지막 위도 | i32 마지막 경도 | u32 위치 수 | u32 이동 시간(초)
+ * | f64 총 거리(m) | f64 속도 합 | i32 최소/최대 위도, 최소/최대 경도 | u16 최고 속도
+ */
+@Component
+public class TrajectoryBufferCodec {
+
+    public static final byte VERSION = 1;
+
+    static final int HEADER_BYTES = 5;
+    static final int RECORD_BYTES = 14;
+    static final int STATS_BYTES = 58;
+
+    private static final double COORD_SCALE = 1e7;
+    private static final double SPEED_SCALE = 100.0;
+
+    public List<TrajectoryPoint> decode(byte[] buffer) {
+        if (buffer == null || buffer.length < HEADER_BYTES) {
+            return List.of();
+        }
+        ByteBuffer in = ByteBuffer.wrap(buffer);
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 궤적 버퍼 버전입니다: " + version);
+        }
+        long base = Integer.toUnsignedLong(in.getInt());
+
+        // 쓰는 도중 잘린 마지막 레코드는 버림
+        int count = (buffer.length - HEADER_BYTES) / RECORD_BYTES;
+        List<TrajectoryPoint> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long t = base + Integer.toUnsignedLong(in.getInt());
+            double lat = in.getInt() / COORD_SCALE;
+            double lng = in.getInt() / COORD_SCALE;
+            double spd = Short.toUnsignedInt(in.getShort()) / SPEED_SCALE;
+            points.add(new TrajectoryPoint(t, lat, lng, spd));
+        }
+        return points;
+    }
+
+    public TrajectoryStats decodeStats(byte[] stats) {
+        if (stats == null || stats.length != STATS_BYTES) {
+            return TrajectoryStats.EMPTY;
+        }
+        ByteBuffer in = ByteBuffer.wrap(stats);
+        in.position(16); // 기준 시각 + 마지막 위치
+        long count = Integer.toUnsignedLong(in.getInt());
+        long movingSeconds = Integer.toUnsignedLong(in.getInt());
+        double distance = in.getDouble();
+        double speedSum = in.getDouble();
+        double minLat = in.getInt() / COORD_SCALE;
+        double maxLat = in.getInt() / COORD_SCALE;
+        double minLng = in.getInt() / COORD_SCALE;
+        double maxLng = in.getInt() / COORD_SCALE;
+        double maxSpeed = Short.toUnsignedInt(in.getShort()) / SPEED_SCALE;
+        if (count == 0) {
+            return TrajectoryStats.EMPTY;
+        }
+        return new TrajectoryStats((int) count, distance, speedSum / count, maxSpeed, movingSeconds,
+                minLat, maxLat, minLng, maxLng);
+    }
+
+    public byte[] encode(List<TrajectoryPoint> points) {
+        if (points.isEmpty()) {
+            return new byte[0];
+        }
+        long base = points.getFirst().t();
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + points.size() * RECORD_BYTES);
+        out.put(VERSION);
+        out.putInt((int) base);
+        for (TrajectoryPoint p : points) {
+            out.putInt((int) Math.max(0, p.t() - base));
+            out.putInt((int) Math.round(p.lat() * COORD_SCALE));
+            out.putInt((int) Math.round(p.lng() * COORD_SCALE));
+            out.putShort((short) Math.min(0xFFFF, Math.round(p.spd() * SPEED_SCALE)));
+        }
+        return out.array();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryResolution;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 궤적 단순화 (Douglas-Peucker)
+ *
+ * 구간에서 가장 멀리 벗어난 위치부터 차례로 살리는 방식이라 오차(m)와 최대 위치 수를 함께 걸 수 있다.
+ * 오차만 걸면 일반 Douglas-Peucker 와 같은 위치가 남는다.
+ * 시각 / 속도를 그대로 두기 위해 좌표만 다루는 JTS 대신 위치 인덱스로 계산한다.
+ */
+@Component
+public class TrajectorySimplifier {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    public List<TrajectoryPoint> simplify(List<TrajectoryPoint> points, TrajectoryResolution resolution) {
+        return simplify(points, resolution.toleranceMeters(), resolution.maxPoints());
+    }
+
+    public List<TrajectoryPoint> simplify(List<TrajectoryPoint> points, double toleranceMeters, int maxPoints) {
+        int n = points.size();
+        int limit = Math.max(2, maxPoints);
+        if (n <= 2 || (toleranceMeters <= 0 && n <= limit)) {
+            return points;
+        }
+
+        // 평면 근사 (게임 구역 규모에서는 오차가 무시할 만함)
+        double cosLat = Math.cos(Math.toRadians(points.getFirst().lat()));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = points.get(i).lng() * METERS_PER_DEGREE * cosLat;
+            y[i] = points.get(i).lat() * METERS_PER_DEGREE;
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+        int kept = 2;
+
+        PriorityQueue<Segment> queue = new PriorityQueue<>((a, b) -> Double.compare(b.distance, a.distance));
+        offer(queue, x, y, 0, n - 1);
+        while (kept < limit && !queue.isEmpty()) {
+            Segment segment = queue.poll();
+            if (segment.distance <= toleranceMeters) {
+                break;
+            }
+            keep[segment.farthest] = true;
+            kept++;
+            offer(queue, x, y, segment.start, segment.farthest);
+            offer(queue, x, y, segment.farthest, segment.end);
+        }
+
+        List<TrajectoryPoint> simplified = new ArrayList<>(kept);
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                simplified.add(points.get(i));
+            }
+        }
+        return simplified;
+    }
+
+    private static void offer(PriorityQueue<Segment> queue, double[] x, double[] y, int start, int end) {
+        if (end - start < 2) {
+            return;
+        }
+        int farthest = -1;
+        double max = -1;
+        for (int i = start + 1; i < end; i++) {
+            double d = segmentDistance(x[i], y[i], x[start], y[start], x[end], y[end]);
+            if (d > max) {
+                max = d;
+                farthest = i;
+            }
+        }
+        queue.add(new Segment(start, end, farthest, max));
+    }
+
+    // 점과 선분 사이 거리 (선분 밖이면 가까운 끝점까지)
+    private static double segmentDistance(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSq = dx * dx + dy * dy;
+        if (lengthSq == 0) {
+            return Math.hypot(px - ax, py - ay);
+        }
+        double r = ((px - ax) * dx + (py - ay) * dy) / lengthSq;
+        r = Math.max(0, Math.min(1, r));
+        return Math.hypot(px - (ax + r * dx), py - (ay + r * dy));
+    }
+
+    private record Segment(int start, int end, int farthest, double distance) {}
+}
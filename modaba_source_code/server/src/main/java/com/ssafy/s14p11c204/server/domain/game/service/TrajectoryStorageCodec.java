@@ -0,0 +1,223 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryResolution;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * DB 저장용 궤적 형식 (user_game_activities.trajectory_data, bytea)
+ *
+ * u8 버전 | deflate( varint 위치 수 | 위치마다 직전 위치와의 차이 4개 )
+ * - 차이: 시각(초), 위도 x 1e7, 경도 x 1e7, 속도 (km/h x 100) 를 zigzag varint 로
+ * - 5초 주기 보행 궤적이면 위치당 대략 6~7바이트, 압축 후 그보다 작음 (JSON 약 70바이트)
+ * - 정밀도는 Redis 버퍼(TrajectoryBufferCodec)와 같아 옮겨 담을 때 손실 없음
+ * - 전체 궤적과 함께 단순화한 해상도(TrajectoryResolution)도 같은 형식으로 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class TrajectoryStorageCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final double COORD_SCALE = 1e7;
+    private static final double SPEED_SCALE = 100.0;
+    private static final int MAX_POINTS = 1_000_000; // 깨진 데이터로 큰 배열을 잡지 않도록
+
+    private final TrajectorySimplifier trajectorySimplifier;
+
+    /**
+     * 저장할 해상도 전부 (전체 / MEDIUM / LOW)
+     */
+    public ActivityMapper.EncodedTrajectory encodeLevels(List<TrajectoryPoint> points) {
+        return new ActivityMapper.EncodedTrajectory(
+                encode(points),
+                encode(trajectorySimplifier.simplify(points, TrajectoryResolution.MEDIUM)),
+                encode(trajectorySimplifier.simplify(points, TrajectoryResolution.LOW)));
+    }
+
+    public byte[] encode(List<TrajectoryPoint> points) {
+        VarintWriter raw = new VarintWriter(points.size() * 8 + 5);
+        raw.writeUnsigned(points.size());
+
+        long prevT = 0;
+        long prevLat = 0;
+        long prevLng = 0;
+        long prevSpd = 0;
+        for (TrajectoryPoint p : points) {
+            long lat = Math.round(p.lat() * COORD_SCALE);
+            long lng = Math.round(p.lng() * COORD_SCALE);
+            long spd = Math.round(p.spd() * SPEED_SCALE);
+            raw.writeSigned(p.t() - prevT);
+            raw.writeSigned(lat - prevLat);
+            raw.writeSigned(lng - prevLng);
+            raw.writeSigned(spd - prevSpd);
+            prevT = p.t();
+            prevLat = lat;
+            prevLng = lng;
+            prevSpd = spd;
+        }
+        return deflate(raw.toByteArray());
+    }
+
+    public List<TrajectoryPoint> decode(byte[] data) {
+        Iterator<TrajectoryPoint> cursor = open(data);
+        List<TrajectoryPoint> points = new ArrayList<>();
+        cursor.forEachRemaining(points::add);
+        return points;
+    }
+
+    /**
+     * 압축만 풀고 위치는 꺼낼 때마다 하나씩 복원 (리플레이처럼 여러 궤적을 병합할 때 전체 목록을 만들지 않도록)
+     */
+    public Iterator<TrajectoryPoint> open(byte[] data) {
+        if (data == null || data.length == 0) {
+            return Collections.emptyIterator();
+        }
+        if (data[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 궤적 저장 형식입니다: " + data[0]);
+        }
+        VarintReader in = new VarintReader(inflate(data));
+        long count = in.readUnsigned();
+        if (count < 0 || count > MAX_POINTS) {
+            throw new IllegalArgumentException("궤적 위치 수가 올바르지 않습니다: " + count);
+        }
+        return new PointCursor(in, count);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            out.write(VERSION);
+            byte[] chunk = new byte[1024];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] chunk = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("궤적 데이터가 잘려 있습니다.");
+                }
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("궤적 데이터를 해제할 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class PointCursor implements Iterator<TrajectoryPoint> {
+        private final VarintReader in;
+        private final long count;
+        private long read;
+        private long t;
+        private long lat;
+        private long lng;
+        private long spd;
+
+        PointCursor(VarintReader in, long count) {
+            this.in = in;
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return read < count;
+        }
+
+        @Override
+        public TrajectoryPoint next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            t += in.readSigned();
+            lat += in.readSigned();
+            lng += in.readSigned();
+            spd += in.readSigned();
+            read++;
+            return new TrajectoryPoint(t, lat / COORD_SCALE, lng / COORD_SCALE, spd / SPEED_SCALE);
+        }
+    }
+
+    private static final class VarintWriter {
+        private final ByteArrayOutputStream out;
+
+        VarintWriter(int initialSize) {
+            this.out = new ByteArrayOutputStream(initialSize);
+        }
+
+        void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63)); // zigzag: 작은 음수도 짧게
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    private static final class VarintReader {
+        private final byte[] buf;
+        private int pos;
+
+        VarintReader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        long readSigned() {
+            long v = readUnsigned();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        long readUnsigned() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (pos >= buf.length) {
+                    throw new IllegalArgumentException("궤적 데이터가 잘려 있습니다.");
+                }
+                byte b = buf[pos++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("궤적 데이터의 varint 가 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import com.ssafy.s14p11c204.server.domain.chat.service.RedisPublisher;
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.GameStartResponseDto;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.GameStateChangedEvent;
+import com.ssafy.s14p11c204.server.domain.game.service.GameServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방(roomId)별 게임 상태 저장소
+ * - startGame 시점에 한 번 적재
+ * - 검거/탈옥/퇴장 시 갱신
+ * - GameEndEvent 수신 시 (정산 트랜잭션 커밋 이후) 제거하고 종료 표시를 남김
+ * 서버 재시작 등으로 상태가 없으면 게임 중(PLAYING)이고 진행 중인 세션이 있을 때에 한해 DB에서 다시 적재한다.
+ * 종료 표시가 있는 동안은 DB에서 다시 적재하지 않는다 (커밋 전에 읽은 값으로 끝난 게임이 되살아나지 않도록)
+ * 게임 중이 아닌 방도 잠깐 기억해 위치 수신마다 DB를 조회하지 않는다 (이 서버에서 게임이 시작되면 바로 해제)
+ * 여러 서버에서 돌 때는 시작 / 상태 변경 / 종료를 커밋 이후 Redis(game-state 채널) 로 알리고,
+ * 받은 서버는 캐시한 상태를 DB 기준으로 맞추거나(변경) 종료 처리한다(GameEndEvent 를 로컬로 다시 발행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameStateManager {
+
+    private final RoomMapper roomMapper;
+    private final GameMapper gameMapper;
+    private final RedisPublisher redisPublisher;
+    private final ChannelTopic gameStateTopic;
+
+    // 이 서버가 보낸 알림은 받아도 무시
+    private final String nodeId = UUID.randomUUID().toString();
+
+    static final Duration ENDED_MARKER_TTL = Duration.ofMinutes(1);
+    // 다른 서버에서 시작된 게임은 최대 이 시간 늦게 인식
+    static final Duration NOT_PLAYING_TTL = Duration.ofSeconds(3);
+
+    private final Map<Long, RoomGameState> states = new ConcurrentHashMap<>();
+    // 방 ID -> 이 시각(nanoTime)까지 게임 중이 아닌 것으로 봄
+    private final Map<Long, Long> inactiveUntil = new ConcurrentHashMap<>();
+
+    public RoomGameState load(Long roomId, Long sessionId, LocalDateTime endTime,
+                              List<GameStartResponseDto.ParticipantInfo> participants) {
+        RoomGameState state = new RoomGameState(roomId, sessionId, endTime);
+        for (GameStartResponseDto.ParticipantInfo p : participants) {
+            state.putPlayer(p.getUserId(), p.getNickname(), p.getRole(), ParticipantStatus.IN_GAME);
+        }
+        inactiveUntil.remove(roomId);
+        states.put(roomId, state);
+        log.info("Game state loaded for room {} (session {}, {} players)", roomId, sessionId, participants.size());
+        broadcast(roomId, Invalidation.Kind.CHANGED); // 다른 서버의 "게임 중 아님" 표시 / 이전 세션 상태 해제
+        return state;
+    }
+
+    // 메모리에 있는 상태만 조회
+    public Optional<RoomGameState> find(Long roomId) {
+        return Optional.ofNullable(states.get(roomId));
+    }
+
+    // 메모리에 없으면 진행 중인 세션 기준으로 DB에서 복구
+    public Optional<RoomGameState> getOrLoad(Long roomId) {
+        RoomGameState state = states.get(roomId);
+        if (state != null) {
+            return Optional.of(state);
+        }
+        if (isInactive(roomId)) {
+            return Optional.empty();
+        }
+        // 위 확인 직후 종료 이벤트가 끼어들 수 있으므로 적재 직전에 (evict 와 같은 칸 잠금 안에서) 다시 확인
+        RoomGameState loaded = states.computeIfAbsent(roomId, id -> isInactive(id) ? null : loadFromDb(id));
+        if (loaded == null) {
+            markInactive(roomId, NOT_PLAYING_TTL);
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    // 최근에 게임 중이 아닌 것으로 확인된 방 (종료 / 조회 결과 없음)
+    public boolean isInactive(Long roomId) {
+        Long until = inactiveUntil.get(roomId);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until < 0) {
+            return true;
+        }
+        inactiveUntil.remove(roomId, until);
+        return false;
+    }
+
+    // 이미 더 늦게까지 표시돼 있으면 줄이지 않음 (종료 표시를 "게임 중 아님" 짧은 표시로 덮지 않도록)
+    private void markInactive(Long roomId, Duration ttl) {
+        inactiveUntil.merge(roomId, System.nanoTime() + ttl.toNanos(), (prev, next) -> next - prev > 0 ? next : prev);
+    }
+
+    private RoomGameState loadFromDb(Long roomId) {
+        GameMapper.PlayingSession session = gameMapper.findPlayingSession(roomId).orElse(null);
+        if (session == null) {
+            return null; // 진행 중인 게임 없음 (캐싱하지 않음)
+        }
+        Long sessionId = session.sessionId();
+        RoomGameState state = new RoomGameState(roomId, sessionId,
+                session.startTime().plusMinutes(GameServiceImpl.GAME_DURATION_MINUTES));
+
+        for (RoomMapper.ParticipantStateInfo p : roomMapper.findParticipantStates(roomId)) {
+            state.putPlayer(p.userId(), p.nickname(), p.role(), p.status());
+        }
+        log.info("Game state recovered from DB for room {} (session {})", roomId, sessionId);
+        return state;
+    }
+
+    public void updateStatus(Long roomId, Long userId, ParticipantStatus status) {
+        find(roomId).ifPresent(state -> state.updateStatus(userId, status));
+    }
+
+    // 풀려난 도둑 수 반환 (메모리 상태가 없으면 0)
+    public int releaseArrestedThieves(Long roomId) {
+        return find(roomId).map(RoomGameState::releaseArrestedThieves).orElse(0);
+    }
+
+    public void recordArrest(Long roomId, String policeNickname) {
+        find(roomId).ifPresent(state -> state.recordArrest(policeNickname));
+    }
+
+    public void recordRescue(Long roomId, String rescuerNickname, int released) {
+        find(roomId).ifPresent(state -> state.recordRescue(rescuerNickname, released));
+    }
+
+    public void removePlayer(Long roomId, Long userId) {
+        find(roomId).ifPresent(state -> state.removePlayer(userId));
+    }
+
+    public void evict(Long roomId) {
+        if (states.remove(roomId) != null) {
+            log.info("Game state evicted for room {}", roomId);
+        }
+    }
+
+    // 정산 트랜잭션 안에서 지우면 커밋 전 위치 수신이 DB(end_time IS NULL)에서 다시 적재하므로 커밋 이후에
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameEndEvent(GameEndEvent event) {
+        markInactive(event.getRoomId(), ENDED_MARKER_TTL);
+        evict(event.getRoomId());
+        if (!event.isRemote()) {
+            broadcast(event.getRoomId(), Invalidation.Kind.ENDED);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameStateChangedEvent(GameStateChangedEvent event) {
+        broadcast(event.roomId(), Invalidation.Kind.CHANGED);
+    }
+
+    // 다른 서버가 보낸 알림인지 (GameStateSubscriber)
+    public boolean isRemote(Invalidation invalidation) {
+        return !nodeId.equals(invalidation.origin());
+    }
+
+    /**
+     * 다른 서버에서 커밋된 변경을 반영: 캐시한 상태가 있으면 참가자 상태를 DB 기준으로 맞춤
+     * 게임이 끝났거나 다른 세션이면 버림 (다음 조회 때 다시 적재). 점수판 집계는 그대로 둠
+     */
+    public void refresh(Long roomId) {
+        inactiveUntil.remove(roomId);
+        RoomGameState state = states.get(roomId);
+        if (state == null) {
+            return;
+        }
+        Long sessionId = gameMapper.findPlayingSession(roomId).map(GameMapper.PlayingSession::sessionId).orElse(null);
+        if (!state.getSessionId().equals(sessionId)) {
+            evict(roomId);
+            return;
+        }
+        Map<Long, RoomMapper.ParticipantStateInfo> current = new HashMap<>();
+        for (RoomMapper.ParticipantStateInfo p : roomMapper.findParticipantStates(roomId)) {
+            current.put(p.userId(), p);
+        }
+        for (RoomGameState.PlayerState player : List.copyOf(state.getRoster())) {
+            if (!current.containsKey(player.getUserId())) {
+                state.removePlayer(player.getUserId());
+            }
+        }
+        for (RoomMapper.ParticipantStateInfo p : current.values()) {
+            if (state.findPlayer(p.userId()).isPresent()) {
+                state.updateStatus(p.userId(), p.status());
+            } else {
+                state.putPlayer(p.userId(), p.nickname(), p.role(), p.status());
+            }
+        }
+        log.info("Game state refreshed for room {} after a change on another server", roomId);
+    }
+
+    // 알림 실패는 게임 처리를 막지 않음 (다른 서버는 다음 변경 / 종료 알림 때 맞춰짐)
+    private void broadcast(Long roomId, Invalidation.Kind kind) {
+        try {
+            redisPublisher.publish(gameStateTopic, new Invalidation(nodeId, roomId, kind));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast {} for room {}: {}", kind, roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 간 게임 상태 알림 (game-state 채널)
+     * @param origin 보낸 서버
+     */
+    public record Invalidation(String origin, Long roomId, Kind kind) {
+        public enum Kind {
+            CHANGED, // 시작 / 검거 / 탈옥 / 퇴장
+            ENDED
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방(roomId)별 게임 구역/감옥 Geofence 캐시
+ * - 처음 조회할 때 WKT 파싱 + 버퍼 적용 + PreparedGeometry 변환을 한 번만 수행
+ * - 구역 저장(saveBoundary), 게임 종료, 방 삭제 시 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeofenceCache {
+
+    // 구역 이탈 허용 오차 (약 5m)
+    public static final double BOUNDARY_BUFFER = 0.00005;
+
+    // 탈옥 허용 거리 (약 5m)
+    public static final double JAIL_REACH = 0.00005;
+
+    private final RoomMapper roomMapper;
+    private final GeometryUtil geometryUtil;
+
+    private final Map<Long, RoomFences> fences = new ConcurrentHashMap<>();
+
+    // 게임 구역 (BOUNDARY_BUFFER 적용)
+    public Optional<GeometryUtil.Geofence> findBoundary(Long roomId) {
+        return Optional.ofNullable(fences.computeIfAbsent(roomId, this::loadFences))
+                .map(RoomFences::boundary);
+    }
+
+    // 감옥 구역 (JAIL_REACH 적용)
+    public Optional<GeometryUtil.Geofence> findJail(Long roomId) {
+        return Optional.ofNullable(fences.computeIfAbsent(roomId, this::loadFences))
+                .map(RoomFences::jail);
+    }
+
+    private RoomFences loadFences(Long roomId) {
+        RoomMapper.RoomBoundaryInfo info = roomMapper.findRoomBoundary(roomId).orElse(null);
+        if (info == null || (info.boundaryWkt() == null && info.jailWkt() == null)) {
+            return null; // 구역 미설정 (캐싱하지 않음)
+        }
+        GeometryUtil.Geofence boundary = info.boundaryWkt() == null ? null
+                : geometryUtil.prepare(geometryUtil.parseWkt(info.boundaryWkt()), BOUNDARY_BUFFER);
+        GeometryUtil.Geofence jail = info.jailWkt() == null ? null
+                : geometryUtil.prepare(geometryUtil.parseWkt(info.jailWkt()), JAIL_REACH);
+        log.info("Geofence prepared for room {} (boundary={}, jail={})", roomId, boundary != null, jail != null);
+        return new RoomFences(boundary, jail);
+    }
+
+    public void evict(Long roomId) {
+        fences.remove(roomId);
+    }
+
+    @EventListener
+    public void handleGameEndEvent(GameEndEvent event) {
+        evict(event.getRoomId());
+    }
+
+    private record RoomFences(GeometryUtil.Geofence boundary, GeometryUtil.Geofence jail) {}
+}
@@ -0,0 +1,198 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 방 하나의 플레이어 최신 위치 공간 인덱스 (균등 격자)
+ * 위치 메시지마다 갱신하고, 검거 거리 판정 / 반경 내 검색 / 가장 가까운 상대 검색을 Redis 왕복 없이 처리한다.
+ *
+ * - 첫 위치의 위도를 기준으로 좌표를 미터 평면으로 투영 (게임 구역은 수 km 이내라 오차 무시 가능)
+ * - cellMeters 크기 칸에 닉네임을 나눠 담고, 검색은 주변 칸만 확인한다 (반경 r → 약 (2r/cell + 1)^2 칸)
+ */
+public class PositionIndex {
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final double cellMeters;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // nickname -> 최신 위치
+    private final Map<String, Position> positions = new HashMap<>();
+
+    // 칸 -> 칸 안의 닉네임
+    private final Map<Long, Set<String>> cells = new HashMap<>();
+
+    // 경도 1도당 미터 (첫 위치 기준으로 고정)
+    private double metersPerDegreeLng;
+
+    public PositionIndex(double cellMeters) {
+        this.cellMeters = cellMeters;
+    }
+
+    public void update(String nickname, double lat, double lng) {
+        lock.writeLock().lock();
+        try {
+            if (metersPerDegreeLng == 0) {
+                metersPerDegreeLng = METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat));
+            }
+            double x = lng * metersPerDegreeLng;
+            double y = lat * METERS_PER_DEGREE_LAT;
+            long cell = cellKey(cellOf(x), cellOf(y));
+
+            Position previous = positions.put(nickname, new Position(nickname, lat, lng, x, y, cell));
+            if (previous != null && previous.cell != cell) {
+                removeFromCell(previous.cell, nickname);
+            }
+            if (previous == null || previous.cell != cell) {
+                cells.computeIfAbsent(cell, k -> new HashSet<>()).add(nickname);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String nickname) {
+        lock.writeLock().lock();
+        try {
+            Position removed = positions.remove(nickname);
+            if (removed != null) {
+                removeFromCell(removed.cell, nickname);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Position> find(String nickname) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(positions.get(nickname));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 플레이어 사이 거리 (m). 한쪽이라도 위치가 없으면 empty
+     */
+    public Optional<Double> distance(String nickname1, String nickname2) {
+        lock.readLock().lock();
+        try {
+            Position a = positions.get(nickname1);
+            Position b = positions.get(nickname2);
+            if (a == null || b == null) {
+                return Optional.empty();
+            }
+            return Optional.of(a.distanceTo(b.x, b.y));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 플레이어로부터 radius(m) 안에 있는 플레이어 (가까운 순, 본인 제외)
+     */
+    public List<Neighbor> withinRadius(String nickname, double radius, Predicate<String> filter) {
+        return nearest(nickname, Integer.MAX_VALUE, radius, filter);
+    }
+
+    /**
+     * 기준 플레이어와 가장 가까운 플레이어 최대 k명 (maxRadius 이내, 가까운 순, 본인 제외)
+     * 가까운 칸부터 고리 모양으로 넓혀 가며, k명을 찾았고 다음 고리가 k번째보다 멀면 멈춘다.
+     */
+    public List<Neighbor> nearest(String nickname, int k, double maxRadius, Predicate<String> filter) {
+        lock.readLock().lock();
+        try {
+            Position origin = positions.get(nickname);
+            if (origin == null || k <= 0) {
+                return List.of();
+            }
+            int cx = cellOf(origin.x);
+            int cy = cellOf(origin.y);
+            int maxRing = (int) Math.ceil(maxRadius / cellMeters);
+
+            List<Neighbor> found = new ArrayList<>();
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // ring 번째 고리의 칸은 기준점에서 최소 (ring - 1) * cellMeters 떨어져 있다
+                if (found.size() >= k && found.get(k - 1).distance() <= (ring - 1) * cellMeters) {
+                    break;
+                }
+                for (int dx = -ring; dx <= ring; dx++) {
+                    for (int dy = -ring; dy <= ring; dy++) {
+                        if (Math.max(Math.abs(dx), Math.abs(dy)) != ring) {
+                            continue; // 고리 테두리 칸만
+                        }
+                        collect(cellKey(cx + dx, cy + dy), origin, maxRadius, filter, found);
+                    }
+                }
+                found.sort(Comparator.comparingDouble(Neighbor::distance));
+            }
+            return found.size() > k ? List.copyOf(found.subList(0, k)) : found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return positions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(long cell, Position origin, double maxRadius, Predicate<String> filter, List<Neighbor> found) {
+        Set<String> members = cells.get(cell);
+        if (members == null) {
+            return;
+        }
+        for (String member : members) {
+            if (member.equals(origin.nickname) || !filter.test(member)) {
+                continue;
+            }
+            Position p = positions.get(member);
+            double distance = origin.distanceTo(p.x, p.y);
+            if (distance <= maxRadius) {
+                found.add(new Neighbor(member, distance));
+            }
+        }
+    }
+
+    private void removeFromCell(long cell, String nickname) {
+        Set<String> members = cells.get(cell);
+        if (members != null) {
+            members.remove(nickname);
+            if (members.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    private int cellOf(double meters) {
+        return (int) Math.floor(meters / cellMeters);
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    public record Position(String nickname, double lat, double lng, double x, double y, long cell) {
+        double distanceTo(double otherX, double otherY) {
+            return Math.hypot(x - otherX, y - otherY);
+        }
+    }
+
+    public record Neighbor(String nickname, double distance) {}
+}
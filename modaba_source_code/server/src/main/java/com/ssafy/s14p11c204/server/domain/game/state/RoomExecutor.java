@@ -0,0 +1,144 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 방 단위 직렬 실행기 (방마다 메일박스 1개, 가상 스레드에서 처리)
+ * 검거 / 탈옥 / 게임 시작 / 퇴장 / 게임 종료처럼 방 상태를 바꾸는 작업은 같은 방이면 들어온 순서대로 하나씩,
+ * 다른 방끼리는 병렬로 실행된다. (이중 게임 종료, 종료 후 검거 같은 경합 방지)
+ *
+ * - 실행 중인 작업이 없는 방의 메일박스는 바로 제거한다 (방 수만큼 스레드를 붙잡지 않음)
+ * - 방 작업 안에서 같은 방 작업을 동기 호출하면 바로 실행한다 (교착 방지)
+ * - 트랜잭션은 작업을 실행하는 가상 스레드에서 열리므로, @Transactional 서비스 호출 바깥(컨트롤러, 스케줄러)에서 감싼다
+ */
+@Slf4j
+@Component
+public class RoomExecutor {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("room-", 0).factory());
+
+    // roomId -> 메일박스 (대기 작업이 있거나 실행 중인 방만)
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    // 현재 스레드가 처리 중인 방
+    private static final ThreadLocal<Long> CURRENT_ROOM = new ThreadLocal<>();
+
+    /**
+     * 비동기 실행 (STOMP 메시지 처리 등 결과가 필요 없는 경우). 예외는 로그만 남긴다.
+     */
+    public void execute(Long roomId, Runnable task) {
+        submit(roomId, () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Room {} task failed: {}", roomId, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 동기 실행 (HTTP 요청 등). 작업이 끝날 때까지 기다리고, 작업에서 난 예외를 그대로 다시 던진다.
+     */
+    public void run(Long roomId, Runnable task) {
+        call(roomId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T call(Long roomId, Supplier<T> task) {
+        if (roomId.equals(CURRENT_ROOM.get())) {
+            return task.get();
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        submit(roomId, () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void submit(Long roomId, Runnable task) {
+        boolean[] start = new boolean[1];
+        Mailbox mailbox = mailboxes.compute(roomId, (id, existing) -> {
+            Mailbox m = existing != null ? existing : new Mailbox();
+            m.tasks.add(task);
+            if (!m.running) {
+                m.running = true;
+                start[0] = true;
+            }
+            return m;
+        });
+        if (start[0]) {
+            executor.execute(() -> drain(roomId, mailbox));
+        }
+    }
+
+    // 메일박스가 빌 때까지 순서대로 실행. 비면 등록 해제 (submit과 같은 compute 안에서 판단해서 작업 유실 없음)
+    // 작업 하나가 실패해도 (Error 포함) 다음 작업을 계속 실행
+    private void drain(Long roomId, Mailbox mailbox) {
+        CURRENT_ROOM.set(roomId);
+        try {
+            while (true) {
+                Runnable task;
+                while ((task = mailbox.tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (Throwable e) {
+                        // Error 가 빠져나가면 running 이 남아 이 방은 다시 처리되지 않고 동기 호출이 영원히 기다림
+                        log.error("Room {} task failed: {}", roomId, e.getMessage(), e);
+                    }
+                }
+                Mailbox remaining = mailboxes.compute(roomId, (id, m) -> {
+                    if (m == mailbox && m.tasks.isEmpty()) {
+                        m.running = false;
+                        return null;
+                    }
+                    return m;
+                });
+                if (remaining == null) {
+                    return;
+                }
+            }
+        } finally {
+            CURRENT_ROOM.remove();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class Mailbox {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        // mailboxes.compute 안에서만 변경
+        private boolean running;
+    }
+}
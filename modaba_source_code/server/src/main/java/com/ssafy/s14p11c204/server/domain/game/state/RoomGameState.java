@@ -0,0 +1,214 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.dto.ScoreboardDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 게임 한 판의 메모리 상태 (참가자 명단, 역할, 상태, 닉네임 ↔ userId)
+ * 위치 메시지처럼 자주 들어오는 요청이 DB를 거치지 않고 조회할 수 있도록 유지한다.
+ */
+@Getter
+public class RoomGameState {
+
+    // 위치 인덱스 칸 크기 (m) - 검거 가능 거리 수준
+    private static final double POSITION_CELL_METERS = 50.0;
+
+    private final Long roomId;
+    private final Long sessionId;
+    private final LocalDateTime endTime;
+
+    // userId -> 참가자 상태
+    private final Map<Long, PlayerState> players = new ConcurrentHashMap<>();
+
+    // nickname -> userId
+    private final Map<String, Long> userIdByNickname = new ConcurrentHashMap<>();
+
+    // 플레이어 최신 위치 (검거 거리 판정, 근처 상대 검색용)
+    private final PositionIndex positions = new PositionIndex(POSITION_CELL_METERS);
+
+    // 팀 현황 (참가자 상태 변경 시 함께 갱신)
+    @Getter(AccessLevel.NONE)
+    private final Scoreboard scoreboard = new Scoreboard();
+
+    // 방 실행기에 넣어 둔 자동 검거 (경찰, 도둑) - 처리 전에 위치가 연달아 와도 한 번만 넣음
+    @Getter(AccessLevel.NONE)
+    private final Set<String> pendingAutoArrests = ConcurrentHashMap.newKeySet();
+
+    public RoomGameState(Long roomId, Long sessionId, LocalDateTime endTime) {
+        this.roomId = roomId;
+        this.sessionId = sessionId;
+        this.endTime = endTime;
+    }
+
+    public synchronized void putPlayer(Long userId, String nickname, PlayerRole role, ParticipantStatus status) {
+        PlayerState previous = players.put(userId, new PlayerState(userId, nickname, role, status));
+        if (previous != null) {
+            scoreboard.remove(previous.getRole(), previous.getStatus());
+        }
+        scoreboard.add(role, status);
+        if (nickname != null) {
+            userIdByNickname.put(nickname, userId);
+        }
+    }
+
+    public synchronized void removePlayer(Long userId) {
+        PlayerState removed = players.remove(userId);
+        if (removed != null) {
+            scoreboard.remove(removed.getRole(), removed.getStatus());
+        }
+        if (removed != null && removed.getNickname() != null) {
+            userIdByNickname.remove(removed.getNickname());
+            positions.remove(removed.getNickname());
+        }
+    }
+
+    public Optional<PlayerState> findPlayer(Long userId) {
+        return Optional.ofNullable(userId).map(players::get);
+    }
+
+    public Optional<PlayerState> findPlayer(String nickname) {
+        return findUserId(nickname).map(players::get);
+    }
+
+    public Optional<Long> findUserId(String nickname) {
+        return Optional.ofNullable(nickname).map(userIdByNickname::get);
+    }
+
+    public Optional<PlayerRole> findRole(String nickname) {
+        return findPlayer(nickname).map(PlayerState::getRole);
+    }
+
+    public Optional<ParticipantStatus> findStatus(Long userId) {
+        return findPlayer(userId).map(PlayerState::getStatus);
+    }
+
+    // STOMP 개인 채널(convertAndSendToUser) 전송용 - 위치 메시지를 보낸 세션의 email 기록
+    public void bindEmail(Long userId, String email) {
+        findPlayer(userId).ifPresent(player -> {
+            if (email != null && !email.equals(player.getEmail())) {
+                player.setEmail(email);
+            }
+        });
+    }
+
+    public void updatePosition(String nickname, double lat, double lng) {
+        if (nickname != null && userIdByNickname.containsKey(nickname)) {
+            positions.update(nickname, lat, lng);
+        }
+    }
+
+    // 두 플레이어 사이 거리 (m), 위치를 모르면 empty
+    public Optional<Double> findDistance(String nickname1, String nickname2) {
+        if (nickname1 == null || nickname2 == null) {
+            return Optional.empty();
+        }
+        return positions.distance(nickname1, nickname2);
+    }
+
+    /**
+     * maxRadius(m) 안에서 가장 가까운 상대 팀 플레이어 최대 k명 (게임 중인 플레이어만, 가까운 순)
+     */
+    public List<PositionIndex.Neighbor> findNearestOpponents(String nickname, int k, double maxRadius) {
+        PlayerRole role = findRole(nickname).orElse(null);
+        if (role == null) {
+            return List.of();
+        }
+        return positions.nearest(nickname, k, maxRadius, other -> findPlayer(other)
+                .filter(p -> p.getRole() != null && p.getRole() != role)
+                .filter(p -> p.getStatus() == ParticipantStatus.IN_GAME)
+                .isPresent());
+    }
+
+    public synchronized void updateStatus(Long userId, ParticipantStatus status) {
+        findPlayer(userId).ifPresent(player -> {
+            scoreboard.transition(player.getRole(), player.getStatus(), status);
+            player.setStatus(status);
+        });
+    }
+
+    // 감옥에 있는 모든 도둑을 IN_GAME으로 복귀 (탈옥), 풀려난 인원 수 반환
+    public synchronized int releaseArrestedThieves() {
+        int released = 0;
+        for (PlayerState p : players.values()) {
+            if (p.getRole() == PlayerRole.THIEF && p.getStatus() == ParticipantStatus.ARRESTED) {
+                scoreboard.transition(p.getRole(), p.getStatus(), ParticipantStatus.IN_GAME);
+                p.setStatus(ParticipantStatus.IN_GAME);
+                released++;
+            }
+        }
+        return released;
+    }
+
+    public void recordArrest(String policeNickname) {
+        scoreboard.recordArrest(policeNickname);
+    }
+
+    public void recordRescue(String rescuerNickname, int released) {
+        scoreboard.recordRescue(rescuerNickname, released);
+    }
+
+    // 검거되지 않은 도둑 수 (승리 조건 판정용, O(1))
+    public int getAliveThiefCount() {
+        return scoreboard.aliveThiefCount();
+    }
+
+    /**
+     * 자동 검거 예약. 같은 (경찰, 도둑) 이 이미 대기 중이면 false
+     */
+    public boolean reserveAutoArrest(String policeNickname, String thiefNickname) {
+        return pendingAutoArrests.add(autoArrestKey(policeNickname, thiefNickname));
+    }
+
+    // 자동 검거 처리가 끝나면 해제 (실패했으면 다음 위치에서 다시 시도)
+    public void releaseAutoArrest(String policeNickname, String thiefNickname) {
+        pendingAutoArrests.remove(autoArrestKey(policeNickname, thiefNickname));
+    }
+
+    private static String autoArrestKey(String policeNickname, String thiefNickname) {
+        return policeNickname + '\n' + thiefNickname;
+    }
+
+    public ScoreboardDto snapshotScoreboard() {
+        return scoreboard.snapshot(roomId, sessionId);
+    }
+
+    public Collection<PlayerState> getRoster() {
+        return Collections.unmodifiableCollection(players.values());
+    }
+
+    @Getter
+    public static class PlayerState {
+        private final Long userId;
+        private final String nickname;
+        private final PlayerRole role;
+        private volatile ParticipantStatus status;
+        private volatile String email;
+
+        PlayerState(Long userId, String nickname, PlayerRole role, ParticipantStatus status) {
+            this.userId = userId;
+            this.nickname = nickname;
+            this.role = role;
+            this.status = status;
+        }
+
+        void setStatus(ParticipantStatus status) {
+            this.status = status;
+        }
+
+        void setEmail(String email) {
+            this.email = email;
+        }
+    }
+}
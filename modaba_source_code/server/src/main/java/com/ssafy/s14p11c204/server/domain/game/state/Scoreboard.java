@@ -0,0 +1,86 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.dto.ScoreboardDto;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 방 하나의 팀 현황 카운터 (RoomGameState가 참가자 상태를 바꿀 때마다 함께 갱신)
+ * 남은 도둑 수 같은 승리 조건 판정을 참가자 전체 조회 없이 O(1)로 처리한다.
+ */
+class Scoreboard {
+
+    private int policeCount;
+    private int aliveThiefCount;
+    private int arrestedThiefCount;
+    private int totalArrests;
+    private int totalRescues;
+
+    private final Map<String, Integer> arrestsByPolice = new HashMap<>();
+    private final Map<String, Integer> rescuesByPlayer = new HashMap<>();
+
+    synchronized void add(PlayerRole role, ParticipantStatus status) {
+        adjust(role, status, 1);
+    }
+
+    synchronized void remove(PlayerRole role, ParticipantStatus status) {
+        adjust(role, status, -1);
+    }
+
+    synchronized void transition(PlayerRole role, ParticipantStatus from, ParticipantStatus to) {
+        if (from == to) {
+            return;
+        }
+        adjust(role, from, -1);
+        adjust(role, to, 1);
+    }
+
+    synchronized void recordArrest(String policeNickname) {
+        totalArrests++;
+        if (policeNickname != null) {
+            arrestsByPolice.merge(policeNickname, 1, Integer::sum);
+        }
+    }
+
+    synchronized void recordRescue(String rescuerNickname, int released) {
+        totalRescues += released;
+        if (rescuerNickname != null && released > 0) {
+            rescuesByPlayer.merge(rescuerNickname, released, Integer::sum);
+        }
+    }
+
+    synchronized int aliveThiefCount() {
+        return aliveThiefCount;
+    }
+
+    synchronized ScoreboardDto snapshot(Long roomId, Long sessionId) {
+        return ScoreboardDto.builder()
+                .roomId(roomId)
+                .sessionId(sessionId)
+                .policeCount(policeCount)
+                .aliveThiefCount(aliveThiefCount)
+                .arrestedThiefCount(arrestedThiefCount)
+                .totalArrests(totalArrests)
+                .totalRescues(totalRescues)
+                .arrestsByPolice(new LinkedHashMap<>(arrestsByPolice))
+                .rescuesByPlayer(new LinkedHashMap<>(rescuesByPlayer))
+                .build();
+    }
+
+    private void adjust(PlayerRole role, ParticipantStatus status, int delta) {
+        if (role == PlayerRole.POLICE) {
+            policeCount += delta;
+        } else if (role == PlayerRole.THIEF) {
+            // countAliveThieves와 같은 기준: 검거되지 않은 도둑은 모두 생존
+            if (status == ParticipantStatus.ARRESTED) {
+                arrestedThiefCount += delta;
+            } else {
+                aliveThiefCount += delta;
+            }
+        }
+    }
+}
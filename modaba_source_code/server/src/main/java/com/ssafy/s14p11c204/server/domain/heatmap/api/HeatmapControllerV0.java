@@ -0,0 +1,49 @@
+package com.ssafy.s14p11c204.server.domain.heatmap.api;
+
+import com.ssafy.s14p11c204.server.domain.heatmap.dto.HeatmapTileDto;
+import com.ssafy.s14p11c204.server.domain.heatmap.service.HeatmapService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v0/heatmap")
+@Tag(name = "HeatmapController", description = "활동 히트맵 타일 API")
+@RestController
+public class HeatmapControllerV0 {
+
+    // 게임이 끝날 때만 바뀌므로 짧게 캐시 + ETag 로 재검증
+    private static final CacheControl TILE_CACHE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePrivate();
+
+    private final HeatmapService heatmapService;
+
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    @Operation(summary = "히트맵 타일 조회", description = """
+            지도 타일(z/x/y, Web Mercator) 안의 방문 수를 최대 16 x 16 격자로 조회합니다.
+            regionId 를 주면 그 동네에서 열린 게임만, 없으면 전체 게임 기준입니다.
+            """)
+    public ResponseEntity<HeatmapTileDto> getTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            @RequestParam(required = false) Integer regionId,
+            WebRequest request) {
+        HeatmapTileDto tile = heatmapService.getTile(regionId, z, x, y);
+        String etag = "\"" + Integer.toHexString(tile.cells().hashCode()) + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(TILE_CACHE).eTag(etag).build();
+        }
+        return ResponseEntity.ok().cacheControl(TILE_CACHE).eTag(etag).body(tile);
+    }
+}
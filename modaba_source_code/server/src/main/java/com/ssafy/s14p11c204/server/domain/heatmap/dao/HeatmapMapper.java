@@ -0,0 +1,36 @@
+package com.ssafy.s14p11c204.server.domain.heatmap.dao;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 활동 히트맵 셀 (activity_heat_cells). 조회는 타일 하나 = PK 구간 하나
+ */
+@Mapper
+public interface HeatmapMapper {
+
+    /**
+     * 활동 하나의 셀 증가분을 지역 / 전체(0)에 더하고 heat_applied 표시 (한 구문, 이미 반영된 활동이면 0)
+     */
+    int applyActivity(@Param("sessionId") Long sessionId, @Param("userId") Long userId,
+                      @Param("cells") Collection<HeatCell> cells);
+
+    /**
+     * 점이 없는 활동은 더할 것 없이 반영 표시만
+     */
+    int markApplied(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    // 타일 안의 셀 (Morton 코드 구간)
+    List<HeatCell> findCells(@Param("regionId") int regionId, @Param("level") int level,
+                             @Param("fromCell") long fromCell, @Param("toCell") long toCell);
+
+    // 아직 히트맵에 더하지 않은 활동 (이전 기록 백필 / 실패 재시도, 압축 궤적만)
+    List<PendingActivity> findPendingActivities(@Param("limit") int limit);
+
+    record HeatCell(int level, long cell, long visits) {}
+
+    record PendingActivity(Long sessionId, Long userId, byte[] data) {}
+}
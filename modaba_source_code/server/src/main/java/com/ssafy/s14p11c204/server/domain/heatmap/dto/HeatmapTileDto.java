@@ -0,0 +1,22 @@
+package com.ssafy.s14p11c204.server.domain.heatmap.dto;
+
+import java.util.List;
+
+/**
+ * 히트맵 타일 하나 (z/x/y 지도 타일 안을 cellZoom 타일 크기 격자로 나눈 방문 수)
+ *
+ * @param cellZoom 셀 크기 (이 줌의 지도 타일 1칸). 보통 z + 4 → 타일당 최대 16 x 16 셀
+ * @param cells 방문이 있는 셀만 (x, y 는 cellZoom 기준 타일 좌표)
+ */
+public record HeatmapTileDto(
+        int z,
+        int x,
+        int y,
+        int cellZoom,
+        List<Cell> cells
+) {
+    /**
+     * @param visits 셀 안에서 기록된 위치 수 (약 5초 간격이라 머문 시간에 비례)
+     */
+    public record Cell(int x, int y, long visits) {}
+}
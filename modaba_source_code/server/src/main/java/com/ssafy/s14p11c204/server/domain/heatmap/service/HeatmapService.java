@@ -0,0 +1,205 @@
+package com.ssafy.s14p11c204.server.domain.heatmap.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.service.TrajectoryStorageCodec;
+import com.ssafy.s14p11c204.server.domain.heatmap.dao.HeatmapMapper;
+import com.ssafy.s14p11c204.server.domain.heatmap.dto.HeatmapTileDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활동 히트맵 (게임이 실제로 열리는 곳)
+ *
+ * - 지도 타일 피라미드: 레벨 8~19 의 타일마다 기록된 위치 수. 셀 키는 (x, y) 의 Morton 코드라
+ *   지도 타일 하나 안의 셀은 PK 한 구간 → 조회는 타일 수에 비례 (궤적은 읽지 않음)
+ * - 활동을 저장할 때 그 궤적만 더함 (재계산 없음). heat_applied 로 한 번만 더해짐
+ * - 더하지 못한 활동 / 이전 기록은 주기적으로 조금씩 백필
+ * - 백필은 활동마다 따로 처리. 궤적을 풀 수 없는 활동은 바로, 반영이 BACKFILL_MAX_ATTEMPTS 번 실패한 활동은
+ *   반영 표시만 하고 건너뜀 (한 건 때문에 뒤의 활동이 계속 막히지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeatmapService {
+
+    public static final int MIN_LEVEL = 8;   // 약 150km 셀
+    public static final int MAX_LEVEL = 19;  // 약 60m 셀 (위도 37도)
+    static final int CELLS_PER_TILE_ZOOM = 4; // 타일당 16 x 16 셀
+    public static final int GLOBAL = 0;
+    static final int BACKFILL_BATCH_SIZE = 50;
+    static final int BACKFILL_MAX_ATTEMPTS = 3;
+
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private final HeatmapMapper heatmapMapper;
+    private final TrajectoryStorageCodec trajectoryStorageCodec;
+
+    // 백필 실패 횟수 (sessionId:userId -> 횟수). 서버마다 따로 세며 재시작하면 처음부터
+    private final Map<String, Integer> backfillFailures = new ConcurrentHashMap<>();
+
+    /**
+     * 저장된 활동 하나의 궤적을 히트맵에 더함 (이미 더한 활동이면 무시)
+     */
+    public void accumulate(Long sessionId, Long userId, List<TrajectoryPoint> trajectory) {
+        Collection<HeatmapMapper.HeatCell> cells = aggregate(trajectory);
+        if (cells.isEmpty()) {
+            heatmapMapper.markApplied(sessionId, userId);
+            return;
+        }
+        heatmapMapper.applyActivity(sessionId, userId, cells);
+    }
+
+    public HeatmapTileDto getTile(Integer regionId, int z, int x, int y) {
+        if (z < 0 || z > 24 || x < 0 || y < 0 || x >= (1L << z) || y >= (1L << z)) {
+            throw new IllegalArgumentException("올바르지 않은 타일 좌표입니다: " + z + "/" + x + "/" + y);
+        }
+        int level = Math.clamp(z + CELLS_PER_TILE_ZOOM, MIN_LEVEL, MAX_LEVEL);
+        long fromCell;
+        long toCell;
+        if (level >= z) {
+            int shift = 2 * (level - z);
+            fromCell = morton(x, y) << shift;
+            toCell = fromCell + (1L << shift) - 1;
+        } else {
+            // 가장 세밀한 셀보다 작은 타일 - 타일을 품은 셀 하나
+            fromCell = morton(x >> (z - level), y >> (z - level));
+            toCell = fromCell;
+        }
+
+        List<HeatmapTileDto.Cell> cells = heatmapMapper.findCells(regionId != null ? regionId : GLOBAL, level, fromCell, toCell)
+                .stream()
+                .map(c -> new HeatmapTileDto.Cell(unmortonX(c.cell()), unmortonY(c.cell()), c.visits()))
+                .toList();
+        return new HeatmapTileDto(z, x, y, level, cells);
+    }
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 30_000)
+    public void backfill() {
+        List<HeatmapMapper.PendingActivity> pendings;
+        try {
+            pendings = heatmapMapper.findPendingActivities(BACKFILL_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Failed to load activities to backfill heatmap: {}", e.getMessage(), e);
+            return;
+        }
+        for (HeatmapMapper.PendingActivity pending : pendings) {
+            backfill(pending);
+        }
+    }
+
+    private void backfill(HeatmapMapper.PendingActivity pending) {
+        String key = pending.sessionId() + ":" + pending.userId();
+        List<TrajectoryPoint> trajectory;
+        try {
+            trajectory = trajectoryStorageCodec.decode(pending.data());
+        } catch (Exception e) {
+            // 다시 해도 같음 - 반영 표시만 하고 건너뜀
+            log.error("Skipping heatmap for session {}, user {}: unreadable trajectory ({})",
+                    pending.sessionId(), pending.userId(), e.getMessage());
+            skip(pending, key);
+            return;
+        }
+        try {
+            accumulate(pending.sessionId(), pending.userId(), trajectory);
+            backfillFailures.remove(key);
+        } catch (Exception e) {
+            int failures = backfillFailures.merge(key, 1, Integer::sum);
+            if (failures < BACKFILL_MAX_ATTEMPTS) {
+                log.warn("Failed to backfill heatmap for session {}, user {} (attempt {}): {}",
+                        pending.sessionId(), pending.userId(), failures, e.getMessage());
+                return;
+            }
+            log.error("Skipping heatmap for session {}, user {} after {} failed attempts: {}",
+                    pending.sessionId(), pending.userId(), failures, e.getMessage(), e);
+            skip(pending, key);
+        }
+    }
+
+    private void skip(HeatmapMapper.PendingActivity pending, String key) {
+        try {
+            heatmapMapper.markApplied(pending.sessionId(), pending.userId());
+            backfillFailures.remove(key);
+        } catch (Exception e) {
+            log.error("Failed to mark heatmap skipped for session {}, user {}: {}",
+                    pending.sessionId(), pending.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 레벨별 셀 방문 수 (궤적 하나 안에서 먼저 합쳐 행 수를 줄임)
+     */
+    static Collection<HeatmapMapper.HeatCell> aggregate(List<TrajectoryPoint> trajectory) {
+        Map<Long, Long> finest = new HashMap<>();
+        for (TrajectoryPoint p : trajectory) {
+            long cell = morton(tileX(p.lng(), MAX_LEVEL), tileY(p.lat(), MAX_LEVEL));
+            finest.merge(cell, 1L, Long::sum);
+        }
+
+        // 부모 셀 = Morton 코드를 2비트씩 버린 값
+        List<HeatmapMapper.HeatCell> cells = new ArrayList<>();
+        Map<Long, Long> current = finest;
+        for (int level = MAX_LEVEL; level >= MIN_LEVEL; level--) {
+            Map<Long, Long> parent = new HashMap<>();
+            for (Map.Entry<Long, Long> e : current.entrySet()) {
+                cells.add(new HeatmapMapper.HeatCell(level, e.getKey(), e.getValue()));
+                parent.merge(e.getKey() >>> 2, e.getValue(), Long::sum);
+            }
+            current = parent;
+        }
+        return cells;
+    }
+
+    static int tileX(double lng, int level) {
+        int n = 1 << level;
+        return Math.clamp((long) Math.floor((lng + 180.0) / 360.0 * n), 0, n - 1);
+    }
+
+    static int tileY(double lat, int level) {
+        int n = 1 << level;
+        double rad = Math.toRadians(Math.clamp(lat, -MAX_MERCATOR_LAT, MAX_MERCATOR_LAT));
+        double y = (1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0 * n;
+        return Math.clamp((long) Math.floor(y), 0, n - 1);
+    }
+
+    // (x, y) 비트를 번갈아 섞은 Z-order 코드: 상위 타일의 하위 셀들이 연속된 구간이 됨
+    static long morton(int x, int y) {
+        return spread(x) | (spread(y) << 1);
+    }
+
+    static int unmortonX(long code) {
+        return compact(code);
+    }
+
+    static int unmortonY(long code) {
+        return compact(code >>> 1);
+    }
+
+    private static long spread(int v) {
+        long x = v & 0xFFFFFFFFL;
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
+    }
+
+    private static int compact(long code) {
+        long x = code & 0x5555555555555555L;
+        x = (x | (x >>> 1)) & 0x3333333333333333L;
+        x = (x | (x >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x >>> 4)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x >>> 8)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x >>> 16)) & 0x00000000FFFFFFFFL;
+        return (int) x;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.s14p11c204.server.domain.ranking.api;
+
+import com.ssafy.s14p11c204.server.domain.ranking.dto.MyRankingDto;
+import com.ssafy.s14p11c204.server.domain.ranking.dto.RankingEntryDto;
+import com.ssafy.s14p11c204.server.domain.ranking.service.LeaderboardService;
+import com.ssafy.s14p11c204.server.domain.user.dto.CurrentUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v0/rankings")
+@Tag(name = "RankingController", description = "MMR 리더보드 API")
+@RestController
+public class RankingControllerV0 {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping("/global")
+    @Operation(summary = "전체 랭킹 조회", description = "MMR 내림차순 전체 랭킹을 페이지 단위로 조회합니다. (page는 0부터, size 최대 100)")
+    public ResponseEntity<List<RankingEntryDto>> getGlobalRanking(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(leaderboardService.getGlobalPage(page, size));
+    }
+
+    @GetMapping("/regions/{regionId}")
+    @Operation(summary = "지역 랭킹 조회", description = "마지막으로 해당 지역에서 플레이한 유저들의 랭킹을 조회합니다.")
+    public ResponseEntity<List<RankingEntryDto>> getRegionRanking(
+            @PathVariable Integer regionId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(leaderboardService.getRegionPage(regionId, page, size));
+    }
+
+    @GetMapping("/friends")
+    @Operation(summary = "친구 랭킹 조회", description = "나와 친구들의 MMR 랭킹을 조회합니다.")
+    public ResponseEntity<List<RankingEntryDto>> getFriendRanking(@AuthenticationPrincipal CurrentUser currentUser) {
+        return ResponseEntity.ok(leaderboardService.getFriendBoard(currentUser.id()));
+    }
+
+    @GetMapping("/me")
+    @Operation(summary = "내 랭킹 조회", description = "전체 / 지역 순위와 상위 몇 %인지 조회합니다.")
+    public ResponseEntity<MyRankingDto> getMyRanking(@AuthenticationPrincipal CurrentUser currentUser) {
+        return ResponseEntity.ok(leaderboardService.getMyRanking(currentUser.id()));
+    }
+
+    @GetMapping("/me/around")
+    @Operation(summary = "내 주변 랭킹 조회", description = "전체 랭킹에서 내 위아래 range명씩 조회합니다. (range 최대 25)")
+    public ResponseEntity<List<RankingEntryDto>> getRankingAroundMe(
+            @AuthenticationPrincipal CurrentUser currentUser,
+            @RequestParam(defaultValue = "5") int range) {
+        return ResponseEntity.ok(leaderboardService.getAroundMe(currentUser.id(), range));
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.s14p11c204.server.domain.ranking.dao;
+
+import com.ssafy.s14p11c204.server.domain.user.dto.ProfileSimpleResponse;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리더보드용 조회 (순위 계산은 Redis에서, DB는 PK 조회와 시작 시 재구성만)
+ */
+@Mapper
+public interface RankingMapper {
+
+    // 페이지에 나온 유저들의 닉네임 / 프로필 (PK IN 조회)
+    List<ProfileSimpleResponse> findProfiles(@Param("userIds") Collection<Long> userIds);
+
+    // 보드에 아직 없는 유저의 현재 MMR (PK 조회)
+    Optional<Integer> findMmr(@Param("userId") Long userId);
+
+    // 보드에 없는 친구들의 MMR (PK IN 조회)
+    List<LeaderboardSeed> findMmrs(@Param("userIds") Collection<Long> userIds);
+
+    // 재구성: 활성 유저 전체를 한 줄씩 흘려보냄 (결과 전체를 메모리에 올리지 않음)
+    void streamLeaderboardSeeds(ResultHandler<LeaderboardSeed> handler);
+
+    /**
+     * @param regionId 마지막으로 플레이한 방의 지역 (없으면 null)
+     */
+    record LeaderboardSeed(Long userId, Integer mmr, Integer regionId) {}
+}
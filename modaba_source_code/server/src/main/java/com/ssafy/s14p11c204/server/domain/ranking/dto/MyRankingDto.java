@@ -0,0 +1,25 @@
+package com.ssafy.s14p11c204.server.domain.ranking.dto;
+
+import lombok.Builder;
+
+/**
+ * 내 순위 요약
+ *
+ * @param rank 전체 순위 (1부터)
+ * @param total 전체 보드 인원
+ * @param topPercent 상위 몇 %인지 (히스토그램 기준, 소수 첫째 자리까지)
+ * @param regionId 마지막으로 플레이한 지역 (없으면 null)
+ * @param regionRank 지역 보드 순위 (지역이 없으면 null)
+ */
+@Builder
+public record MyRankingDto(
+        Long userId,
+        int mmr,
+        long rank,
+        long total,
+        double topPercent,
+        Integer regionId,
+        Long regionRank,
+        Long regionTotal
+) {
+}
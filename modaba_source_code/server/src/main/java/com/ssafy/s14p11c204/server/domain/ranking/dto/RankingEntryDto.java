@@ -0,0 +1,16 @@
+package com.ssafy.s14p11c204.server.domain.ranking.dto;
+
+/**
+ * 리더보드 한 줄
+ *
+ * @param rank 1부터 시작하는 순위 (같은 보드 안에서)
+ * @param imageLink 서버에 저장된 유저의 프로필 사진 다운로드 링크입니다.
+ */
+public record RankingEntryDto(
+        long rank,
+        Long userId,
+        String nickname,
+        String imageLink,
+        int mmr
+) {
+}
@@ -0,0 +1,312 @@
+package com.ssafy.s14p11c204.server.domain.ranking.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.GameResultDto;
+import com.ssafy.s14p11c204.server.domain.ranking.dao.RankingMapper;
+import com.ssafy.s14p11c204.server.domain.ranking.dto.MyRankingDto;
+import com.ssafy.s14p11c204.server.domain.ranking.dto.RankingEntryDto;
+import com.ssafy.s14p11c204.server.domain.social.mapper.FriendMapper;
+import com.ssafy.s14p11c204.server.domain.user.dto.ProfileSimpleResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * MMR 리더보드 (Redis ZSET)
+ *
+ * - 전체 보드 leaderboard:global, 지역 보드 leaderboard:region:{regionId} (마지막으로 플레이한 방의 지역)
+ * - 정산 커밋 이후 Lua 스크립트 1회로 전체/지역 보드 + MMR 히스토그램을 함께 갱신
+ * - 순위 조회는 ZREVRANK / ZREVRANGE (O(log n)), DB는 페이지에 나온 유저의 PK 조회만 한다
+ * - 상위 % 는 구간별 인원 히스토그램으로 계산 (보드 전체를 훑지 않음)
+ * - 재구성 완료 표시(leaderboard:ready)가 없으면 서버 시작 시 보드를 비우고 유저 전체를 스트리밍해서 재구성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    static final String GLOBAL_KEY = "leaderboard:global";
+    static final String REGION_KEY_PREFIX = "leaderboard:region:";
+    static final String USER_REGION_KEY = "leaderboard:user-region";
+    static final String HISTOGRAM_KEY = "leaderboard:histogram";
+    static final String REBUILD_LOCK_KEY = "leaderboard:rebuild-lock";
+    static final String READY_KEY = "leaderboard:ready";
+
+    static final int BUCKET_WIDTH = 50;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_AROUND_RANGE = 25;
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/leaderboard_update.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RankingMapper rankingMapper;
+    private final RoomMapper roomMapper;
+    private final FriendMapper friendMapper;
+
+    /**
+     * MMR 정산 커밋 이후 호출. 게임 방의 지역 보드로 옮기고 점수를 갱신한다.
+     */
+    public void recordSettlement(Long roomId, List<GameResultDto.PlayerResultDto> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+        Integer regionId = roomMapper.findRegionIdByRoomId(roomId).orElse(null);
+        List<RankingMapper.LeaderboardSeed> seeds = players.stream()
+                .map(player -> new RankingMapper.LeaderboardSeed(player.getUserId(), player.getNewMmr(), regionId))
+                .toList();
+        update(seeds);
+    }
+
+    public List<RankingEntryDto> getGlobalPage(int page, int size) {
+        return getPage(GLOBAL_KEY, page, size);
+    }
+
+    public List<RankingEntryDto> getRegionPage(Integer regionId, int page, int size) {
+        return getPage(REGION_KEY_PREFIX + regionId, page, size);
+    }
+
+    /**
+     * 친구 보드: 나 + 친구들의 점수를 전체 보드에서 한 번에 읽어(ZMSCORE) 정렬
+     */
+    public List<RankingEntryDto> getFriendBoard(Long userId) {
+        ensureRanked(userId);
+        Map<Long, ProfileSimpleResponse> profiles = new HashMap<>();
+        for (ProfileSimpleResponse friend : friendMapper.findFriends(userId)) {
+            profiles.put(friend.id(), friend);
+        }
+        List<Long> ids = new ArrayList<>(profiles.keySet());
+        ids.add(userId);
+
+        List<Double> scores = redisTemplate.opsForZSet().score(GLOBAL_KEY,
+                ids.stream().map(String::valueOf).toArray(Object[]::new));
+        Map<Long, Integer> mmrs = new HashMap<>();
+        List<Long> unranked = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Double score = scores != null ? scores.get(i) : null;
+            if (score != null) {
+                mmrs.put(ids.get(i), score.intValue());
+            } else {
+                unranked.add(ids.get(i));
+            }
+        }
+        // 아직 한 판도 안 한 친구는 DB의 현재 MMR로 (PK 조회)
+        if (!unranked.isEmpty()) {
+            for (RankingMapper.LeaderboardSeed seed : rankingMapper.findMmrs(unranked)) {
+                mmrs.put(seed.userId(), seed.mmr());
+            }
+        }
+        if (!profiles.containsKey(userId)) {
+            rankingMapper.findProfiles(List.of(userId)).forEach(me -> profiles.put(me.id(), me));
+        }
+
+        List<Map.Entry<Long, Integer>> sorted = mmrs.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .toList();
+        List<RankingEntryDto> board = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<Long, Integer> entry = sorted.get(i);
+            ProfileSimpleResponse profile = profiles.get(entry.getKey());
+            board.add(new RankingEntryDto(i + 1, entry.getKey(),
+                    profile != null ? profile.nickname() : null,
+                    profile != null ? profile.imageLink() : null,
+                    entry.getValue()));
+        }
+        return board;
+    }
+
+    public MyRankingDto getMyRanking(Long userId) {
+        int mmr = ensureRanked(userId);
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        String member = userId.toString();
+
+        Long rank = zSet.reverseRank(GLOBAL_KEY, member);
+        Long total = zSet.zCard(GLOBAL_KEY);
+
+        String region = redisTemplate.<String, String>opsForHash().get(USER_REGION_KEY, member);
+        Long regionRank = null;
+        Long regionTotal = null;
+        if (region != null) {
+            Long zeroBased = zSet.reverseRank(REGION_KEY_PREFIX + region, member);
+            regionRank = zeroBased != null ? zeroBased + 1 : null;
+            regionTotal = zSet.zCard(REGION_KEY_PREFIX + region);
+        }
+
+        return MyRankingDto.builder()
+                .userId(userId)
+                .mmr(mmr)
+                .rank(rank != null ? rank + 1 : 0)
+                .total(total != null ? total : 0)
+                .topPercent(topPercent(readHistogram(), mmr, BUCKET_WIDTH))
+                .regionId(region != null ? Integer.valueOf(region) : null)
+                .regionRank(regionRank)
+                .regionTotal(regionTotal)
+                .build();
+    }
+
+    /**
+     * 내 위아래 range명씩 (전체 보드)
+     */
+    public List<RankingEntryDto> getAroundMe(Long userId, int range) {
+        ensureRanked(userId);
+        int clamped = Math.clamp(range, 1, MAX_AROUND_RANGE);
+        Long rank = redisTemplate.opsForZSet().reverseRank(GLOBAL_KEY, userId.toString());
+        if (rank == null) {
+            return List.of();
+        }
+        long start = Math.max(0, rank - clamped);
+        return getRange(GLOBAL_KEY, start, rank + clamped);
+    }
+
+    /**
+     * 재구성이 끝난 적이 없을 때(최초 기동 / 데이터 유실 / 이전 재구성 실패) 유저 전체를 스트리밍해서 보드를 다시 만든다.
+     * 전체 보드 키 유무로는 판단하지 않는다 (순위 조회의 ensureRanked 나 중간에 실패한 재구성이 일부만 채워 둠).
+     * 남아 있는 보드 / 히스토그램은 먼저 지운다 (전체 보드만 유실된 상태에서 다시 세면 히스토그램이 두 번 더해짐).
+     * 여러 서버가 동시에 기동해도 락을 잡은 한 서버만 수행한다.
+     * 같은 갱신 스크립트를 쓰므로 재구성 도중 들어온 정산과 섞여도 히스토그램 인원이 어긋나지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true) // 커서 스트리밍 (fetchSize)은 트랜잭션 안에서만 동작
+    public void rebuildIfEmpty() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL))) {
+            return;
+        }
+        try {
+            clearBoards();
+            List<RankingMapper.LeaderboardSeed> chunk = new ArrayList<>(REBUILD_CHUNK_SIZE);
+            long[] rebuilt = {0};
+            rankingMapper.streamLeaderboardSeeds(context -> {
+                chunk.add(context.getResultObject());
+                if (chunk.size() == REBUILD_CHUNK_SIZE) {
+                    update(chunk);
+                    rebuilt[0] += chunk.size();
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                update(chunk);
+                rebuilt[0] += chunk.size();
+            }
+            redisTemplate.opsForValue().set(READY_KEY, "1");
+            log.info("Leaderboard rebuilt with {} users", rebuilt[0]);
+        } catch (Exception e) {
+            log.error("Failed to rebuild leaderboard: {}", e.getMessage(), e);
+        } finally {
+            redisTemplate.delete(REBUILD_LOCK_KEY);
+        }
+    }
+
+    // 전체 / 지역 보드, 유저-지역 매핑, 히스토그램 삭제 (지역 보드는 SCAN 으로 찾음)
+    private void clearBoards() {
+        List<String> keys = new ArrayList<>(List.of(GLOBAL_KEY, USER_REGION_KEY, HISTOGRAM_KEY));
+        ScanOptions options = ScanOptions.scanOptions().match(REGION_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> regionKeys = redisTemplate.scan(options)) {
+            while (regionKeys.hasNext()) {
+                keys.add(regionKeys.next());
+            }
+        }
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 상위 % (내 구간과 그 위 구간 인원 / 전체). 같은 구간 안의 순서는 구분하지 않으므로 보수적인 값
+     */
+    static double topPercent(Map<Long, Long> histogram, int mmr, int bucketWidth) {
+        long bucket = Math.floorDiv(mmr, bucketWidth);
+        long total = 0;
+        long atOrAbove = 0;
+        for (Map.Entry<Long, Long> entry : histogram.entrySet()) {
+            long count = Math.max(0, entry.getValue());
+            total += count;
+            if (entry.getKey() >= bucket) {
+                atOrAbove += count;
+            }
+        }
+        if (total == 0) {
+            return 100.0;
+        }
+        return Math.ceil(atOrAbove * 1000.0 / total) / 10.0;
+    }
+
+    private Map<Long, Long> readHistogram() {
+        Map<String, String> raw = redisTemplate.<String, String>opsForHash().entries(HISTOGRAM_KEY);
+        return raw.entrySet().stream()
+                .collect(Collectors.toMap(entry -> Long.valueOf(entry.getKey()), entry -> Long.valueOf(entry.getValue())));
+    }
+
+    // 보드에 없는 유저(아직 한 판도 안 함)는 DB의 현재 MMR로 추가하고 그 MMR을 반환
+    private int ensureRanked(Long userId) {
+        Double score = redisTemplate.opsForZSet().score(GLOBAL_KEY, userId.toString());
+        if (score != null) {
+            return score.intValue();
+        }
+        int mmr = rankingMapper.findMmr(userId).orElse(1000);
+        update(List.of(new RankingMapper.LeaderboardSeed(userId, mmr, null)));
+        return mmr;
+    }
+
+    private void update(List<RankingMapper.LeaderboardSeed> seeds) {
+        List<String> args = new ArrayList<>(2 + seeds.size() * 3);
+        args.add(REGION_KEY_PREFIX);
+        args.add(String.valueOf(BUCKET_WIDTH));
+        for (RankingMapper.LeaderboardSeed seed : seeds) {
+            args.add(seed.userId().toString());
+            args.add(String.valueOf(seed.mmr() != null ? seed.mmr() : 1000));
+            args.add(seed.regionId() != null ? seed.regionId().toString() : "");
+        }
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(GLOBAL_KEY, USER_REGION_KEY, HISTOGRAM_KEY), args.toArray());
+    }
+
+    private List<RankingEntryDto> getPage(String key, int page, int size) {
+        int clampedSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        long start = (long) Math.max(0, page) * clampedSize;
+        return getRange(key, start, start + clampedSize - 1);
+    }
+
+    private List<RankingEntryDto> getRange(String key, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = tuples.stream().map(tuple -> Long.valueOf(tuple.getValue())).toList();
+        Map<Long, ProfileSimpleResponse> profiles = rankingMapper.findProfiles(ids).stream()
+                .collect(Collectors.toMap(ProfileSimpleResponse::id, Function.identity()));
+
+        List<RankingEntryDto> entries = new ArrayList<>(tuples.size());
+        long rank = start + 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            Long id = Long.valueOf(tuple.getValue());
+            ProfileSimpleResponse profile = profiles.get(id);
+            int mmr = tuple.getScore() != null ? tuple.getScore().intValue() : 0;
+            entries.add(new RankingEntryDto(rank++, id,
+                    profile != null ? profile.nickname() : null,
+                    profile != null ? profile.imageLink() : null,
+                    mmr));
+        }
+        return entries;
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.context.annotation.Configuration;
         @MapperScan(basePackageClasses = com.ssafy.s14p11c204.server.domain.user.dao.UserMapperTemp.class),
         @MapperScan(basePackageClasses = com.ssafy.s14p11c204.server.domain.region.mapper.RegionMapper.class),
         @MapperScan(basePackageClasses = com.ssafy.s14p11c204.server.domain.chat.mapper.ChatMapper.class),
+        @MapperScan(basePackageClasses = com.ssafy.s14p11c204.server.domain.ranking.dao.RankingMapper.class),
+        @MapperScan(basePackageClasses = com.ssafy.s14p11c204.server.domain.heatmap.dao.HeatmapMapper.class),
 })
 class MyBatisConfig {
 }
\ No newline at end of file
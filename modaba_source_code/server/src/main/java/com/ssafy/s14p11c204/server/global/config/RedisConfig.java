@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ssafy.s14p11c204.server.domain.chat.service.RadioSubscriber;
 import com.ssafy.s14p11c204.server.domain.chat.service.RedisSubscriber;
+import com.ssafy.s14p11c204.server.domain.game.service.GameStateSubscriber;
 import com.ssafy.s14p11c204.server.domain.game.service.LocationSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,11 +27,14 @@ public class RedisConfig {
                                                               ChannelTopic channelTopic,
                                                               MessageListenerAdapter locationListenerAdapter,
                                                               ChannelTopic locationTopic,
-                                                              MessageListenerAdapter radioListenerAdapter) {
+                                                              MessageListenerAdapter radioListenerAdapter,
+                                                              MessageListenerAdapter gameStateListenerAdapter,
+                                                              ChannelTopic gameStateTopic) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(listenerAdapter, channelTopic);
         container.addMessageListener(locationListenerAdapter, locationTopic);
+        container.addMessageListener(gameStateListenerAdapter, gameStateTopic);
         
         // 무전기 채널 패턴 구독 (radio:*)
         container.addMessageListener(radioListenerAdapter, new PatternTopic("radio:*"));
@@ -59,6 +63,13 @@ public class RedisConfig {
         return adapter;
     }
 
+    @Bean
+    public MessageListenerAdapter gameStateListenerAdapter(GameStateSubscriber subscriber) {
+        MessageListenerAdapter adapter = new MessageListenerAdapter(subscriber, "handleInvalidation");
+        adapter.setSerializer(new StringRedisSerializer());
+        return adapter;
+    }
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
@@ -83,6 +94,12 @@ public class RedisConfig {
         return new ChannelTopic("location");
     }
 
+    // 서버 간 게임 상태 변경 / 종료 알림
+    @Bean
+    public ChannelTopic gameStateTopic() {
+        return new ChannelTopic("game-state");
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -3,6 +3,7 @@ package com.ssafy.s14p11c204.server.global.config;
 import com.ssafy.s14p11c204.server.global.properties.PathProperties;
 import com.ssafy.s14p11c204.server.global.util.JwtAuthenticationFilter;
 import com.ssafy.s14p11c204.server.global.util.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -46,6 +47,8 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(리플레이) 완료 시 재디스패치 - 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 로그인 생성 전까지만 잠시 사용
                         .requestMatchers("/api/v0/rooms/**").permitAll()
                         .requestMatchers("/api/v0/regions/**").permitAll()
@@ -0,0 +1,24 @@
+package com.ssafy.s14p11c204.server.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // 배속 재생 리플레이는 게임 길이만큼 열려 있음 (끊기면 from 으로 이어 보기)
+    private static final Duration ASYNC_TIMEOUT = Duration.ofHours(1);
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // 스트리밍 응답은 대부분 기다리는 시간이라 공용 풀을 점유하지 않도록 가상 스레드로
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-stream-");
+        executor.setVirtualThreads(true);
+        configurer.setTaskExecutor(executor);
+        configurer.setDefaultTimeout(ASYNC_TIMEOUT.toMillis());
+    }
+}
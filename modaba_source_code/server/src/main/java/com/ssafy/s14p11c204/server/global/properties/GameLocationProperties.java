@@ -0,0 +1,47 @@
+package com.ssafy.s14p11c204.server.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 게임 위치 처리 설정 (game.location)
+ * tickInterval: 방 타입(KYUNGDO, FOCUS, APPOINTMENT)별 일괄 전송 주기. 없거나 0이면 메시지마다 즉시 전송
+ * visibleRadius: 방 타입별 상대 팀 위치 공개 반경(m). 설정된 방은 같은 팀 + 반경 안 상대만 개인 채널로 전송
+ * ingestQueueCapacity: 위치 수신 Redis 기록 대기열 크기 (가득 차면 오래된 위치부터 버림)
+ * ingestMaxBatch: 한 번에 꺼내서 기록하는 최대 건수
+ * policeNearbyRadius: 도둑에게 "근처에 경찰" 경고를 보내는 반경(m). 0이면 사용 안 함
+ * autoArrestDistance: 경찰-도둑이 이 거리(m) 안에 들어오면 검거 요청 없이 자동 검거. 0이면 사용 안 함
+ */
+@ConfigurationProperties(prefix = "game.location")
+public record GameLocationProperties(
+        Map<String, Duration> tickInterval,
+        Map<String, Double> visibleRadius,
+        int ingestQueueCapacity,
+        int ingestMaxBatch,
+        double policeNearbyRadius,
+        double autoArrestDistance
+) {
+    public GameLocationProperties {
+        tickInterval = tickInterval == null ? Map.of() : Map.copyOf(tickInterval);
+        visibleRadius = visibleRadius == null ? Map.of() : Map.copyOf(visibleRadius);
+        ingestQueueCapacity = ingestQueueCapacity > 0 ? ingestQueueCapacity : 10_000;
+        ingestMaxBatch = ingestMaxBatch > 0 ? ingestMaxBatch : 256;
+    }
+
+    public Duration tickIntervalOf(String roomType) {
+        if (roomType == null) {
+            return Duration.ZERO;
+        }
+        return tickInterval.getOrDefault(roomType, Duration.ZERO);
+    }
+
+    // 0이면 시야 제한 없음 (방 전체 공개)
+    public double visibleRadiusOf(String roomType) {
+        if (roomType == null) {
+            return 0;
+        }
+        return visibleRadius.getOrDefault(roomType, 0.0);
+    }
+}
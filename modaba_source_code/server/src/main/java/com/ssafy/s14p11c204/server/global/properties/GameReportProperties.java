@@ -0,0 +1,34 @@
+package com.ssafy.s14p11c204.server.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * AI 리포트 작업 설정 (game.report)
+ * timeout: 리포트 1건의 AI 생성 제한 시간. 넘기면 실패로 보고 재시도
+ * concurrency: 서버 1대가 동시에 처리하는 작업 수 (LLM 게이트웨이 동시 호출 상한)
+ * max-attempts: 최대 시도 횟수. 마지막 시도도 실패하면 게임은 기본 안내 리포트를 저장
+ * retry-backoff / max-retry-backoff: 재시도 대기 (시도마다 2배, 상한까지)
+ * lease: 작업 임대 시간. 처리 중 서버가 죽으면 이 시간 뒤 다른 워커가 다시 잡음
+ */
+@ConfigurationProperties(prefix = "game.report")
+public record GameReportProperties(Duration timeout, Integer concurrency, Integer maxAttempts,
+                                   Duration retryBackoff, Duration maxRetryBackoff, Duration lease) {
+    public GameReportProperties {
+        timeout = positiveOr(timeout, Duration.ofSeconds(30));
+        concurrency = concurrency == null || concurrency < 1 ? 4 : concurrency;
+        maxAttempts = maxAttempts == null || maxAttempts < 1 ? 4 : maxAttempts;
+        retryBackoff = positiveOr(retryBackoff, Duration.ofSeconds(5));
+        maxRetryBackoff = positiveOr(maxRetryBackoff, Duration.ofMinutes(5));
+        lease = positiveOr(lease, timeout.multipliedBy(2).plusSeconds(30));
+    }
+
+    public GameReportProperties(Duration timeout) {
+        this(timeout, null, null, null, null, null);
+    }
+
+    private static Duration positiveOr(Duration value, Duration fallback) {
+        return value == null || value.isZero() || value.isNegative() ? fallback : value;
+    }
+}
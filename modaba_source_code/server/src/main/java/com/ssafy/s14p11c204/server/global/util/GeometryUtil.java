@@ -1,9 +1,12 @@
 package com.ssafy.s14p11c204.server.global.util;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 import org.springframework.stereotype.Component;
@@ -14,6 +17,8 @@ public class GeometryUtil {
     private final GeometryFactory geometryFactory = new GeometryFactory();
     private final WKTReader wktReader = new WKTReader();
 
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
     /**
      * WKT 문자열을 JTS Geometry 객체로 변환
      */
@@ -46,9 +51,11 @@ public class GeometryUtil {
      */
     public boolean isOutOfBound(Geometry boundary, double lat, double lng, double bufferDistance) {
         Point point = createPoint(lat, lng);
-        // 버퍼를 적용한 구역 생성 (약간 더 넓게)
-        Geometry bufferedBoundary = boundary.buffer(bufferDistance);
-        return !bufferedBoundary.contains(point);
+        if (boundary.contains(point)) {
+            return false;
+        }
+        // 버퍼 폴리곤을 만들지 않고 경계까지의 거리로 허용 오차 판단
+        return bufferDistance <= 0 || !boundary.isWithinDistance(point, bufferDistance);
     }
     
     /**
@@ -57,7 +64,52 @@ public class GeometryUtil {
      */
     public boolean isNear(Geometry target, double lat, double lng, double distanceLimit) {
         Point point = createPoint(lat, lng);
-        // 대상 구역에 버퍼를 적용하여, 그 안에 점이 들어오는지 확인
-        return target.buffer(distanceLimit).contains(point);
+        // 버퍼 폴리곤 대신 거리 계산 (Envelope 비교 후 필요할 때만 실제 거리 계산)
+        return target.isWithinDistance(point, distanceLimit);
+    }
+
+    /**
+     * 두 좌표 사이 거리 (미터, 하버사인)
+     */
+    public double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+
+    /**
+     * 구역에 버퍼를 미리 적용하고 PreparedGeometry로 만들어 반복 판정용 Geofence 생성
+     * 게임 중 매 위치 메시지마다 buffer()를 다시 계산하지 않도록 방 단위로 캐싱해서 사용한다.
+     */
+    public Geofence prepare(Geometry area, double bufferDistance) {
+        Geometry buffered = bufferDistance > 0 ? area.buffer(bufferDistance) : area;
+        return new Geofence(PreparedGeometryFactory.prepare(buffered), buffered.getEnvelopeInternal());
+    }
+
+    /**
+     * 버퍼가 적용된 구역 (불변, 스레드 안전하게 공유 가능)
+     */
+    public class Geofence {
+        private final PreparedGeometry prepared;
+        private final Envelope envelope;
+
+        private Geofence(PreparedGeometry prepared, Envelope envelope) {
+            this.prepared = prepared;
+            this.envelope = envelope;
+        }
+
+        /**
+         * 점이 구역(버퍼 포함) 안에 있는지 확인
+         * 바운딩 박스 밖이면 실제 폴리곤 판정 없이 바로 false
+         */
+        public boolean contains(double lat, double lng) {
+            if (!envelope.intersects(lng, lat)) {
+                return false;
+            }
+            return prepared.contains(createPoint(lat, lng));
+        }
     }
 }
@@ -0,0 +1,96 @@
+package com.ssafy.s14p11c204.server.global.util;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버(Simple Broker)에 걸려 있는 STOMP 구독 현황
+ * 아무도 구독하지 않은 포맷(JSON/바이너리)은 직렬화 자체를 건너뛰기 위해 사용한다.
+ * 개인 채널(/user/...)은 구독한 사용자 이름(email) 기준으로 기록한다.
+ */
+@Component
+public class StompSubscriptionRegistry {
+
+    // sessionId -> (subscriptionId -> 구독 정보)
+    private final Map<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+
+    // destination -> 구독자 수
+    private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+    // user destination + 사용자 이름 -> 구독 수 (같은 사용자가 여러 세션으로 구독할 수 있음)
+    private final Map<String, Integer> userCounts = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+        Principal user = event.getUser();
+        Subscription subscription = new Subscription(destination, user != null ? user.getName() : null);
+        sessions.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>()).put(subscriptionId, subscription);
+        add(subscription);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Subscription> subscriptions = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Subscription removed = subscriptions.remove(accessor.getSubscriptionId());
+        if (removed != null) {
+            remove(removed);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, Subscription> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::remove);
+        }
+    }
+
+    public boolean hasSubscribers(String destination) {
+        return counts.getOrDefault(destination, 0) > 0;
+    }
+
+    // userDestination 예: /user/sub/game/1/location.bin
+    public boolean isSubscribed(String userName, String userDestination) {
+        return userCounts.getOrDefault(userKey(userDestination, userName), 0) > 0;
+    }
+
+    private void add(Subscription subscription) {
+        counts.merge(subscription.destination(), 1, Integer::sum);
+        if (subscription.userName() != null) {
+            userCounts.merge(userKey(subscription.destination(), subscription.userName()), 1, Integer::sum);
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        counts.computeIfPresent(subscription.destination(), (k, v) -> v > 1 ? v - 1 : null);
+        if (subscription.userName() != null) {
+            userCounts.computeIfPresent(userKey(subscription.destination(), subscription.userName()),
+                    (k, v) -> v > 1 ? v - 1 : null);
+        }
+    }
+
+    private String userKey(String userDestination, String userName) {
+        return userDestination + "#" + userName;
+    }
+
+    private record Subscription(String destination, String userName) {}
+}
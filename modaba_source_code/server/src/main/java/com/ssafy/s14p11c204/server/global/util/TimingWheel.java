@@ -0,0 +1,165 @@
+package com.ssafy.s14p11c204.server.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (tickMillis 단위, 단계마다 wheelSize 배씩 넓어지는 칸)
+ * 예) 100ms x 64칸 x 3단계 → 6.4초 / 6.8분 / 7.3시간 범위를 칸 이동만으로 관리한다.
+ *
+ * - 등록/취소 O(1), 한 틱 처리 시 해당 칸만 확인 (전체 목록을 훑지 않음)
+ * - 윗 단계 칸은 경계에 도달하면 아래 단계로 내려보내고(cascade), 실행은 0단계에서만 한다
+ * - 마감 시각보다 일찍 실행되지 않으며, 늦어도 tickMillis 이내에 실행된다
+ * - 스레드를 갖지 않는다. 호출하는 쪽이 주기적으로 advance(now)를 불러 만료된 작업을 받아 실행한다
+ */
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int levels;
+
+    // [단계][칸] -> 예약 목록
+    private final List<List<Deque<Timeout>>> wheels = new ArrayList<>();
+
+    // 등록 시점에 이미 지난 작업 (다음 advance에서 반환)
+    private final List<Timeout> overdue = new ArrayList<>();
+
+    // 아직 처리하지 않은 다음 틱의 시작 시각 (tickMillis 단위로 정렬)
+    private long current;
+
+    public TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.current = startMillis - startMillis % tickMillis;
+        for (int level = 0; level < levels; level++) {
+            List<Deque<Timeout>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new ArrayDeque<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /**
+     * deadlineMillis(epoch ms)에 실행할 작업 등록. 이미 지난 시각이면 다음 advance에서 바로 실행된다.
+     */
+    public synchronized Timeout schedule(long deadlineMillis, Runnable task) {
+        Timeout timeout = new Timeout(deadlineMillis, task);
+        place(timeout, null);
+        return timeout;
+    }
+
+    /**
+     * now까지 지난 틱을 처리하고, 만료된 작업 목록을 반환 (실행은 호출한 쪽에서 락 밖에서)
+     */
+    public synchronized List<Timeout> advance(long nowMillis) {
+        List<Timeout> expired = new ArrayList<>();
+        drainOverdue(expired);
+        while (current + tickMillis <= nowMillis) {
+            // 0단계 현재 칸: 마감이 [current, current + tick) 인 작업 → 모두 now 이전
+            Deque<Timeout> slot = wheels.getFirst().get(slotIndex(current, tickMillis));
+            collect(slot, expired);
+            current += tickMillis;
+
+            // 윗 단계부터 경계에 도달한 칸을 아래로 내림
+            for (int level = levels - 1; level >= 1; level--) {
+                long width = width(level);
+                if (current % width == 0) {
+                    Deque<Timeout> upper = wheels.get(level).get(slotIndex(current, width));
+                    List<Timeout> moving = new ArrayList<>(upper);
+                    upper.clear();
+                    for (Timeout timeout : moving) {
+                        place(timeout, expired);
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    private void drainOverdue(List<Timeout> expired) {
+        for (Timeout timeout : overdue) {
+            if (!timeout.isCancelled()) {
+                expired.add(timeout);
+            }
+        }
+        overdue.clear();
+    }
+
+    private void place(Timeout timeout, List<Timeout> expired) {
+        if (timeout.deadline < current) {
+            if (expired != null) {
+                if (!timeout.isCancelled()) {
+                    expired.add(timeout);
+                }
+            } else {
+                overdue.add(timeout);
+            }
+            return;
+        }
+        for (int level = 0; level < levels; level++) {
+            long width = width(level);
+            long levelStart = current - current % width;
+            if (timeout.deadline < levelStart + width * wheelSize) {
+                wheels.get(level).get(slotIndex(timeout.deadline, width)).add(timeout);
+                return;
+            }
+        }
+        // 최상위 범위를 넘는 작업은 맨 위 단계에 두고, 해당 칸이 내려올 때마다 다시 배치
+        long top = width(levels - 1);
+        wheels.get(levels - 1).get(slotIndex(timeout.deadline, top)).add(timeout);
+    }
+
+    private void collect(Deque<Timeout> slot, List<Timeout> expired) {
+        for (Timeout timeout : slot) {
+            if (!timeout.isCancelled()) {
+                expired.add(timeout);
+            }
+        }
+        slot.clear();
+    }
+
+    private long width(int level) {
+        long width = tickMillis;
+        for (int i = 0; i < level; i++) {
+            width *= wheelSize;
+        }
+        return width;
+    }
+
+    private int slotIndex(long time, long width) {
+        return (int) ((time / width) % wheelSize);
+    }
+
+    public static class Timeout {
+        private final long deadline;
+        private final Runnable task;
+        private volatile boolean cancelled;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public void run() {
+            if (!cancelled) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- 마감 시각이 지난 게임 타이머를 한 노드만 가져가도록 원자적으로 선점 (임대)
+-- KEYS[1] = game:deadlines (ZSET, member = roomId, score = 종료 시각 epoch ms)
+-- ARGV[1] = roomId, ARGV[2] = 현재 시각 epoch ms, ARGV[3] = 임대 시간 ms
+-- 항목을 지우지 않고 점수를 현재 + 임대 시간으로 미룸 → 종료 처리가 커밋되기 전에 실패하거나 노드가 죽으면
+-- 임대가 끝난 뒤 recoverOverdue 가 다시 가져감. 종료 처리가 커밋되면 선점한 노드가 항목을 제거
+-- 반환: 1 = 선점 성공 (이 노드가 종료 처리), 0 = 아직 마감 전 / 다른 노드가 임대 중 / 취소됨
+local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not score or tonumber(score) > tonumber(ARGV[2]) then
+    return 0
+end
+redis.call('ZADD', KEYS[1], 'XX', tonumber(ARGV[2]) + tonumber(ARGV[3]), ARGV[1])
+return 1
@@ -0,0 +1,33 @@
+-- MMR 리더보드 갱신 (전체 / 지역 보드 + 히스토그램을 한 번에, 원자적으로)
+-- KEYS[1] = leaderboard:global (ZSET, member = userId, score = mmr)
+-- KEYS[2] = leaderboard:user-region (HASH, userId -> 마지막으로 플레이한 지역 ID)
+-- KEYS[3] = leaderboard:histogram (HASH, floor(mmr / 구간 폭) -> 인원 수)
+-- ARGV[1] = 지역 보드 키 접두사 (leaderboard:region:), ARGV[2] = 히스토그램 구간 폭
+-- ARGV[3..] = (userId, mmr, regionId) 반복. regionId가 빈 문자열이면 기존 지역 유지
+-- 반환: 갱신한 유저 수
+local global, userRegion, histogram = KEYS[1], KEYS[2], KEYS[3]
+local regionPrefix, width = ARGV[1], tonumber(ARGV[2])
+
+for i = 3, #ARGV, 3 do
+    local user, mmr, region = ARGV[i], tonumber(ARGV[i + 1]), ARGV[i + 2]
+
+    -- 히스토그램: 이전 구간에서 빼고 새 구간에 더함 (재실행해도 인원 수가 어긋나지 않음)
+    local old = redis.call('ZSCORE', global, user)
+    if old then
+        redis.call('HINCRBY', histogram, math.floor(tonumber(old) / width), -1)
+    end
+    redis.call('HINCRBY', histogram, math.floor(mmr / width), 1)
+    redis.call('ZADD', global, mmr, user)
+
+    local oldRegion = redis.call('HGET', userRegion, user)
+    if region ~= '' then
+        if oldRegion and oldRegion ~= region then
+            redis.call('ZREM', regionPrefix .. oldRegion, user)
+        end
+        redis.call('ZADD', regionPrefix .. region, mmr, user)
+        redis.call('HSET', userRegion, user, region)
+    elseif oldRegion then
+        redis.call('ZADD', regionPrefix .. oldRegion, mmr, user)
+    end
+end
+return (#ARGV - 2) / 3
@@ -0,0 +1,110 @@
+-- 한 유저의 위치 여러 건을 한 번의 왕복으로 처리 (GEOADD + 궤적 일괄 추가 + 누적 통계 갱신 + EXPIRE)
+-- KEYS[1] = room:{roomId}:locations (GEO, 없으면 빈 문자열)
+-- KEYS[2] = trajectory:{sessionId}:{userId} (궤적 버퍼 STRING, 없으면 빈 문자열)
+-- KEYS[3] = trajectory:{sessionId}:{userId}:stats (마지막 위치 + 누적 통계, KEYS[2]가 없으면 빈 문자열)
+-- ARGV[1] = GEO member (직렬화된 닉네임), ARGV[2] = 궤적 TTL (seconds)
+-- ARGV[3..] = (lng, lat, epoch seconds) 반복, 오래된 순 (마지막 위치보다 이른 위치는 버림)
+-- 반환: 궤적에 추가한 위치 수
+--
+-- 궤적 버퍼 (빅엔디언, TrajectoryBufferCodec 과 같은 형식)
+--   헤더 5바이트: u8 버전(1) | u32 기준 시각 (첫 위치 epoch seconds)
+--   위치 14바이트: u32 기준 시각 이후 초 | i32 위도 x 1e7 | i32 경도 x 1e7 | u16 속도 (km/h x 100)
+-- 누적 통계 58바이트:
+--   u32 기준 시각 | u32 마지막 epoch seconds | i32 마지막 위도 x 1e7 | i32 마지막 경도 x 1e7
+--   u32 위치 수 | u32 이동 시간 (초, 1km/h 이상) | f64 총 거리 (m) | f64 속도 합 (km/h)
+--   i32 최소 위도 | i32 최대 위도 | i32 최소 경도 | i32 최대 경도 (x 1e7) | u16 최고 속도 (km/h x 100)
+local STATS_FORMAT = '>IIiiIIddiiiiH'
+local STATS_BYTES = 58
+local MOVING_KMH = 1.0
+
+local n = (#ARGV - 2) / 3
+if n < 1 then
+    return 0
+end
+
+if KEYS[1] ~= '' then
+    local i = 3 + (n - 1) * 3
+    redis.call('GEOADD', KEYS[1], tonumber(ARGV[i]), tonumber(ARGV[i + 1]), ARGV[1])
+end
+
+if KEYS[2] == '' then
+    return 0
+end
+
+local SCALE = 10000000
+local base, prev
+local st = { count = 0, moving = 0, distance = 0, speedSum = 0, maxSpd = 0 }
+local saved = redis.call('GET', KEYS[3])
+if saved and #saved == STATS_BYTES then
+    local b, t, lat, lng
+    b, t, lat, lng, st.count, st.moving, st.distance, st.speedSum,
+        st.minLat, st.maxLat, st.minLng, st.maxLng, st.maxSpd = struct.unpack(STATS_FORMAT, saved)
+    base = b
+    prev = { t = t, lat = lat / SCALE, lng = lng / SCALE }
+end
+
+local header = ''
+if not base then
+    local existing = redis.call('GETRANGE', KEYS[2], 0, 4)
+    if #existing == 5 then
+        local _, b = struct.unpack('>BI', existing)
+        base = b
+    else
+        base = tonumber(ARGV[5])
+        header = struct.pack('>BI', 1, base)
+    end
+end
+
+local records = {}
+local latE7, lngE7
+for k = 0, n - 1 do
+    local i = 3 + k * 3
+    local lng = tonumber(ARGV[i])
+    local lat = tonumber(ARGV[i + 1])
+    local now = tonumber(ARGV[i + 2])
+    -- 마지막 위치보다 이른 위치(늦게 도착한 재전송 등)는 버림 - 궤적 / 통계는 시간순으로만 쌓음
+    if not prev or now >= prev.t then
+        local spd = 0
+        if prev then
+            -- Haversine (m, ActivityServiceImpl.calculateDistance 와 같은 식 - computeStats 와 같은 기준)
+            -- 같은 시각이면 거리만 더하고 속도는 0
+            local r = 6371000
+            local phi1 = math.rad(prev.lat)
+            local phi2 = math.rad(lat)
+            local dPhi = math.rad(lat - prev.lat)
+            local dLambda = math.rad(lng - prev.lng)
+            local a = math.sin(dPhi / 2) ^ 2 + math.cos(phi1) * math.cos(phi2) * math.sin(dLambda / 2) ^ 2
+            local d = r * 2 * math.atan2(math.sqrt(a), math.sqrt(1 - a))
+            st.distance = st.distance + d
+            if now > prev.t then
+                spd = d / (now - prev.t) * 3.6
+                if spd >= MOVING_KMH then
+                    st.moving = st.moving + (now - prev.t)
+                end
+            end
+        end
+        latE7 = math.floor(lat * SCALE + 0.5)
+        lngE7 = math.floor(lng * SCALE + 0.5)
+        local spdScaled = math.max(0, math.min(65535, math.floor(spd * 100 + 0.5)))
+        records[#records + 1] = struct.pack('>IiiH', math.max(0, now - base), latE7, lngE7, spdScaled)
+
+        st.count = st.count + 1
+        st.speedSum = st.speedSum + spd
+        st.maxSpd = math.max(st.maxSpd, spdScaled)
+        st.minLat = math.min(st.minLat or latE7, latE7)
+        st.maxLat = math.max(st.maxLat or latE7, latE7)
+        st.minLng = math.min(st.minLng or lngE7, lngE7)
+        st.maxLng = math.max(st.maxLng or lngE7, lngE7)
+        prev = { t = now, lat = lat, lng = lng }
+    end
+end
+
+if #records == 0 then
+    return 0
+end
+
+redis.call('APPEND', KEYS[2], header .. table.concat(records))
+redis.call('SET', KEYS[3], struct.pack(STATS_FORMAT, base, prev.t, latE7, lngE7, st.count, st.moving,
+        st.distance, st.speedSum, st.minLat, st.maxLat, st.minLng, st.maxLng, st.maxSpd), 'EX', ARGV[2])
+redis.call('EXPIRE', KEYS[2], ARGV[2])
+return #records
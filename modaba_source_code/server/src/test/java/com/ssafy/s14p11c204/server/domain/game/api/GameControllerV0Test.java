@@ -2,9 +2,12 @@ package com.ssafy.s14p11c204.server.domain.game.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.MyPosition;
+import com.ssafy.s14p11c204.server.domain.game.dto.ScoreboardDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.TagRequest;
 import com.ssafy.s14p11c204.server.domain.game.service.GameResultService;
 import com.ssafy.s14p11c204.server.domain.game.service.GameService;
+import com.ssafy.s14p11c204.server.domain.game.service.ScoreboardService;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomExecutor;
 import com.ssafy.s14p11c204.server.global.properties.PathProperties;
 import com.ssafy.s14p11c204.server.global.util.JwtTokenProvider;
 import org.junit.jupiter.api.DisplayName;
@@ -13,21 +16,30 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Map;
+import java.util.Optional;
+
+
 import static com.ssafy.s14p11c204.server.domain.user.DefaultUsers.FRANK;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(GameControllerV0.class)
 @EnableConfigurationProperties(PathProperties.class)
+@Import(RoomExecutor.class)
 class GameControllerV0Test {
 
     @Autowired
@@ -47,6 +59,9 @@ class GameControllerV0Test {
     @MockitoBean
     private GameResultService gameResultService;
 
+    @MockitoBean
+    private ScoreboardService scoreboardService;
+
     private final Long roomId = 1L;
 
     @Nested
@@ -106,4 +121,35 @@ class GameControllerV0Test {
             verify(gameService).refreshPosition(roomId, FRANK.id(), myPosition);
         }
     }
+
+    @Nested
+    @DisplayName("점수판 (GET)")
+    class Scoreboard {
+
+        @Test
+        @DisplayName("진행 중인 게임의 점수판을 조회한다")
+        void getScoreboard() throws Exception {
+            ScoreboardDto scoreboard = ScoreboardDto.builder()
+                    .roomId(roomId).policeCount(1).aliveThiefCount(2).arrestedThiefCount(1)
+                    .totalArrests(1).arrestsByPolice(Map.of("경찰1", 1)).rescuesByPlayer(Map.of())
+                    .build();
+            given(scoreboardService.find(roomId)).willReturn(Optional.of(scoreboard));
+
+            mockMvc.perform(get("/api/v0/games/{roomId}/scoreboard", roomId)
+                            .with(user(FRANK)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.aliveThiefCount").value(2))
+                    .andExpect(jsonPath("$.arrestsByPolice.경찰1").value(1));
+        }
+
+        @Test
+        @DisplayName("진행 중인 게임이 아니면 404")
+        void noGame() throws Exception {
+            given(scoreboardService.find(roomId)).willReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/v0/games/{roomId}/scoreboard", roomId)
+                            .with(user(FRANK)))
+                    .andExpect(status().isNotFound());
+        }
+    }
 }
@@ -5,6 +5,7 @@ import com.ssafy.s14p11c204.server.domain.game.dto.RoomRequestDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomResponseDto;
 import com.ssafy.s14p11c204.server.domain.game.service.RoomService;
 import com.ssafy.s14p11c204.server.domain.game.RoomStatus;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomExecutor;
 import com.ssafy.s14p11c204.server.global.properties.PathProperties;
 import com.ssafy.s14p11c204.server.global.util.JwtTokenProvider;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -34,6 +36,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(RoomControllerV0.class)
 @EnableConfigurationProperties(PathProperties.class)
+@Import(RoomExecutor.class)
 class RoomControllerV0Test {
 
     @Autowired
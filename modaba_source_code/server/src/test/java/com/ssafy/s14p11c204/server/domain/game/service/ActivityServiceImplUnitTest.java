@@ -3,7 +3,9 @@ package com.ssafy.s14p11c204.server.domain.game.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.s14p11c204.server.domain.ai.service.AiTestService;
 import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.heatmap.service.HeatmapService;
 import com.ssafy.s14p11c204.server.domain.user.Repositories.UserMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +15,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 
 import java.lang.reflect.Method;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ActivityServiceImplUnitTest {
@@ -26,9 +27,15 @@ class ActivityServiceImplUnitTest {
             Mockito.mock(RedisTemplate.class),
             new ObjectMapper(),
             Mockito.mock(ActivityMapper.class),
+            Mockito.mock(GameMapper.class),
             Mockito.mock(AiTestService.class),
             Mockito.mock(RoomMapper.class),
-            Mockito.mock(UserMapper.class)
+            Mockito.mock(UserMapper.class),
+            Mockito.mock(LocationIngestService.class),
+            new TrajectoryBufferCodec(),
+            new TrajectoryStorageCodec(new TrajectorySimplifier()),
+            new TrajectorySimplifier(),
+            Mockito.mock(HeatmapService.class)
         );
     }
 
@@ -51,23 +58,4 @@ class ActivityServiceImplUnitTest {
         assertTrue(distance > 1000 && distance < 1200, "거리는 약 1.1km 내외여야 합니다. 실제: " + distance);
     }
 
-    @Test
-    @DisplayName("좌표와 시간차를 이용한 속도 계산 검증 (km/h)")
-    void calculateSpeedTest() throws Exception {
-        // Given
-        double lat1 = 37.4979, lon1 = 127.0276;
-        double lat2 = 37.5012, lon2 = 127.0396; // 약 1,100m
-        long t1 = 1700000000L;
-        long t2 = 1700000060L; // 60초(1분) 차이
-        
-        Method method = ActivityServiceImpl.class.getDeclaredMethod("calculateSpeed", double.class, double.class, long.class, double.class, double.class, long.class);
-        method.setAccessible(true);
-
-        // When
-        double speed = (double) method.invoke(activityService, lat1, lon1, t1, lat2, lon2, t2);
-
-        // Then
-        // 1.1km / 1min = 66km/h (대략적)
-        assertTrue(speed > 60 && speed < 75, "시속은 약 66km/h 내외여야 합니다. 실제: " + speed);
-    }
 }
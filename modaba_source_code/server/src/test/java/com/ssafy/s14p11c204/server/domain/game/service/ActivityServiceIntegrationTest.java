@@ -2,9 +2,8 @@ package com.ssafy.s14p11c204.server.domain.game.service;
 
 import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.ActivityRecord;
+import com.ssafy.s14p11c204.server.domain.game.dto.ActivitySummaryDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,9 +31,6 @@ class ActivityServiceIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    @Autowired
-    private ObjectMapper objectMapper;
-
     private final Long TEST_SESSION_ID = 9999L;
     private final Long TEST_USER_ID = 777L;
     private final Long TEST_ROOM_ID = 555L;
@@ -57,7 +53,7 @@ class ActivityServiceIntegrationTest {
     @AfterEach
     void tearDown() {
         // Redis 데이터 청소
-        String key = "activity:" + TEST_SESSION_ID + ":" + TEST_USER_ID;
+        String key = "trajectory:" + TEST_SESSION_ID + ":" + TEST_USER_ID;
         redisTemplate.delete(key);
         
         // DB 데이터 청소 (자식부터 부모 순으로 삭제)
@@ -82,10 +78,10 @@ class ActivityServiceIntegrationTest {
         activityService.finalizeActivity(TEST_SESSION_ID, TEST_USER_ID);
 
         // [Step 3] 내 활동 리스트 조회 (R)
-        List<ActivityRecord> activities = activityService.getUserActivities(TEST_USER_ID);
+        List<ActivitySummaryDto> activities = activityService.getUserActivities(TEST_USER_ID, null, 20);
         assertFalse(activities.isEmpty(), "저장된 활동 내역이 있어야 합니다.");
         
-        ActivityRecord summary = activities.get(0);
+        ActivitySummaryDto summary = activities.get(0);
         assertEquals(TEST_SESSION_ID, summary.sessionId());
         assertTrue(summary.totalDistance() > 1000, "이동 거리가 1km 이상이어야 합니다. 실제: " + summary.totalDistance());
         assertNotNull(summary.createdAt());
@@ -94,8 +90,8 @@ class ActivityServiceIntegrationTest {
         ActivityRecord detail = activityService.getActivityDetail(TEST_SESSION_ID, TEST_USER_ID);
         assertNotNull(detail, "상세 내역은 null일 수 없습니다.");
 
-        // [Step 5] JSONB 궤적 데이터 역직렬화 및 검증 (record 매핑 확인)
-        List<TrajectoryPoint> points = objectMapper.readValue(detail.trajectory(), new TypeReference<>() {});
+        // [Step 5] 압축 궤적 조회 및 검증 (요청 시에만 해제)
+        List<TrajectoryPoint> points = activityService.getTrajectory(TEST_SESSION_ID, TEST_USER_ID, null, null);
         assertEquals(2, points.size(), "궤적 포인트는 2개여야 합니다.");
         
         TrajectoryPoint firstPoint = points.get(0);
@@ -106,7 +102,7 @@ class ActivityServiceIntegrationTest {
         assertTrue(points.get(1).spd() > 0, "두 번째 포인트의 속도는 0보다 커야 합니다.");
 
         // [Step 6] Redis 데이터 삭제 확인
-        String key = "activity:" + TEST_SESSION_ID + ":" + TEST_USER_ID;
+        String key = "trajectory:" + TEST_SESSION_ID + ":" + TEST_USER_ID;
         Boolean hasKey = redisTemplate.hasKey(key);
         assertFalse(hasKey != null && hasKey, "저장 후 Redis 데이터는 삭제되어야 합니다.");
     }
@@ -0,0 +1,106 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameReplayServiceTest {
+
+    @Mock
+    private ActivityMapper activityMapper;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TrajectoryStorageCodec codec = new TrajectoryStorageCodec(new TrajectorySimplifier());
+    private GameReplayService replayService;
+
+    @BeforeEach
+    void setUp() {
+        replayService = new GameReplayService(activityMapper, gameMapper, codec, objectMapper);
+    }
+
+    @Test
+    @DisplayName("참여자 궤적과 액션 로그를 시각순 한 줄기 NDJSON 으로 보내고, 같은 시각이면 위치가 먼저다")
+    void mergesTracksAndActionsInTimeOrder() throws Exception {
+        // Given
+        when(activityMapper.findReplayTracks(10L)).thenReturn(List.of(
+                new ActivityMapper.ReplayTrack(1L, "경찰", codec.encode(List.of(
+                        new TrajectoryPoint(100, 37.5, 127.0, 0),
+                        new TrajectoryPoint(110, 37.5001, 127.0, 4))), null),
+                new ActivityMapper.ReplayTrack(2L, "도둑", null,
+                        "[{\"t\":105,\"lat\":37.6,\"lng\":127.1,\"spd\":3.0}]")));
+        when(gameMapper.findReplayActions(10L)).thenReturn(List.of(
+                new GameMapper.ReplayAction(7L, 110L, "ARREST", 1L, 2L)));
+
+        // When
+        List<JsonNode> lines = replay(replayService.open(10L, 1L), null);
+
+        // Then
+        assertThat(lines).extracting(line -> line.get("type").asText())
+                .containsExactly("START", "POSITION", "POSITION", "POSITION", "ARREST", "END");
+        assertThat(lines).extracting(line -> line.path("t").asLong())
+                .containsExactly(0L, 100L, 105L, 110L, 110L, 110L);
+        assertThat(lines.getFirst().get("players")).hasSize(2);
+        assertThat(lines.get(2).get("userId").asLong()).isEqualTo(2L);
+        assertThat(lines.get(4).get("targetId").asLong()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("from 을 넘기면 그 시각부터 이어서 보낸다")
+    void resumesFromCursor() throws Exception {
+        // Given
+        when(activityMapper.findReplayTracks(10L)).thenReturn(List.of(
+                new ActivityMapper.ReplayTrack(1L, "경찰", codec.encode(List.of(
+                        new TrajectoryPoint(100, 37.5, 127.0, 0),
+                        new TrajectoryPoint(105, 37.5, 127.0, 0),
+                        new TrajectoryPoint(110, 37.5, 127.0, 0))), null)));
+        when(gameMapper.findReplayActions(10L)).thenReturn(List.of());
+
+        // When
+        List<JsonNode> lines = replay(replayService.open(10L, 1L), 105L);
+
+        // Then
+        assertThat(lines).extracting(line -> line.path("t").asLong())
+                .containsExactly(105L, 105L, 110L, 110L);
+    }
+
+    @Test
+    @DisplayName("참여하지 않은 게임은 스트리밍을 시작하기 전에 거절한다")
+    void rejectsNonParticipant() {
+        when(activityMapper.findReplayTracks(10L)).thenReturn(List.of(
+                new ActivityMapper.ReplayTrack(1L, "경찰", null, null)));
+
+        assertThatThrownBy(() -> replayService.open(10L, 99L)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(gameMapper);
+    }
+
+    private List<JsonNode> replay(GameReplayService.GameReplay replay, Long from) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replayService.stream(replay, from, 0, out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
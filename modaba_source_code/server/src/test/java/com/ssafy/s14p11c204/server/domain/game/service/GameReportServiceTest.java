@@ -0,0 +1,159 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiResponse;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportReadyDto;
+import com.ssafy.s14p11c204.server.global.properties.GameReportProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class GameReportServiceTest {
+
+    private final ActivityService activityService = mock(ActivityService.class);
+    private final ReportJobService reportJobService = mock(ReportJobService.class);
+    private final GameReportService gameReportService = new GameReportService(
+            activityService, reportJobService, new GameReportProperties(Duration.ofMillis(200)));
+
+    @AfterEach
+    void tearDown() {
+        gameReportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("게임이 끝나면 플레이어마다 궤적 정산 작업만 등록하고 바로 반환한다")
+    void startEnqueuesJobs() {
+        // When
+        gameReportService.start(1L, 10L, List.of(1L, 2L));
+
+        // Then
+        verify(reportJobService).enqueue(ReportJobDto.Type.TRAJECTORY, 1L, 10L, List.of(1L, 2L));
+        verifyNoInteractions(activityService);
+    }
+
+    @Test
+    @DisplayName("궤적을 정산해 저장하면 LLM 을 기다리지 않고 GAME 리포트 작업을 등록한다")
+    void finalizeEnqueuesGameJob() {
+        // When
+        ReportReadyDto.Status status = gameReportService.finalizeTrajectory(1L, 10L, 1L, false);
+
+        // Then
+        verify(activityService).finalizeActivity(10L, 1L);
+        verify(activityService, never()).generateReport(any(), any());
+        verify(reportJobService).enqueue(ReportJobDto.Type.GAME, 1L, 10L, List.of(1L));
+        assertThat(status).isEqualTo(ReportReadyDto.Status.READY);
+    }
+
+    @Test
+    @DisplayName("재시도 때는 이미 저장된 활동 기록을 다시 정산하지 않는다")
+    void retrySkipsFinalize() {
+        // Given
+        when(activityService.hasActivity(10L, 1L)).thenReturn(true);
+
+        // When
+        gameReportService.finalizeTrajectory(1L, 10L, 1L, false);
+
+        // Then
+        verify(activityService, never()).finalizeActivity(any(), any());
+        verify(reportJobService).enqueue(ReportJobDto.Type.GAME, 1L, 10L, List.of(1L));
+    }
+
+    @Test
+    @DisplayName("활동 기록 저장에 실패하면 GAME 작업을 등록하지 않고 예외로 넘긴다")
+    void finalizeFailed() {
+        // Given
+        doThrow(new IllegalStateException("DB 오류")).when(activityService).finalizeActivity(10L, 4L);
+
+        // When & Then
+        assertThatThrownBy(() -> gameReportService.finalizeTrajectory(1L, 10L, 4L, false))
+                .hasMessage("DB 오류");
+        verifyNoInteractions(reportJobService);
+    }
+
+    @Test
+    @DisplayName("마지막 시도에서도 정산에 실패하면 FAILED 로 끝내고 실패 알림을 위해 GAME 작업을 등록한다")
+    void finalizeFailedOnLastAttempt() {
+        // Given
+        doThrow(new IllegalStateException("DB 오류")).when(activityService).finalizeActivity(10L, 4L);
+
+        // When
+        ReportReadyDto.Status status = gameReportService.finalizeTrajectory(1L, 10L, 4L, true);
+
+        // Then
+        assertThat(status).isEqualTo(ReportReadyDto.Status.FAILED);
+        verify(reportJobService).enqueue(ReportJobDto.Type.GAME, 1L, 10L, List.of(4L));
+    }
+
+    @Test
+    @DisplayName("리포트가 생성되면 정산된 기록에 저장하고 READY 를 반환한다")
+    void reportReady() {
+        // Given
+        GameAiResponse report = new GameAiResponse("요약", "칭호", List.of(), "조언");
+        when(activityService.hasActivity(10L, 1L)).thenReturn(true);
+        when(activityService.generateReport(10L, 1L)).thenReturn(report);
+
+        // When
+        ReportReadyDto.Status status = gameReportService.process(10L, 1L, false);
+
+        // Then
+        verify(activityService, never()).finalizeActivity(any(), any());
+        verify(activityService).saveReport(10L, 1L, report);
+        assertThat(status).isEqualTo(ReportReadyDto.Status.READY);
+    }
+
+    @Test
+    @DisplayName("정산된 활동 기록이 없으면 LLM 을 호출하지 않고 FAILED 를 반환한다")
+    void reportWithoutActivity() {
+        // When
+        ReportReadyDto.Status status = gameReportService.process(10L, 5L, false);
+
+        // Then
+        assertThat(status).isEqualTo(ReportReadyDto.Status.FAILED);
+        verify(activityService, never()).generateReport(any(), any());
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 저장하지 않고 예외로 넘겨 재시도하게 한다")
+    void reportTimeoutRetried() {
+        // Given: LLM 응답이 제한 시간(200ms)보다 늦음
+        when(activityService.hasActivity(10L, 2L)).thenReturn(true);
+        when(activityService.generateReport(10L, 2L)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return new GameAiResponse("늦은 요약", "칭호", List.of(), "조언");
+        });
+
+        // When
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> gameReportService.process(10L, 2L, false))
+                .isInstanceOf(IllegalStateException.class);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(2_000);
+        verify(activityService, never()).saveReport(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 시도에서도 AI 가 실패하면 기본 리포트를 저장하고 FALLBACK 을 반환한다")
+    void lastAttemptFallback() {
+        // Given
+        when(activityService.hasActivity(10L, 3L)).thenReturn(true);
+        when(activityService.generateReport(10L, 3L)).thenThrow(new IllegalStateException("LLM 오류"));
+
+        // When
+        ReportReadyDto.Status status = gameReportService.process(10L, 3L, true);
+
+        // Then
+        verify(activityService).saveReport(eq(10L), eq(3L), isNull());
+        assertThat(status).isEqualTo(ReportReadyDto.Status.FALLBACK);
+    }
+}
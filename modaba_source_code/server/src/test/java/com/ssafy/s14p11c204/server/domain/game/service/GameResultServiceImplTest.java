@@ -0,0 +1,139 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.chat.service.RedisPublisher;
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.GameResultDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.event.GameSettledEvent;
+import com.ssafy.s14p11c204.server.domain.ranking.service.LeaderboardService;
+import com.ssafy.s14p11c204.server.domain.user.dto.MmrHistoryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameResultServiceImplTest {
+
+    @InjectMocks
+    private GameResultServiceImpl gameResultService;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @Mock
+    private RoomMapper roomMapper;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private GameReportService gameReportService;
+
+    @Mock
+    private ReportJobWorker reportJobWorker;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private ChannelTopic channelTopic;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<Object> eventCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<MmrHistoryDto>> historiesCaptor;
+
+    @Test
+    @DisplayName("경찰 승리 정산: MMR / 히스토리는 한 번에 반영하고, 승패 전적은 세션 단위 키로 집계 이벤트를 발행한다")
+    void settlesInBulk() {
+        // Given
+        Long roomId = 1L;
+        List<GameResultDto.PlayerResultDto> players = List.of(
+                player(1L, "경찰1", PlayerRole.POLICE),
+                player(2L, "도둑1", PlayerRole.THIEF),
+                player(3L, "도둑2", PlayerRole.THIEF));
+
+        when(gameMapper.findCurrentSessionId(roomId)).thenReturn(Optional.of(10L));
+        when(gameMapper.findGameParticipants(roomId)).thenReturn(players);
+        when(gameMapper.updateGameSession(roomId, 1000, "POLICE")).thenReturn(1);
+
+        // When
+        gameResultService.processGameResult(roomId, "POLICE");
+
+        // Then
+        verify(gameMapper, times(1)).updateUserMmrs(players);
+        verify(gameMapper, times(1)).insertMmrHistories(historiesCaptor.capture());
+        verify(gameMapper, never()).applyGyeongdoDeltas(any());
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+
+        assertThat(historiesCaptor.getValue()).extracting(MmrHistoryDto::getChangeValue).containsExactly(25, -20, -20);
+        // 검거 / 구출 수는 발생 시점 이벤트로 따로 집계되므로 결과에서는 0
+        GameSettledEvent settled = eventCaptor.getAllValues().stream()
+                .filter(GameSettledEvent.class::isInstance)
+                .map(GameSettledEvent.class::cast)
+                .findFirst()
+                .orElseThrow();
+        assertThat(settled.outcomes()).containsExactly(
+                new GameMapper.GyeongdoDelta("result:10:1", 1L, 1, 0, 0, 0, 0, 0),
+                new GameMapper.GyeongdoDelta("result:10:2", 2L, 0, 0, 0, 0, 1, 0),
+                new GameMapper.GyeongdoDelta("result:10:3", 3L, 0, 0, 0, 0, 1, 0));
+        // 리포트 작업은 결과와 같이 등록되고, 워커는 그 뒤에 깨움
+        InOrder reportOrder = inOrder(gameReportService, reportJobWorker);
+        reportOrder.verify(gameReportService).start(roomId, 10L, List.of(1L, 2L, 3L));
+        reportOrder.verify(reportJobWorker).wakeUp();
+        verify(leaderboardService).recordSettlement(roomId, players);
+    }
+
+    @Test
+    @DisplayName("이미 종료된 세션이면 (두 번째 정산) MMR / 전적 / 종료 이벤트 없이 바로 반환한다")
+    void skipsAlreadySettledGame() {
+        // Given: 먼저 커밋된 정산이 세션을 종료함
+        Long roomId = 1L;
+        List<GameResultDto.PlayerResultDto> players = List.of(player(1L, "경찰1", PlayerRole.POLICE));
+        when(gameMapper.findCurrentSessionId(roomId)).thenReturn(Optional.of(10L));
+        when(gameMapper.findGameParticipants(roomId)).thenReturn(players);
+        when(gameMapper.updateGameSession(roomId, 1000, "POLICE")).thenReturn(0);
+
+        // When
+        GameResultDto result = gameResultService.processGameResult(roomId, "POLICE");
+
+        // Then
+        assertThat(result.getPlayerResults()).isEmpty();
+        verify(gameMapper, never()).updateUserMmrs(any());
+        verify(gameMapper, never()).insertMmrHistories(any());
+        verify(roomMapper, never()).updateRoomStatus(any(), any());
+        verifyNoInteractions(eventPublisher, gameReportService, reportJobWorker, leaderboardService);
+    }
+
+    private GameResultDto.PlayerResultDto player(Long userId, String nickname, PlayerRole role) {
+        return GameResultDto.PlayerResultDto.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .role(role)
+                .oldMmr(1000)
+                .build();
+    }
+}
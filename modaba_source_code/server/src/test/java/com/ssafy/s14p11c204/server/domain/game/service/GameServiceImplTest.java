@@ -3,7 +3,13 @@ package com.ssafy.s14p11c204.server.domain.game.service;
 import com.ssafy.s14p11c204.server.domain.chat.service.RedisPublisher;
 import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dto.GameStartResponseDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.GeofenceCache;
 import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,11 +21,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -51,6 +63,21 @@ class GameServiceImplTest {
     @Mock
     private RedisGeoService redisGeoService;
 
+    @Mock
+    private GameStateManager gameStateManager;
+
+    @Mock
+    private ScoreboardService scoreboardService;
+
+    @Mock
+    private GeofenceCache geofenceCache;
+
+    @Mock
+    private GameTimerService gameTimerService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Spy
     private GeometryUtil geometryUtil = new GeometryUtil(); // 실제 로직 사용
 
@@ -69,7 +96,8 @@ class GameServiceImplTest {
         org.springframework.data.geo.Point rescuerLocation = new org.springframework.data.geo.Point(5.0, 5.0);
 
         when(redisGeoService.getUserLocation(roomId, rescuer)).thenReturn(rescuerLocation);
-        when(roomMapper.findRoomBoundary(roomId)).thenReturn(Optional.of(new RoomMapper.RoomBoundaryInfo("...", jailWkt)));
+        GeometryUtil.Geofence jail = geometryUtil.prepare(geometryUtil.parseWkt(jailWkt), GeofenceCache.JAIL_REACH);
+        when(geofenceCache.findJail(roomId)).thenReturn(Optional.of(jail));
 
         // When
         gameService.handleUnleash(roomId, rescuer);
@@ -99,7 +127,8 @@ class GameServiceImplTest {
         org.springframework.data.geo.Point rescuerLocation = new org.springframework.data.geo.Point(20.0, 20.0);
 
         when(redisGeoService.getUserLocation(roomId, rescuer)).thenReturn(rescuerLocation);
-        when(roomMapper.findRoomBoundary(roomId)).thenReturn(Optional.of(new RoomMapper.RoomBoundaryInfo("...", jailWkt)));
+        GeometryUtil.Geofence jail = geometryUtil.prepare(geometryUtil.parseWkt(jailWkt), GeofenceCache.JAIL_REACH);
+        when(geofenceCache.findJail(roomId)).thenReturn(Optional.of(jail));
 
         // When
         gameService.handleUnleash(roomId, rescuer);
@@ -138,4 +167,68 @@ class GameServiceImplTest {
         assertThat(captor.getValue().getSuccess()).isFalse();
         assertThat(captor.getValue().getMessage()).contains("위치 정보를 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("게임 시작: 참가자 수와 관계없이 역할 배정 / 다른 방 정리를 일괄 쿼리로 처리한다")
+    void startGameUsesBulkStatements() {
+        // Given: 12명 방, 그중 2명이 다른 방(7번, 8번)에도 참가 중
+        Long roomId = 1L;
+        List<GameStartResponseDto.ParticipantInfo> joined = LongStream.rangeClosed(1, 12)
+                .mapToObj(id -> GameStartResponseDto.ParticipantInfo.builder().userId(id).nickname("유저" + id).build())
+                .toList();
+        when(roomMapper.startRoomReturningBoundary(roomId)).thenReturn(Optional.empty());
+        when(gameMapper.insertGameSession(roomId)).thenReturn(100L);
+        when(roomMapper.findParticipantsWithNickname(roomId)).thenReturn(joined);
+        when(roomMapper.findOtherRoomMemberships(roomId)).thenReturn(List.of(
+                new RoomMapper.OtherRoomMembership(7L, 1L),
+                new RoomMapper.OtherRoomMembership(8L, 2L)));
+        when(roomMapper.deleteEmptyRooms(List.of(7L, 8L))).thenReturn(List.of(7L));
+
+        // When
+        gameService.startGame(roomId);
+
+        // Then: 역할 + 상태는 한 번에 반영 (경찰 30%)
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameStartResponseDto.ParticipantInfo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(roomMapper).updateParticipantRoles(eq(roomId), captor.capture(), eq(ParticipantStatus.IN_GAME));
+        assertThat(captor.getValue()).hasSize(12);
+        assertThat(captor.getValue()).filteredOn(p -> p.getRole() == PlayerRole.POLICE).hasSize(3);
+
+        // 다른 방 정리도 방 / 유저 수와 무관하게 일괄 처리
+        verify(roomMapper).deleteParticipantsFromOtherRooms(roomId);
+        verify(roomMapper).deleteGameSessionsOfEmptyRooms(List.of(7L, 8L));
+        verify(roomMapper).reassignMissingHosts(List.of(7L, 8L));
+        verify(eventPublisher).publishEvent(any(GameEndEvent.class));
+        verify(redisPublisher).publishAll(eq(channelTopic), argThat(messages -> messages.size() == 2));
+
+        // 시작 응답은 이미 가진 데이터로 구성 (재조회 없음)
+        verify(roomMapper, times(1)).findParticipantsWithNickname(roomId);
+        verify(gameTimerService).schedule(eq(roomId), any());
+    }
+
+    @Test
+    @DisplayName("검거 트랜잭션이 롤백되면 먼저 바꾼 메모리 상태를 버린다")
+    void arrestRollbackEvictsState() {
+        // Given: 마지막 도둑 검거 → 종료 정산에서 실패
+        Long roomId = 1L;
+        when(roomMapper.findUserIdByNickname("thief")).thenReturn(Optional.of(2L));
+        when(gameMapper.countAliveThieves(roomId)).thenReturn(0);
+        when(gameResultService.processGameResult(roomId, "POLICE")).thenThrow(new IllegalStateException("DB 오류"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            assertThatThrownBy(() -> gameService.handleArrest(roomId, "thief", "police"))
+                    .hasMessage("DB 오류");
+            verify(gameStateManager).updateStatus(roomId, 2L, ParticipantStatus.ARRESTED);
+            verify(gameStateManager, never()).evict(roomId);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            verify(gameStateManager).evict(roomId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.chat.service.RedisPublisher;
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomExecutor;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameTimerServiceTest {
+
+    @InjectMocks
+    private GameTimerService gameTimerService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSet;
+
+    @Mock
+    private RoomMapper roomMapper;
+
+    @Mock
+    private GameStateManager gameStateManager;
+
+    @Mock
+    private GameResultService gameResultService;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private ChannelTopic channelTopic;
+
+    @Mock
+    private RoomExecutor roomExecutor;
+
+    private final Long roomId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+        when(gameStateManager.getOrLoad(roomId))
+                .thenReturn(Optional.of(new RoomGameState(roomId, 10L, LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("시간 초과 정산이 커밋되면 마감 항목을 제거한다")
+    void removesDeadlineAfterSettlement() {
+        // When
+        gameTimerService.finishTimeOverGame(roomId);
+
+        // Then
+        verify(gameResultService).processGameResult(roomId, "THIEF");
+        verify(zSet).remove(GameTimerService.DEADLINE_KEY, "1");
+        verify(zSet, never()).add(any(), any(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("시간 초과 정산이 실패하면 임대를 풀어 마감 항목을 되돌린다 (다음 회수 주기에 재시도)")
+    void restoresDeadlineOnFailure() {
+        // Given
+        when(gameResultService.processGameResult(roomId, "THIEF")).thenThrow(new IllegalStateException("DB 오류"));
+
+        // When
+        gameTimerService.finishTimeOverGame(roomId);
+
+        // Then
+        verify(zSet).add(eq(GameTimerService.DEADLINE_KEY), eq("1"), anyDouble());
+        verify(zSet, never()).remove(any(), any());
+        verifyNoInteractions(redisPublisher);
+    }
+}
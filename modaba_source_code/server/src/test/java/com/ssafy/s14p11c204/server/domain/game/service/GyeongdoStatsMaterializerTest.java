@@ -0,0 +1,126 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+import com.ssafy.s14p11c204.server.domain.game.event.GameSettledEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.ImprisonEvent;
+import com.ssafy.s14p11c204.server.domain.game.event.RescueEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GyeongdoStatsMaterializerTest {
+
+    @InjectMocks
+    private GyeongdoStatsMaterializer materializer;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @Captor
+    private ArgumentCaptor<List<GameMapper.GyeongdoDelta>> deltasCaptor;
+
+    @Test
+    @DisplayName("검거 / 구출 / 결과 이벤트는 발생한 트랜잭션 안에서 반영 대기열에 기록된다")
+    void eventsWrittenToOutbox() {
+        // When
+        materializer.handleImprisonEvent(new ImprisonEvent("arrest:1", 1L, 2L));
+        materializer.handleRescueEvent(new RescueEvent("rescue:10:a", 3L, 2));
+        materializer.handleGameSettledEvent(new GameSettledEvent(10L, List.of(
+                new GameMapper.GyeongdoDelta("result:10:1", 1L, 1, 0, 0, 0, 0, 0))));
+
+        // Then
+        verify(gameMapper, times(3)).insertGyeongdoOutbox(deltasCaptor.capture());
+        assertThat(deltasCaptor.getAllValues()).flatExtracting(deltas -> deltas).containsExactly(
+                new GameMapper.GyeongdoDelta("arrest:1", 1L, 0, 0, 1, 0, 0, 0),
+                new GameMapper.GyeongdoDelta("rescue:10:a", 3L, 0, 0, 0, 0, 0, 2),
+                new GameMapper.GyeongdoDelta("result:10:1", 1L, 1, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("대기열을 모아 한 구문으로 반영하고, 같은 키로 두 번 들어온 이벤트는 한 번만 보낸 뒤 행을 지운다")
+    void flushCoalescesEvents() {
+        // Given: 같은 검거가 두 번 기록됨
+        when(gameMapper.findGyeongdoOutbox(GyeongdoStatsMaterializer.FLUSH_BATCH_SIZE)).thenReturn(List.of(
+                row(1L, 0, "arrest:1", 1L),
+                row(2L, 0, "arrest:1", 1L),
+                row(3L, 0, "result:10:1", 1L)));
+
+        // When
+        materializer.flush();
+
+        // Then
+        verify(gameMapper, times(1)).applyGyeongdoDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).extracting(GameMapper.GyeongdoDelta::eventKey)
+                .containsExactly("arrest:1", "result:10:1");
+        verify(gameMapper).deleteGyeongdoOutbox(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 실패하면 한 건씩 다시 반영해, 제약 위반인 건만 남기고 나머지는 반영한다")
+    void poisonDeltaDoesNotBlockOthers() {
+        // Given: 탈퇴한 유저(9)의 증가분이 FK 위반
+        GameMapper.OutboxDelta poison = row(1L, 0, "arrest:1", 9L);
+        GameMapper.OutboxDelta valid = row(2L, 0, "arrest:2", 1L);
+        when(gameMapper.findGyeongdoOutbox(GyeongdoStatsMaterializer.FLUSH_BATCH_SIZE)).thenReturn(List.of(poison, valid));
+        doThrow(new DataIntegrityViolationException("fk")).when(gameMapper).applyGyeongdoDeltas(List.of(poison.delta(), valid.delta()));
+        doThrow(new DataIntegrityViolationException("fk")).when(gameMapper).applyGyeongdoDeltas(List.of(poison.delta()));
+
+        // When
+        materializer.flush();
+
+        // Then
+        verify(gameMapper).applyGyeongdoDeltas(List.of(valid.delta()));
+        verify(gameMapper).deleteGyeongdoOutbox(List.of(2L));
+        verify(gameMapper).incrementGyeongdoOutboxAttempts(1L);
+        verify(gameMapper, never()).deleteGyeongdoOutbox(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("제약 위반으로 마지막 시도까지 실패한 증가분은 버린다")
+    void poisonDeltaDroppedAfterMaxAttempts() {
+        // Given
+        GameMapper.OutboxDelta poison = row(1L, GyeongdoStatsMaterializer.MAX_ATTEMPTS - 1, "arrest:1", 9L);
+        when(gameMapper.findGyeongdoOutbox(GyeongdoStatsMaterializer.FLUSH_BATCH_SIZE)).thenReturn(List.of(poison));
+        doThrow(new DataIntegrityViolationException("fk")).when(gameMapper).applyGyeongdoDeltas(any());
+
+        // When
+        materializer.flush();
+
+        // Then
+        verify(gameMapper).deleteGyeongdoOutbox(List.of(1L));
+        verify(gameMapper, never()).incrementGyeongdoOutboxAttempts(any());
+    }
+
+    @Test
+    @DisplayName("DB 장애처럼 건과 상관없는 실패는 시도 횟수를 올리지 않고 다음 주기에 다시 보낸다")
+    void outageRetriedWithoutCountingAttempts() {
+        // Given
+        when(gameMapper.findGyeongdoOutbox(GyeongdoStatsMaterializer.FLUSH_BATCH_SIZE))
+                .thenReturn(List.of(row(1L, 0, "arrest:7", 1L)));
+        doThrow(new RuntimeException("db down")).when(gameMapper).applyGyeongdoDeltas(any());
+
+        // When
+        materializer.flush();
+
+        // Then
+        verify(gameMapper, never()).incrementGyeongdoOutboxAttempts(any());
+        verify(gameMapper, never()).deleteGyeongdoOutbox(any());
+    }
+
+    private static GameMapper.OutboxDelta row(Long outboxId, int attempts, String eventKey, Long userId) {
+        return new GameMapper.OutboxDelta(outboxId, attempts, eventKey, userId, 0, 0, 1, 0, 0, 0);
+    }
+}
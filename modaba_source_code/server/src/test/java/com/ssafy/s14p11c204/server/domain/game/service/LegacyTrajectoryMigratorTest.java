@@ -0,0 +1,73 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.ActivityMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class LegacyTrajectoryMigratorTest {
+
+    private static final String VALID = "[{\"t\":1760000000,\"lat\":37.5,\"lng\":127.0,\"spd\":1.0}]";
+
+    private final ActivityMapper activityMapper = mock(ActivityMapper.class);
+    private final LegacyTrajectoryMigrator migrator = new LegacyTrajectoryMigrator(
+            activityMapper, new ObjectMapper(), new TrajectoryStorageCodec(new TrajectorySimplifier()));
+
+    @Test
+    @DisplayName("읽을 수 없는 행은 건너뛰고 나머지를 옮기며, JSONB null 은 빈 궤적으로 옮긴 뒤 다음 행부터 조회한다")
+    void skipsUnreadableRows() {
+        // Given
+        when(activityMapper.findLegacyTrajectories(0L, LegacyTrajectoryMigrator.BATCH_SIZE)).thenReturn(List.of(
+                new ActivityMapper.LegacyTrajectory(1L, "{broken"),
+                new ActivityMapper.LegacyTrajectory(2L, "null"),
+                new ActivityMapper.LegacyTrajectory(3L, VALID)));
+        when(activityMapper.migrateTrajectories(anyList())).thenReturn(2);
+
+        // When
+        migrator.migrateBatch();
+        migrator.migrateBatch();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActivityMapper.MigratedTrajectory>> rows = ArgumentCaptor.forClass(List.class);
+        verify(activityMapper).migrateTrajectories(rows.capture());
+        assertThat(rows.getValue()).extracting(ActivityMapper.MigratedTrajectory::activityId).containsExactly(2L, 3L);
+        verify(activityMapper).findLegacyTrajectories(3L, LegacyTrajectoryMigrator.BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("한 구문 교체가 실패하면 행마다 다시 시도하고, 계속 실패하는 행은 정해진 횟수 뒤 건너뛴다")
+    void retriesFailingRowThenSkips() {
+        // Given: 10번 행만 계속 실패
+        when(activityMapper.findLegacyTrajectories(anyLong(), anyInt())).thenReturn(List.of(
+                new ActivityMapper.LegacyTrajectory(10L, VALID),
+                new ActivityMapper.LegacyTrajectory(11L, VALID)));
+        when(activityMapper.migrateTrajectories(anyList())).thenAnswer(invocation -> {
+            List<ActivityMapper.MigratedTrajectory> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> row.activityId() == 10L)) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return rows.size();
+        });
+
+        // When
+        for (int i = 0; i < LegacyTrajectoryMigrator.MAX_ATTEMPTS; i++) {
+            migrator.migrateBatch();
+        }
+
+        // Then: 실패하는 동안은 그 행에서 멈추고, 마지막에 건너뛰어 11번까지 옮긴 뒤 커서가 넘어감
+        verify(activityMapper, times(LegacyTrajectoryMigrator.MAX_ATTEMPTS)).findLegacyTrajectories(0L, LegacyTrajectoryMigrator.BATCH_SIZE);
+        verify(activityMapper).migrateTrajectories(argThat(rows -> rows.size() == 1 && rows.getFirst().activityId() == 11L));
+
+        migrator.migrateBatch();
+        verify(activityMapper).findLegacyTrajectories(11L, LegacyTrajectoryMigrator.BATCH_SIZE);
+    }
+}
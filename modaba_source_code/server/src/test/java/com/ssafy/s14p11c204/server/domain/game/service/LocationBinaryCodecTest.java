@@ -0,0 +1,123 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LocationBinaryCodecTest {
+
+    private final LocationBinaryCodec codec = new LocationBinaryCodec();
+
+    private RoomGameState state;
+
+    @BeforeEach
+    void setUp() {
+        state = new RoomGameState(1L, 10L, LocalDateTime.now().plusMinutes(15));
+        state.putPlayer(7L, "경찰1", PlayerRole.POLICE, ParticipantStatus.IN_GAME);
+        state.putPlayer(300L, "도둑1", PlayerRole.THIEF, ParticipantStatus.IN_GAME);
+    }
+
+    @Test
+    @DisplayName("위치 메시지는 userId와 정수 좌표로 인코딩되고 JSON보다 훨씬 작다")
+    void locationRoundTrip() throws Exception {
+        // Given
+        LocationMessageDto message = LocationMessageDto.builder()
+                .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+                .roomId(1L)
+                .senderNickname("도둑1")
+                .lat(37.5012345)
+                .lng(127.0398765)
+                .role(PlayerRole.THIEF)
+                .build();
+
+        // When
+        byte[] bytes = codec.encode(message, state);
+        LocationMessageDto decoded = codec.decode(bytes, state);
+
+        // Then
+        assertThat(decoded.getType()).isEqualTo(LocationMessageDto.MessageType.LOCATION_UPDATE);
+        assertThat(decoded.getSenderNickname()).isEqualTo("도둑1");
+        assertThat(decoded.getLat()).isCloseTo(37.5012345, within(1e-7));
+        assertThat(decoded.getLng()).isCloseTo(127.0398765, within(1e-7));
+        assertThat(decoded.getRole()).isEqualTo(PlayerRole.THIEF);
+        assertThat(bytes.length).isLessThan(new ObjectMapper().writeValueAsBytes(message).length / 5);
+    }
+
+    @Test
+    @DisplayName("검거 결과와 일괄 위치, 명단에 없는 닉네임도 복원된다")
+    void arrestAndBatchRoundTrip() {
+        // Given
+        LocationMessageDto arrest = LocationMessageDto.builder()
+                .type(LocationMessageDto.MessageType.ARREST_RESULT)
+                .roomId(1L)
+                .senderNickname("경찰1")
+                .targetNickname("도둑1")
+                .success(true)
+                .aliveThiefCount(0)
+                .sessionId(10L)
+                .message("도둑1님을 검거했습니다!")
+                .build();
+        LocationMessageDto batch = LocationMessageDto.builder()
+                .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+                .roomId(1L)
+                .locations(List.of(
+                        LocationMessageDto.builder().senderNickname("경찰1").lat(37.5).lng(127.0).role(PlayerRole.POLICE).build(),
+                        LocationMessageDto.builder().senderNickname("관전자").lat(37.6).lng(127.1).build()))
+                .build();
+
+        // When
+        LocationMessageDto decodedArrest = codec.decode(codec.encode(arrest, state), state);
+        LocationMessageDto decodedBatch = codec.decode(codec.encode(batch, state), state);
+
+        // Then
+        assertThat(decodedArrest.getTargetNickname()).isEqualTo("도둑1");
+        assertThat(decodedArrest.getSuccess()).isTrue();
+        assertThat(decodedArrest.getAliveThiefCount()).isZero();
+        assertThat(decodedArrest.getSessionId()).isEqualTo(10L);
+        assertThat(decodedArrest.getMessage()).isEqualTo("도둑1님을 검거했습니다!");
+
+        assertThat(decodedBatch.getLocations()).extracting(LocationMessageDto::getSenderNickname)
+                .containsExactly("경찰1", "관전자");
+        assertThat(decodedBatch.getLocations().get(1).getRole()).isNull();
+    }
+
+    @Test
+    @DisplayName("남은 바이트로 담을 수 없는 위치 개수나 알 수 없는 역할 코드는 할당 전에 거절한다")
+    void rejectsMalformedFrames() {
+        // 버전 | 타입 | 플래그(F_LOCATIONS) | roomId | 개수 약 20억
+        byte[] hugeCount = {1, 0, (byte) 0x80, 0x10, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        assertThatThrownBy(() -> codec.decode(hugeCount, state)).isInstanceOf(IllegalArgumentException.class);
+
+        // 버전 | 타입 | 플래그(F_ROLE) | roomId | 역할 0x80 (부호 있는 바이트면 음수)
+        byte[] badRole = {1, 0, 8, 1, (byte) 0x80};
+        assertThatThrownBy(() -> codec.decode(badRole, state)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("역할은 enum 순서와 상관없이 고정 코드로 보낸다 (경찰 0, 도둑 1)")
+    void fixedRoleCodes() {
+        LocationMessageDto message = LocationMessageDto.builder()
+                .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+                .roomId(1L)
+                .role(PlayerRole.THIEF)
+                .build();
+
+        byte[] encoded = codec.encode(message, state);
+
+        // 버전 | 타입 | 플래그(F_ROLE) | roomId | 역할
+        assertThat(encoded[encoded.length - 1]).isEqualTo((byte) 1);
+        assertThat(codec.decode(encoded, state).getRole()).isEqualTo(PlayerRole.THIEF);
+    }
+}
@@ -0,0 +1,144 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.RoomRequestDto;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.global.properties.GameLocationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocationBroadcasterTest {
+
+    @Mock
+    private LocationSender locationSender;
+
+    @Mock
+    private RoomMapper roomMapper;
+
+    @Mock
+    private GameStateManager gameStateManager;
+
+    @Mock
+    private LocationInterestService locationInterestService;
+
+    private final Long roomId = 1L;
+
+    private LocationBroadcaster broadcasterWith(String roomType, Duration tick) {
+        return broadcasterWith(roomType, tick, Map.of());
+    }
+
+    private LocationBroadcaster broadcasterWith(String roomType, Duration tick, Map<String, Double> visibleRadius) {
+        RoomRequestDto room = new RoomRequestDto();
+        room.setRoomType(roomType);
+        when(roomMapper.findRoomById(roomId)).thenReturn(Optional.of(room));
+        return new LocationBroadcaster(locationSender, roomMapper,
+                new GameLocationProperties(Map.of("KYUNGDO", tick), visibleRadius, 0, 0, 0, 0),
+                gameStateManager, locationInterestService);
+    }
+
+    private LocationMessageDto location(String nickname, double lat) {
+        return LocationMessageDto.builder()
+                .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+                .senderNickname(nickname)
+                .lat(lat)
+                .lng(127.0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("틱 주기가 없는 방 타입은 즉시 전송하도록 false를 반환한다")
+    void immediateWhenNotConfigured() {
+        LocationBroadcaster broadcaster = broadcasterWith("FOCUS", Duration.ofMillis(300));
+
+        assertThat(broadcaster.offer(roomId, location("도둑1", 37.5))).isFalse();
+    }
+
+    @Test
+    @DisplayName("틱 모드에서는 플레이어별 최신 위치만 한 프레임으로 묶어 전송한다")
+    void coalescePerTick() {
+        // Given
+        LocationBroadcaster broadcaster = broadcasterWith("KYUNGDO", Duration.ofMillis(1));
+        assertThat(broadcaster.offer(roomId, location("도둑1", 37.1))).isTrue();
+        broadcaster.offer(roomId, location("도둑1", 37.2));
+        broadcaster.offer(roomId, location("경찰1", 37.3));
+
+        // When
+        broadcaster.flush();
+        broadcaster.flush(); // 새 위치가 없으면 보내지 않음
+
+        // Then
+        ArgumentCaptor<LocationMessageDto> captor = ArgumentCaptor.forClass(LocationMessageDto.class);
+        verify(locationSender, times(1)).sendToRoom(eq(roomId), captor.capture());
+
+        LocationMessageDto batch = captor.getValue();
+        assertThat(batch.getType()).isEqualTo(LocationMessageDto.MessageType.LOCATION_UPDATE);
+        assertThat(batch.getLocations()).hasSize(2)
+                .anySatisfy(m -> {
+                    assertThat(m.getSenderNickname()).isEqualTo("도둑1");
+                    assertThat(m.getLat()).isEqualTo(37.2);
+                });
+    }
+
+    @Test
+    @DisplayName("시야 제한 방에서 게임 상태를 불러올 수 없으면 정확한 위치를 방 전체로 보내지 않고 버린다")
+    void fogRoomFailsClosedWithoutState() {
+        // Given: 다른 서버에서 끝났거나 이 서버에 적재되지 않은 방
+        LocationBroadcaster broadcaster = broadcasterWith("KYUNGDO", Duration.ofMillis(1), Map.of("KYUNGDO", 50.0));
+        when(gameStateManager.getOrLoad(roomId)).thenReturn(Optional.empty());
+        broadcaster.offer(roomId, location("도둑1", 37.1));
+
+        // When
+        broadcaster.flush();
+
+        // Then
+        verify(gameStateManager).getOrLoad(roomId);
+        verifyNoInteractions(locationSender, locationInterestService);
+    }
+
+    @Test
+    @DisplayName("오래 위치가 들어오지 않은 방의 버퍼는 제거되고, 다시 들어오면 방 정보를 새로 조회한다")
+    void evictsIdleBuffers() {
+        // Given
+        LocationBroadcaster broadcaster = broadcasterWith("KYUNGDO", Duration.ofMillis(1));
+        broadcaster.offer(roomId, location("도둑1", 37.1));
+        long now = System.currentTimeMillis();
+        broadcaster.flush(now); // 남은 위치 전송
+
+        // When: 유휴 시간이 지남
+        broadcaster.flush(now + LocationBroadcaster.IDLE_BUFFER_TTL.toMillis() + 1_000);
+        broadcaster.offer(roomId, location("도둑1", 37.2));
+
+        // Then
+        verify(roomMapper, times(2)).findRoomById(roomId);
+    }
+
+    @Test
+    @DisplayName("전송 대기 중인 위치가 있거나 최근에 위치가 들어온 방의 버퍼는 제거하지 않는다")
+    void keepsActiveBuffers() {
+        // Given
+        LocationBroadcaster broadcaster = broadcasterWith("KYUNGDO", Duration.ofMillis(1));
+        broadcaster.offer(roomId, location("도둑1", 37.1));
+
+        // When
+        broadcaster.flush(System.currentTimeMillis());
+        broadcaster.offer(roomId, location("도둑1", 37.2));
+
+        // Then
+        verify(roomMapper, times(1)).findRoomById(roomId);
+        verify(locationSender).sendToRoom(eq(roomId), any());
+    }
+}
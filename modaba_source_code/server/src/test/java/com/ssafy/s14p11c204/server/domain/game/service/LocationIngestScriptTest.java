@@ -0,0 +1,108 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryStats;
+import com.ssafy.s14p11c204.server.global.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class LocationIngestScriptTest {
+
+    private static final RedisScript<Long> INGEST_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/location_ingest.lua"), Long.class);
+
+    private static final String TRAJECTORY_KEY = "trajectory:900:1";
+    private static final String STATS_KEY = "trajectory:900:1:stats";
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final TrajectoryBufferCodec codec = new TrajectoryBufferCodec();
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of(TRAJECTORY_KEY, STATS_KEY));
+    }
+
+    @Test
+    @DisplayName("같은 시각의 위치는 거리만 더하고 속도는 0으로 기록한다")
+    void duplicateTimestamp() {
+        // When: 같은 시각에 위도 0.001도(약 111m) 이동, 이후 제자리
+        Long added = ingest("126.0", "35.000", "100",
+                "126.0", "35.001", "100",
+                "126.0", "35.001", "110");
+
+        // Then
+        assertThat(added).isEqualTo(3L);
+        assertThat(trajectory()).extracting(TrajectoryPoint::spd).containsExactly(0.0, 0.0, 0.0);
+        TrajectoryStats stats = stats();
+        assertThat(stats.totalDistance()).isCloseTo(111.2, within(0.5));
+        assertThat(stats.maxSpeed()).isZero();
+        assertThat(stats.movingSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 위치보다 이른 위치는 버리고 속도가 음수가 되지 않는다")
+    void reorderedTimestamps() {
+        // When: 110초 위치가 120초 위치보다 늦게 도착
+        Long added = ingest("126.0", "35.000", "100",
+                "126.0", "35.001", "120",
+                "126.0", "35.0005", "110");
+
+        // Then
+        assertThat(added).isEqualTo(2L);
+        List<TrajectoryPoint> points = trajectory();
+        assertThat(points).extracting(TrajectoryPoint::t).containsExactly(100L, 120L);
+        assertThat(points.get(1).spd()).isCloseTo(111.2 / 20 * 3.6, within(0.05));
+        assertThat(stats().movingSeconds()).isEqualTo(20L);
+
+        // When: 다음 배치도 마지막 위치(120초)보다 이르면 아무것도 쓰지 않음
+        Long late = ingest("126.0", "35.002", "105");
+
+        // Then
+        assertThat(late).isZero();
+        assertThat(trajectory()).hasSize(2);
+        assertThat(stats().pointCount()).isEqualTo(2);
+        assertThat(stats().totalDistance()).isCloseTo(111.2, within(0.5));
+    }
+
+    private Long ingest(String... points) {
+        Object[] args = new Object[2 + points.length];
+        args[0] = "member";
+        args[1] = "600";
+        System.arraycopy(points, 0, args, 2, points.length);
+        return redisTemplate.execute(INGEST_SCRIPT, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                List.of("", TRAJECTORY_KEY, STATS_KEY), args);
+    }
+
+    private List<TrajectoryPoint> trajectory() {
+        return codec.decode(get(TRAJECTORY_KEY));
+    }
+
+    private TrajectoryStats stats() {
+        return codec.decodeStats(get(STATS_KEY));
+    }
+
+    private byte[] get(String key) {
+        return redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.global.properties.GameLocationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocationIngestServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    // start()를 호출하지 않으므로 소비 스레드 없이 flushPending()으로만 기록된다
+    private LocationIngestService serviceWith(int capacity, int maxBatch) {
+        return new LocationIngestService(redisTemplate, new GameLocationProperties(Map.of(), Map.of(), capacity, maxBatch, 0, 0));
+    }
+
+    @Test
+    @DisplayName("한 유저의 위치가 여러 건 쌓여도 스크립트 1번(왕복 1회)으로 모두 기록한다")
+    void singleUserBatchedIntoOneEval() {
+        // Given
+        doReturn(new JacksonJsonRedisSerializer<>(Object.class)).when(redisTemplate).getValueSerializer();
+        LocationIngestService service = serviceWith(100, 100);
+        service.ingest(1L, "도둑1", 10L, 3L, 37.5, 127.0);
+        service.ingest(1L, "도둑1", 10L, 3L, 37.5001, 127.0001);
+        service.ingest(1L, "도둑1", 10L, 3L, 37.5002, 127.0002);
+
+        // When
+        service.flushPending();
+
+        // Then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                eq(List.of("room:1:locations", "trajectory:10:3", "trajectory:10:3:stats")), any(Object[].class));
+        verify(redisTemplate, never()).opsForList();
+        verify(redisTemplate, never()).opsForGeo();
+        assertThat(service.stats().written()).isEqualTo(3);
+        assertThat(service.stats().batches()).isEqualTo(1);
+        assertThat(service.stats().queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 유저의 위치는 파이프라인 한 번으로 보낸다")
+    void multipleUsersPipelined() {
+        // Given
+        doReturn(new JacksonJsonRedisSerializer<>(Object.class)).when(redisTemplate).getValueSerializer();
+        LocationIngestService service = serviceWith(100, 100);
+        service.ingest(1L, "도둑1", 10L, 3L, 37.5, 127.0);
+        service.ingest(1L, "경찰1", 10L, 4L, 37.6, 127.1);
+        service.ingest(2L, "관전자", null, null, 37.7, 127.2);
+
+        // When
+        service.flushPending();
+        service.flushPending(); // 대기열이 비었으면 전송하지 않음
+
+        // Then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                any(List.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("파이프라인에는 스크립트 본문 대신 SHA 만 보내고, NOSCRIPT 로 실패한 유저 묶음만 EVAL 로 다시 보낸다")
+    void pipelineUsesEvalShaWithNoScriptFallback() {
+        // Given: 두 번째 유저 묶음만 스크립트 캐시가 비어 실패 (Redis 재시작 직후 등)
+        doReturn(new JacksonJsonRedisSerializer<>(Object.class)).when(redisTemplate).getValueSerializer();
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisScriptingCommands scripting = mock(RedisScriptingCommands.class);
+        when(connection.scriptingCommands()).thenReturn(scripting);
+        List<String> evalTrajectoryKeys = new ArrayList<>();
+        doAnswer(invocation -> {
+            byte[][] keysAndArgs = (byte[][]) invocation.getRawArguments()[3];
+            evalTrajectoryKeys.add(new String(keysAndArgs[1], StandardCharsets.UTF_8));
+            return null;
+        }).when(scripting).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(3), any(byte[][].class));
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+                    throw new RedisPipelineException(new IllegalStateException("pipeline failed"),
+                            List.of(1L, new RedisSystemException("NOSCRIPT No matching script", null)));
+                })
+                .thenAnswer(invocation -> {
+                    invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+                    return List.of(1L);
+                });
+
+        LocationIngestService service = serviceWith(100, 100);
+        service.ingest(1L, "도둑1", 10L, 3L, 37.5, 127.0);
+        service.ingest(1L, "경찰1", 10L, 4L, 37.6, 127.1);
+
+        // When
+        service.flushPending();
+
+        // Then
+        verify(redisTemplate, times(1)).execute(any(RedisCallback.class)); // SCRIPT LOAD 1번
+        verify(scripting, times(2)).evalSha(anyString(), eq(ReturnType.INTEGER), eq(3), any(byte[][].class));
+        assertThat(evalTrajectoryKeys).containsExactly("trajectory:10:4");
+        assertThat(service.stats().written()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 가장 오래된 위치를 버리고 버린 건수를 센다")
+    void dropOldestWhenFull() {
+        // Given
+        LocationIngestService service = serviceWith(2, 100);
+
+        // When
+        service.ingestTrajectory(10L, 3L, 37.5, 127.0);
+        service.ingestTrajectory(10L, 3L, 37.5001, 127.0001);
+        service.ingestTrajectory(10L, 3L, 37.5002, 127.0002);
+
+        // Then
+        LocationIngestService.IngestStats stats = service.stats();
+        assertThat(stats.accepted()).isEqualTo(3);
+        assertThat(stats.dropped()).isEqualTo(1);
+        assertThat(stats.queued()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.state.RoomGameState;
+import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.geo.Point;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationInterestServiceTest {
+
+    @Mock
+    private RedisGeoService redisGeoService;
+
+    private LocationInterestService interestService;
+
+    private RoomGameState state;
+
+    private final Long roomId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        interestService = new LocationInterestService(redisGeoService, new GeometryUtil());
+
+        state = new RoomGameState(roomId, 10L, LocalDateTime.now().plusMinutes(15));
+        state.putPlayer(1L, "경찰1", PlayerRole.POLICE, ParticipantStatus.IN_GAME);
+        state.putPlayer(2L, "경찰2", PlayerRole.POLICE, ParticipantStatus.IN_GAME);
+        state.putPlayer(3L, "도둑1", PlayerRole.THIEF, ParticipantStatus.IN_GAME);
+        state.bindEmail(1L, "police1@test.com");
+        state.bindEmail(2L, "police2@test.com");
+        state.bindEmail(3L, "thief1@test.com");
+    }
+
+    private LocationMessageDto location(String nickname, PlayerRole role, double lat, double lng) {
+        return LocationMessageDto.builder()
+                .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+                .senderNickname(nickname).role(role).lat(lat).lng(lng)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 팀 위치는 항상, 상대 팀 위치는 반경 안일 때만 보인다")
+    void teammatesAndNearbyOpponents() {
+        // Given: 경찰1은 도둑1 바로 옆(약 11m), 경찰2는 약 1.1km 떨어짐
+        Map<String, Point> positions = new HashMap<>();
+        positions.put("경찰1", new Point(127.0, 37.5001));
+        positions.put("경찰2", new Point(127.0, 37.51));
+        when(redisGeoService.getUserLocations(eq(roomId), anyList())).thenReturn(positions);
+
+        List<LocationMessageDto> changed = List.of(
+                location("도둑1", PlayerRole.THIEF, 37.5, 127.0),
+                location("경찰2", PlayerRole.POLICE, 37.51, 127.0));
+
+        // When
+        Map<String, List<LocationMessageDto>> result = interestService.select(roomId, state, 50.0, changed);
+
+        // Then
+        assertThat(result.get("police1@test.com"))
+                .extracting(LocationMessageDto::getSenderNickname)
+                .containsExactlyInAnyOrder("도둑1", "경찰2");
+        assertThat(result.get("police2@test.com")).isNull(); // 도둑은 멀고, 본인 위치는 제외
+        assertThat(result.get("thief1@test.com")).isNull();  // 경찰2는 반경 밖
+    }
+}
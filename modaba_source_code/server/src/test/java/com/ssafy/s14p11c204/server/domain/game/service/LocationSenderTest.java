@@ -0,0 +1,70 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.state.GameStateManager;
+import com.ssafy.s14p11c204.server.global.util.StompSubscriptionRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocationSenderTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private StompSubscriptionRegistry subscriptionRegistry;
+
+    @Spy
+    private LocationBinaryCodec binaryCodec = new LocationBinaryCodec();
+
+    @Mock
+    private GameStateManager gameStateManager;
+
+    @InjectMocks
+    private LocationSender locationSender;
+
+    private final LocationMessageDto message = LocationMessageDto.builder()
+            .type(LocationMessageDto.MessageType.LOCATION_UPDATE)
+            .roomId(1L)
+            .senderNickname("도둑1")
+            .lat(37.5)
+            .lng(127.0)
+            .build();
+
+    @Test
+    @DisplayName("바이너리 채널 구독자만 있으면 JSON 직렬화 없이 바이너리만 전송한다")
+    void binaryOnly() {
+        when(subscriptionRegistry.hasSubscribers("/sub/game/1/location")).thenReturn(false);
+        when(subscriptionRegistry.hasSubscribers("/sub/game/1/location.bin")).thenReturn(true);
+        when(gameStateManager.find(1L)).thenReturn(Optional.empty());
+
+        locationSender.sendToRoom(1L, message);
+
+        verify(messagingTemplate).convertAndSend(eq("/sub/game/1/location.bin"), any(byte[].class));
+        verify(messagingTemplate, never()).convertAndSend(eq("/sub/game/1/location"), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("바이너리 개인 채널을 구독하지 않은 사용자는 JSON으로 받는다")
+    void userJsonFallback() {
+        when(subscriptionRegistry.isSubscribed("user@test.com", "/user/sub/game/1/location.bin")).thenReturn(false);
+
+        locationSender.sendToUser("user@test.com", 1L, message);
+
+        verify(messagingTemplate).convertAndSendToUser("user@test.com", "/sub/game/1/location", message);
+        verifyNoInteractions(binaryCodec);
+    }
+}
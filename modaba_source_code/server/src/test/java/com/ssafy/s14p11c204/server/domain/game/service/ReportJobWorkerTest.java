@@ -0,0 +1,223 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiRequest;
+import com.ssafy.s14p11c204.server.domain.ai.dto.GameAiResponse;
+import com.ssafy.s14p11c204.server.domain.ai.service.AiTestService;
+import com.ssafy.s14p11c204.server.domain.game.dao.ReportJobMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportReadyDto;
+import com.ssafy.s14p11c204.server.global.properties.GameReportProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReportJobWorkerTest {
+
+    private static final String REPORT_JSON = """
+            {"summary_title": "조용한 도둑", "commentary": "수완동 골목을 누볐다", "play_style_tag": ["잠입"], "fitness_report": "120kcal"}
+            """;
+
+    private final ReportJobMapper reportJobMapper = mock(ReportJobMapper.class);
+    private final ActivityService activityService = mock(ActivityService.class);
+    private final AiReportService aiReportService = mock(AiReportService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final GameReportProperties properties = new GameReportProperties(
+            Duration.ofSeconds(2), 2, 3, Duration.ofSeconds(5), Duration.ofSeconds(12), null);
+    private final GameReportService gameReportService = new GameReportService(
+            activityService, mock(ReportJobService.class), properties);
+    private final ReportJobWorker worker = new ReportJobWorker(
+            reportJobMapper, gameReportService, aiReportService, messagingTemplate, properties);
+
+    // 로컬 스텁 ChatModel: 앞의 failures 번은 게이트웨이 오류, 이후 고정 JSON 응답
+    private final AtomicInteger chatCalls = new AtomicInteger();
+
+    private AiTestService stubAi(int failures) {
+        ChatModel chatModel = prompt -> {
+            if (chatCalls.incrementAndGet() <= failures) {
+                throw new IllegalStateException("gateway timeout");
+            }
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(REPORT_JSON))));
+        };
+        return new AiTestService(chatModel);
+    }
+
+    private void useAi(AiTestService ai, Long sessionId, Long userId) {
+        when(activityService.hasActivity(sessionId, userId)).thenReturn(true);
+        when(activityService.generateReport(sessionId, userId)).thenAnswer(invocation ->
+                ai.requestGameReport(new GameAiRequest("THIEF", "WIN", 1200, 9.5, 14, List.of("수완동"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+        gameReportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("스텁 ChatModel 응답으로 리포트를 저장하고 작업 완료 후 방 채널로 READY 알림을 보낸다")
+    void gameJobReady() {
+        // Given
+        useAi(stubAi(0), 10L, 1L);
+        when(reportJobMapper.complete(7L, 1, ReportJobDto.Status.READY, null)).thenReturn(1);
+
+        // When
+        worker.run(new ReportJobMapper.ClaimedJob(7L, ReportJobDto.Type.GAME, 100L, 10L, 1L, 1));
+
+        // Then
+        ArgumentCaptor<GameAiResponse> saved = ArgumentCaptor.forClass(GameAiResponse.class);
+        verify(activityService).saveReport(eq(10L), eq(1L), saved.capture());
+        assertThat(saved.getValue().summary_title()).isEqualTo("조용한 도둑");
+        assertThat(sentStatus(GameReportService.destination(100L))).isEqualTo(ReportReadyDto.Status.READY);
+    }
+
+    @Test
+    @DisplayName("게이트웨이 오류면 알림 없이 지수 간격으로 재시도를 예약하고, 다음 시도에서 성공한다")
+    void gameJobRetried() {
+        // Given: 첫 호출만 실패
+        useAi(stubAi(1), 10L, 2L);
+        when(reportJobMapper.complete(8L, 2, ReportJobDto.Status.READY, null)).thenReturn(1);
+
+        // When
+        worker.run(new ReportJobMapper.ClaimedJob(8L, ReportJobDto.Type.GAME, 100L, 10L, 2L, 1));
+        worker.run(new ReportJobMapper.ClaimedJob(8L, ReportJobDto.Type.GAME, 100L, 10L, 2L, 2));
+
+        // Then
+        verify(reportJobMapper).retry(8L, 1, 5L, "gateway timeout");
+        assertThat(sentStatus(GameReportService.destination(100L))).isEqualTo(ReportReadyDto.Status.READY);
+        assertThat(chatCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("마지막 시도에서도 실패하면 기본 리포트로 마무리하고 FALLBACK 알림을 보낸다")
+    void gameJobFallbackOnLastAttempt() {
+        // Given
+        useAi(stubAi(Integer.MAX_VALUE), 10L, 3L);
+        when(reportJobMapper.complete(9L, 3, ReportJobDto.Status.FALLBACK, null)).thenReturn(1);
+
+        // When
+        worker.run(new ReportJobMapper.ClaimedJob(9L, ReportJobDto.Type.GAME, 100L, 10L, 3L, 3));
+
+        // Then
+        verify(reportJobMapper, never()).retry(any(), anyInt(), anyLong(), any());
+        verify(activityService).saveReport(10L, 3L, null);
+        assertThat(sentStatus(GameReportService.destination(100L))).isEqualTo(ReportReadyDto.Status.FALLBACK);
+    }
+
+    @Test
+    @DisplayName("스터디 작업은 리포트를 저장하고 스터디 채널로 알림을 보낸다")
+    void studyJobReady() {
+        // Given
+        when(aiReportService.createReport(20L, 1L)).thenReturn(1L);
+        when(reportJobMapper.complete(11L, 1, ReportJobDto.Status.READY, null)).thenReturn(1);
+
+        // When
+        worker.run(new ReportJobMapper.ClaimedJob(11L, ReportJobDto.Type.STUDY, 200L, 20L, 1L, 1));
+
+        // Then
+        assertThat(sentStatus("/sub/study/200/report")).isEqualTo(ReportReadyDto.Status.READY);
+    }
+
+    @Test
+    @DisplayName("임대가 만료돼 다른 워커가 다시 잡은 작업은 결과를 반영하지 않고 알림도 보내지 않는다")
+    void staleJobNotNotified() {
+        // Given
+        when(aiReportService.createReport(20L, 2L)).thenReturn(1L);
+        when(reportJobMapper.complete(12L, 1, ReportJobDto.Status.READY, null)).thenReturn(0);
+
+        // When
+        worker.run(new ReportJobMapper.ClaimedJob(12L, ReportJobDto.Type.STUDY, 200L, 20L, 2L, 1));
+
+        // Then
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("LLM 작업이 자리를 모두 차지해도 궤적 정산 작업은 따로 잡혀 처리되고, 알림 없이 GAME 작업을 깨운다")
+    void trajectoryJobNotBlockedByLlm() {
+        // Given: LLM 자리(2) 가 모두 처리 중
+        ReportJobMapper.ClaimedJob trajectory = new ReportJobMapper.ClaimedJob(
+                13L, ReportJobDto.Type.TRAJECTORY, 100L, 10L, 5L, 1);
+        when(reportJobMapper.claim(eq(List.of(ReportJobDto.Type.GAME, ReportJobDto.Type.STUDY)), anyInt(), anyLong()))
+                .thenReturn(List.of(
+                        new ReportJobMapper.ClaimedJob(14L, ReportJobDto.Type.GAME, 100L, 10L, 6L, 1),
+                        new ReportJobMapper.ClaimedJob(15L, ReportJobDto.Type.GAME, 100L, 10L, 7L, 1)))
+                .thenReturn(List.of());
+        when(reportJobMapper.claim(eq(List.of(ReportJobDto.Type.TRAJECTORY)), anyInt(), anyLong()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(trajectory))
+                .thenReturn(List.of());
+        when(activityService.hasActivity(10L, 6L)).thenReturn(true);
+        when(activityService.hasActivity(10L, 7L)).thenReturn(true);
+        when(activityService.generateReport(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(1_500);
+            return null;
+        });
+        when(reportJobMapper.complete(13L, 1, ReportJobDto.Status.READY, null)).thenReturn(1);
+
+        // When
+        worker.poll();
+        worker.poll();
+
+        // Then: LLM 응답을 기다리지 않고 정산됨
+        verify(activityService, timeout(1_000)).finalizeActivity(10L, 5L);
+        verify(reportJobMapper, timeout(1_000)).complete(13L, 1, ReportJobDto.Status.READY, null);
+        verify(messagingTemplate, never()).convertAndSend(eq(GameReportService.destination(100L)), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도마다 두 배로 늘고 상한을 넘지 않는다")
+    void retryDelayBackoff() {
+        assertThat(worker.retryDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(worker.retryDelay(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(worker.retryDelay(3)).isEqualTo(Duration.ofSeconds(12));
+        assertThat(worker.retryDelay(40)).isEqualTo(Duration.ofSeconds(12));
+    }
+
+    @Test
+    @DisplayName("동시 처리 수만큼만 작업을 잡는다")
+    void pollClaimsUpToConcurrency() {
+        // Given
+        when(reportJobMapper.claim(any(), anyInt(), anyLong())).thenReturn(List.of());
+
+        // When
+        worker.poll();
+
+        // Then: 궤적 정산과 LLM 작업은 자리를 따로 씀 (각각 concurrency 2, 임대 = 제한 시간 x 2 + 30초)
+        verify(reportJobMapper).claim(List.of(ReportJobDto.Type.TRAJECTORY), 2, 34L);
+        verify(reportJobMapper).claim(List.of(ReportJobDto.Type.GAME, ReportJobDto.Type.STUDY), 2, 34L);
+    }
+
+    @Test
+    @DisplayName("깨우면 다음 주기를 기다리지 않고 바로 작업을 잡는다")
+    void wakeUpPollsImmediately() {
+        // Given
+        when(reportJobMapper.claim(any(), anyInt(), anyLong())).thenReturn(List.of());
+
+        // When
+        worker.wakeUp();
+
+        // Then
+        verify(reportJobMapper, timeout(1_000)).claim(List.of(ReportJobDto.Type.TRAJECTORY), 2, 34L);
+    }
+
+    private ReportReadyDto.Status sentStatus(String destination) {
+        ArgumentCaptor<ReportReadyDto> captor = ArgumentCaptor.forClass(ReportReadyDto.class);
+        verify(messagingTemplate).convertAndSend(eq(destination), captor.capture());
+        return captor.getValue().getStatus();
+    }
+}
@@ -2,6 +2,8 @@ package com.ssafy.s14p11c204.server.domain.game.service;
 
 import com.ssafy.s14p11c204.server.domain.chat.dto.ChatMessageDto;
 import com.ssafy.s14p11c204.server.domain.chat.dto.MessageType;
+import com.ssafy.s14p11c204.server.domain.chat.dto.PushNotificationDto;
+import com.ssafy.s14p11c204.server.domain.chat.service.PushSender;
 import com.ssafy.s14p11c204.server.domain.chat.service.RedisPublisher;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomResponseDto;
@@ -9,17 +11,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,14 +42,19 @@ class SchedulerServiceTest {
 
     @Mock
     private ChannelTopic channelTopic;
-    
-    // gameResultService는 checkTimeOverGames에서 사용되지만 여기서는 테스트하지 않으므로 Mock 처리
+
+    @Mock
+    private PushSender pushSender;
+
     @Mock
-    private GameResultService gameResultService;
+    private TaskScheduler taskScheduler;
 
     @InjectMocks
     private SchedulerService schedulerService;
 
+    @Captor
+    private ArgumentCaptor<List<ChatMessageDto>> messagesCaptor;
+
     @Test
     @DisplayName("스터디(FOCUS) 알림 및 위치 공유 요청 전송 테스트")
     void checkUpcomingRooms_FocusType() {
@@ -51,25 +65,23 @@ class SchedulerServiceTest {
                 .title("스터디 방")
                 .build();
 
-        when(roomMapper.findRoomsStartingSoon(any(), any()))
+        when(roomMapper.claimRoomsToNotify(any(), any(), anyInt()))
                 .thenReturn(List.of(focusRoom));
 
         // when
         schedulerService.checkUpcomingRooms();
 
-        // then
-        ArgumentCaptor<ChatMessageDto> messageCaptor = ArgumentCaptor.forClass(ChatMessageDto.class);
-        verify(redisPublisher).publish(any(ChannelTopic.class), messageCaptor.capture());
+        // then: 선점 쿼리가 발송 처리까지 하므로 방별 UPDATE 없음
+        verify(redisPublisher).publishAll(any(ChannelTopic.class), messagesCaptor.capture());
 
-        ChatMessageDto sentMessage = messageCaptor.getValue();
+        ChatMessageDto sentMessage = messagesCaptor.getValue().getFirst();
         assertEquals(MessageType.LOCATION_REQUEST, sentMessage.getType());
         assertEquals("곧 스터디 시작 시간입니다. 위치 공유를 시작하시겠습니까?", sentMessage.getMessage());
-
-        verify(roomMapper).updateNotiSent(1L, true);
+        verify(roomMapper, times(1)).claimRoomsToNotify(any(), any(), anyInt());
     }
 
     @Test
-    @DisplayName("일반(KYUNGDO) 알림 전송 테스트")
+    @DisplayName("일반(KYUNGDO) 알림은 채팅 발행과 함께 기기 토큰이 있는 참가자에게 푸시된다")
     void checkUpcomingRooms_NormalType() {
         // given
         RoomResponseDto normalRoom = RoomResponseDto.builder()
@@ -78,35 +90,105 @@ class SchedulerServiceTest {
                 .title("경도 방")
                 .build();
 
-        when(roomMapper.findRoomsStartingSoon(any(), any()))
+        when(roomMapper.claimRoomsToNotify(any(), any(), anyInt()))
                 .thenReturn(List.of(normalRoom));
+        when(roomMapper.findPushTargets(List.of(2L)))
+                .thenReturn(List.of(new RoomMapper.PushTargetInfo(2L, 10L, "token-10")));
 
         // when
         schedulerService.checkUpcomingRooms();
 
         // then
-        ArgumentCaptor<ChatMessageDto> messageCaptor = ArgumentCaptor.forClass(ChatMessageDto.class);
-        verify(redisPublisher).publish(any(ChannelTopic.class), messageCaptor.capture());
+        verify(redisPublisher).publishAll(any(ChannelTopic.class), messagesCaptor.capture());
 
-        ChatMessageDto sentMessage = messageCaptor.getValue();
+        ChatMessageDto sentMessage = messagesCaptor.getValue().getFirst();
         assertEquals(MessageType.EVENT, sentMessage.getType());
         assertEquals("약속 시간 1시간 전입니다! 잊지 않으셨죠?", sentMessage.getMessage());
 
-        verify(roomMapper).updateNotiSent(2L, true);
+        verify(pushSender).send(List.of(new PushNotificationDto(10L, "token-10", 2L, "경도 방",
+                "약속 시간 1시간 전입니다! 잊지 않으셨죠?")));
     }
 
     @Test
     @DisplayName("알림 대상이 없을 때")
     void checkUpcomingRooms_Empty() {
         // given
-        when(roomMapper.findRoomsStartingSoon(any(), any()))
+        when(roomMapper.claimRoomsToNotify(any(), any(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        schedulerService.checkUpcomingRooms();
+
+        // then
+        verify(redisPublisher, never()).publishAll(any(), any());
+        verifyNoInteractions(pushSender);
+    }
+
+    @Test
+    @DisplayName("발송 후 남은 방 중 가장 이른 약속 1시간 전으로 다음 발송을 예약한다")
+    void checkUpcomingRooms_SchedulesNext() {
+        // given
+        LocalDateTime nextAppointment = LocalDateTime.now().plusHours(3);
+        when(roomMapper.claimRoomsToNotify(any(), any(), anyInt()))
                 .thenReturn(Collections.emptyList());
+        when(roomMapper.findNextNotiAppointmentTime(any()))
+                .thenReturn(Optional.of(nextAppointment));
+
+        // when
+        schedulerService.checkUpcomingRooms();
+
+        // then
+        Instant expected = nextAppointment.minusHours(1).atZone(ZoneId.systemDefault()).toInstant();
+        verify(taskScheduler).schedule(any(Runnable.class), eq(expected));
+    }
+
+    @Test
+    @DisplayName("채팅 발행에 실패하면 선점을 풀고 잠시 뒤 다시 시도하도록 예약한다")
+    void checkUpcomingRooms_ReleasesClaimOnPublishFailure() {
+        // given
+        RoomResponseDto room = RoomResponseDto.builder()
+                .roomId(3L)
+                .roomType("KYUNGDO")
+                .title("경도 방")
+                .build();
+        when(roomMapper.claimRoomsToNotify(any(), any(), anyInt()))
+                .thenReturn(List.of(room));
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .when(redisPublisher).publishAll(any(), any());
+
+        // when
+        Instant before = Instant.now();
+        schedulerService.checkUpcomingRooms();
+
+        // then: 선점 해제 + 바로 다시 돌지 않도록 RETRY_DELAY 뒤로 예약 (rearm 하지 않음)
+        verify(roomMapper).releaseNotiClaims(List.of(3L));
+        verify(roomMapper, never()).findNextNotiAppointmentTime(any());
+        verifyNoInteractions(pushSender);
+        ArgumentCaptor<Instant> runAt = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(any(Runnable.class), runAt.capture());
+        assertTrue(!runAt.getValue().isBefore(before.plus(SchedulerService.RETRY_DELAY)));
+    }
+
+    @Test
+    @DisplayName("푸시 대상 조회에 실패해도 채팅은 이미 나갔으므로 선점을 유지한다")
+    void checkUpcomingRooms_KeepsClaimOnPushFailure() {
+        // given
+        RoomResponseDto room = RoomResponseDto.builder()
+                .roomId(4L)
+                .roomType("KYUNGDO")
+                .title("경도 방")
+                .build();
+        when(roomMapper.claimRoomsToNotify(any(), any(), anyInt()))
+                .thenReturn(List.of(room));
+        when(roomMapper.findPushTargets(List.of(4L)))
+                .thenThrow(new IllegalStateException("DB 오류"));
 
         // when
         schedulerService.checkUpcomingRooms();
 
         // then
-        verify(redisPublisher, never()).publish(any(ChannelTopic.class), any(ChatMessageDto.class));
-        verify(roomMapper, never()).updateNotiSent(any(), anyBoolean());
+        verify(redisPublisher).publishAll(any(ChannelTopic.class), any());
+        verify(roomMapper, never()).releaseNotiClaims(any());
+        verify(roomMapper).findNextNotiAppointmentTime(any());
     }
 }
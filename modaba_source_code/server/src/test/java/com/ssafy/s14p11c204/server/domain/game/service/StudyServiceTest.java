@@ -6,6 +6,7 @@ import com.ssafy.s14p11c204.server.domain.game.dao.FocusMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
 import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
 import com.ssafy.s14p11c204.server.domain.game.dto.LocationMessageDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.ReportJobDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.RoomRequestDto;
 import com.ssafy.s14p11c204.server.domain.game.dto.StudyStateResponseDto;
 import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
@@ -21,6 +22,7 @@ import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.listener.ChannelTopic;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -58,13 +60,13 @@ class StudyServiceTest {
     private ValueOperations<String, String> valueOperations;
 
     @Mock
-    private AiReportService aiReportService;
+    private ReportJobService reportJobService;
 
     @InjectMocks
     private StudyServiceImpl studyService;
 
     @Test
-    @DisplayName("스터디 정상 종료 및 리포트 생성 요청 테스트")
+    @DisplayName("스터디 정상 종료 및 리포트 작업 등록 테스트")
     void endStudy_Success() {
         // given
         Long roomId = 100L;
@@ -75,10 +77,9 @@ class StudyServiceTest {
         when(roomMapper.findUserIdByNickname(nickname)).thenReturn(Optional.of(userId));
         when(gameMapper.findCurrentSessionId(roomId)).thenReturn(Optional.of(sessionId));
         when(redisTemplate.delete(anyString())).thenReturn(true);
-        when(aiReportService.createReport(sessionId, userId)).thenReturn(10L);
 
         // when
-        Long reportId = studyService.endStudy(roomId, nickname);
+        Long endedSessionId = studyService.endStudy(roomId, nickname);
 
         // then
         // 1. 세션 종료 처리 확인
@@ -93,11 +94,11 @@ class StudyServiceTest {
         // 4. Redis 하트비트 삭제 확인
         verify(redisTemplate).delete(contains("study:heartbeat:500:tester"));
         
-        // 5. AI 리포트 서비스 호출 확인
-        verify(aiReportService).createReport(sessionId, userId);
+        // 5. AI 리포트는 작업으로만 등록 (요청 경로에서 생성하지 않음)
+        verify(reportJobService).enqueue(ReportJobDto.Type.STUDY, roomId, sessionId, List.of(userId));
         
-        // 6. 리포트 ID 반환 확인
-        assertEquals(10L, reportId);
+        // 6. 세션 ID 반환 확인
+        assertEquals(sessionId, endedSessionId);
     }
 
     @Test
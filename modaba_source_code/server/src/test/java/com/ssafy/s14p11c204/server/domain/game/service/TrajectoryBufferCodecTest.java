@@ -0,0 +1,84 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrajectoryBufferCodecTest {
+
+    private final TrajectoryBufferCodec codec = new TrajectoryBufferCodec();
+
+    @Test
+    @DisplayName("위치당 14바이트 고정 길이로 저장하고, 좌표 1e-7 / 속도 0.01 정밀도로 복원한다")
+    void roundTrip() {
+        // Given
+        List<TrajectoryPoint> points = List.of(
+                new TrajectoryPoint(1_760_000_000L, 37.4979123, 127.0276456, 0.0),
+                new TrajectoryPoint(1_760_000_005L, 37.4980001, 127.0277002, 7.234),
+                new TrajectoryPoint(1_760_000_011L, -33.8688197, -151.2092955, 12.5));
+
+        // When
+        byte[] buffer = codec.encode(points);
+        List<TrajectoryPoint> decoded = codec.decode(buffer);
+
+        // Then
+        assertThat(buffer).hasSize(TrajectoryBufferCodec.HEADER_BYTES + 3 * TrajectoryBufferCodec.RECORD_BYTES);
+        assertThat(decoded).hasSize(3);
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(decoded.get(i).t()).isEqualTo(points.get(i).t());
+            assertThat(decoded.get(i).lat()).isCloseTo(points.get(i).lat(), within(1e-7));
+            assertThat(decoded.get(i).lng()).isCloseTo(points.get(i).lng(), within(1e-7));
+            assertThat(decoded.get(i).spd()).isCloseTo(points.get(i).spd(), within(0.005));
+        }
+    }
+
+    @Test
+    @DisplayName("쓰는 도중 잘린 마지막 레코드는 버리고, 헤더만 있거나 비어 있으면 빈 궤적이다")
+    void truncatedAndEmptyBuffers() {
+        byte[] buffer = codec.encode(List.of(
+                new TrajectoryPoint(100L, 37.5, 127.0, 0.0),
+                new TrajectoryPoint(105L, 37.5001, 127.0001, 8.0)));
+
+        assertThat(codec.decode(Arrays.copyOf(buffer, buffer.length - 3))).hasSize(1);
+        assertThat(codec.decode(Arrays.copyOf(buffer, TrajectoryBufferCodec.HEADER_BYTES))).isEmpty();
+        assertThat(codec.decode(new byte[0])).isEmpty();
+        assertThat(codec.decode(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("누적 통계는 위치 수로 평균 속도를 내고, 길이가 다르거나 위치가 없으면 빈 통계다")
+    void decodeStats() {
+        // Given: location_ingest.lua 의 STATS_FORMAT('>IIiiIIddiiiiH') 과 같은 배치
+        ByteBuffer out = ByteBuffer.allocate(TrajectoryBufferCodec.STATS_BYTES);
+        out.putInt(1_760_000_000).putInt(1_760_000_020)
+                .putInt(375_000_000).putInt(1_270_000_000)
+                .putInt(4).putInt(15)
+                .putDouble(123.5).putDouble(20.0)
+                .putInt(374_990_000).putInt(375_010_000).putInt(1_269_990_000).putInt(1_270_010_000)
+                .putShort((short) 850);
+
+        // When
+        TrajectoryStats stats = codec.decodeStats(out.array());
+
+        // Then
+        assertThat(stats.pointCount()).isEqualTo(4);
+        assertThat(stats.totalDistance()).isEqualTo(123.5);
+        assertThat(stats.avgSpeed()).isEqualTo(5.0);
+        assertThat(stats.maxSpeed()).isCloseTo(8.5, within(1e-9));
+        assertThat(stats.movingSeconds()).isEqualTo(15);
+        assertThat(stats.minLat()).isCloseTo(37.499, within(1e-7));
+        assertThat(stats.maxLng()).isCloseTo(127.001, within(1e-7));
+
+        assertThat(codec.decodeStats(new byte[10])).isEqualTo(TrajectoryStats.EMPTY);
+        assertThat(codec.decodeStats(new byte[TrajectoryBufferCodec.STATS_BYTES])).isEqualTo(TrajectoryStats.EMPTY);
+        assertThat(codec.decodeStats(null)).isEqualTo(TrajectoryStats.EMPTY);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryResolution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrajectorySimplifierTest {
+
+    private final TrajectorySimplifier simplifier = new TrajectorySimplifier();
+
+    // 약 1m = 0.000009도
+    private static final double METER = 0.000009;
+
+    @Test
+    @DisplayName("직선 위의 위치는 버리고 꺾이는 위치는 시각 / 속도와 함께 남긴다")
+    void keepsCornersWithOriginalPoints() {
+        // Given: 북쪽으로 100m, 동쪽으로 100m (ㄱ자), 10m마다 위치
+        List<TrajectoryPoint> points = new ArrayList<>();
+        long t = 0;
+        for (int i = 0; i <= 10; i++) {
+            points.add(new TrajectoryPoint(t++, 37.5 + i * 10 * METER, 127.0, 3.0 + i));
+        }
+        for (int i = 1; i <= 10; i++) {
+            points.add(new TrajectoryPoint(t++, 37.5 + 100 * METER, 127.0 + i * 10 * METER * 1.26, 5.0));
+        }
+
+        // When
+        List<TrajectoryPoint> simplified = simplifier.simplify(points, 5.0, Integer.MAX_VALUE);
+
+        // Then: 시작, 모서리, 끝만 남음
+        assertThat(simplified).containsExactly(points.getFirst(), points.get(10), points.getLast());
+    }
+
+    @Test
+    @DisplayName("최대 위치 수를 넘지 않고, 가장 크게 벗어난 위치부터 남긴다")
+    void respectsMaxPoints() {
+        // Given: 지그재그 200개 (진폭이 점점 커짐)
+        List<TrajectoryPoint> points = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            double offset = (i % 2 == 0 ? 1 : -1) * i * METER;
+            points.add(new TrajectoryPoint(i, 37.5 + i * 5 * METER, 127.0 + offset, 4.0));
+        }
+
+        // When
+        List<TrajectoryPoint> low = simplifier.simplify(points, TrajectoryResolution.LOW);
+        List<TrajectoryPoint> two = simplifier.simplify(points, 0, 2);
+
+        // Then
+        assertThat(low).hasSizeLessThanOrEqualTo(TrajectoryResolution.LOW.maxPoints());
+        assertThat(low.getFirst()).isEqualTo(points.getFirst());
+        assertThat(low.getLast()).isEqualTo(points.getLast());
+        assertThat(low).isSortedAccordingTo((a, b) -> Long.compare(a.t(), b.t()));
+        assertThat(two).containsExactly(points.getFirst(), points.getLast());
+        assertThat(simplifier.simplify(points, TrajectoryResolution.FULL)).isSameAs(points);
+    }
+
+    @Test
+    @DisplayName("해상도를 지정하지 않으면 최대 위치 수를 넘지 않는 가장 세밀한 해상도를 고른다")
+    void resolutionForMaxPoints() {
+        assertThat(TrajectoryResolution.forMaxPoints(20)).isEqualTo(TrajectoryResolution.LOW);
+        assertThat(TrajectoryResolution.forMaxPoints(40)).isEqualTo(TrajectoryResolution.LOW);
+        assertThat(TrajectoryResolution.forMaxPoints(200)).isEqualTo(TrajectoryResolution.MEDIUM);
+        assertThat(TrajectoryResolution.forMaxPoints(5000)).isEqualTo(TrajectoryResolution.FULL);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.s14p11c204.server.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TrajectoryStorageCodecTest {
+
+    private final TrajectoryStorageCodec codec = new TrajectoryStorageCodec(new TrajectorySimplifier());
+
+    @Test
+    @DisplayName("차이값으로 저장한 궤적을 좌표 1e-7 / 속도 0.01 정밀도로 복원한다 (음수 좌표, 시각 역전 포함)")
+    void roundTrip() {
+        // Given
+        List<TrajectoryPoint> points = List.of(
+                new TrajectoryPoint(1_760_000_000L, 37.4979123, 127.0276456, 0.0),
+                new TrajectoryPoint(1_760_000_005L, 37.4980001, 127.0277002, 7.23),
+                new TrajectoryPoint(1_760_000_003L, 37.4979500, 127.0276000, 3.1),
+                new TrajectoryPoint(1_760_000_011L, -33.8688197, -151.2092955, 12.5));
+
+        // When
+        List<TrajectoryPoint> decoded = codec.decode(codec.encode(points));
+
+        // Then
+        assertThat(decoded).hasSize(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(decoded.get(i).t()).isEqualTo(points.get(i).t());
+            assertThat(decoded.get(i).lat()).isCloseTo(points.get(i).lat(), within(1e-7));
+            assertThat(decoded.get(i).lng()).isCloseTo(points.get(i).lng(), within(1e-7));
+            assertThat(decoded.get(i).spd()).isCloseTo(points.get(i).spd(), within(0.005));
+        }
+        assertThat(codec.decode(codec.encode(List.of()))).isEmpty();
+        assertThat(codec.decode(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5초 주기 보행 궤적은 JSON 대비 10분의 1 이하로 저장된다")
+    void compressesByAnOrderOfMagnitude() throws Exception {
+        // Given: 30분, 5초마다 약 6m 이동
+        List<TrajectoryPoint> points = new ArrayList<>();
+        for (int i = 0; i < 360; i++) {
+            points.add(new TrajectoryPoint(1_760_000_000L + i * 5L,
+                    37.4979 + i * 0.00004 + (i % 7) * 0.000003,
+                    127.0276 + i * 0.00003 - (i % 5) * 0.000002,
+                    4.0 + (i % 9) * 0.35));
+        }
+        int jsonBytes = new ObjectMapper().writeValueAsBytes(points).length;
+
+        // When
+        byte[] stored = codec.encode(points);
+
+        // Then
+        assertThat(stored.length * 10).isLessThan(jsonBytes);
+    }
+
+    @Test
+    @DisplayName("잘리거나 버전이 다른 데이터는 예외로 알린다")
+    void rejectsBrokenData() {
+        byte[] stored = codec.encode(List.of(
+                new TrajectoryPoint(100L, 37.5, 127.0, 0.0),
+                new TrajectoryPoint(105L, 37.5001, 127.0001, 8.0)));
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(stored, stored.length - 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] otherVersion = stored.clone();
+        otherVersion[0] = 9;
+        assertThatThrownBy(() -> codec.decode(otherVersion)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
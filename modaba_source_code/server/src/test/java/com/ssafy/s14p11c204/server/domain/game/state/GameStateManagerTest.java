@@ -0,0 +1,256 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import com.ssafy.s14p11c204.server.domain.chat.service.RedisPublisher;
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dao.GameMapper;
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.dto.GameStartResponseDto;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameStateManagerTest {
+
+    @Mock
+    private RoomMapper roomMapper;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private ChannelTopic gameStateTopic;
+
+    @InjectMocks
+    private GameStateManager gameStateManager;
+
+    private final Long roomId = 1L;
+
+    private void loadSample() {
+        gameStateManager.load(roomId, 10L, LocalDateTime.now().plusMinutes(15), List.of(
+                GameStartResponseDto.ParticipantInfo.builder().userId(1L).nickname("경찰1").role(PlayerRole.POLICE).build(),
+                GameStartResponseDto.ParticipantInfo.builder().userId(2L).nickname("도둑1").role(PlayerRole.THIEF).build(),
+                GameStartResponseDto.ParticipantInfo.builder().userId(3L).nickname("도둑2").role(PlayerRole.THIEF).build()
+        ));
+    }
+
+    @Test
+    @DisplayName("게임 시작 시 적재된 상태에서 역할/상태/닉네임을 DB 없이 조회한다")
+    void loadAndLookup() {
+        loadSample();
+
+        RoomGameState state = gameStateManager.getOrLoad(roomId).orElseThrow();
+
+        assertThat(state.getSessionId()).isEqualTo(10L);
+        assertThat(state.findRole("경찰1")).contains(PlayerRole.POLICE);
+        assertThat(state.findUserId("도둑2")).contains(3L);
+        assertThat(state.findStatus(2L)).contains(ParticipantStatus.IN_GAME);
+        verifyNoInteractions(roomMapper, gameMapper);
+    }
+
+    @Test
+    @DisplayName("검거 후 탈옥하면 도둑 상태가 IN_GAME으로 복귀한다")
+    void arrestAndRelease() {
+        loadSample();
+
+        gameStateManager.updateStatus(roomId, 2L, ParticipantStatus.ARRESTED);
+        assertThat(gameStateManager.find(roomId).flatMap(s -> s.findStatus(2L))).contains(ParticipantStatus.ARRESTED);
+
+        gameStateManager.releaseArrestedThieves(roomId);
+        assertThat(gameStateManager.find(roomId).flatMap(s -> s.findStatus(2L))).contains(ParticipantStatus.IN_GAME);
+    }
+
+    @Test
+    @DisplayName("퇴장한 참가자는 명단과 닉네임 인덱스에서 모두 제거된다")
+    void removePlayer() {
+        loadSample();
+
+        gameStateManager.removePlayer(roomId, 3L);
+
+        RoomGameState state = gameStateManager.find(roomId).orElseThrow();
+        assertThat(state.findUserId("도둑2")).isEmpty();
+        assertThat(state.getRoster()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("게임 종료 이벤트를 받으면 상태가 제거된다")
+    void evictOnGameEnd() {
+        loadSample();
+
+        gameStateManager.handleGameEndEvent(new GameEndEvent(roomId));
+
+        assertThat(gameStateManager.find(roomId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메모리에 없으면 진행 중인 세션 기준으로 DB에서 한 번만 복구한다")
+    void recoverFromDb() {
+        when(gameMapper.findPlayingSession(roomId))
+                .thenReturn(Optional.of(new GameMapper.PlayingSession(20L, LocalDateTime.now())));
+        when(roomMapper.findParticipantStates(roomId)).thenReturn(List.of(
+                new RoomMapper.ParticipantStateInfo(2L, "도둑1", PlayerRole.THIEF, ParticipantStatus.ARRESTED)
+        ));
+
+        gameStateManager.getOrLoad(roomId);
+        RoomGameState state = gameStateManager.getOrLoad(roomId).orElseThrow();
+
+        assertThat(state.getSessionId()).isEqualTo(20L);
+        assertThat(state.findStatus(2L)).contains(ParticipantStatus.ARRESTED);
+        verify(roomMapper, times(1)).findParticipantStates(roomId);
+    }
+
+    @Test
+    @DisplayName("진행 중인 세션이 없으면 상태를 만들지 않는다")
+    void noActiveSession() {
+        when(gameMapper.findPlayingSession(roomId)).thenReturn(Optional.empty());
+
+        assertThat(gameStateManager.getOrLoad(roomId)).isEmpty();
+        verify(roomMapper, never()).findParticipantStates(roomId);
+    }
+
+    @Test
+    @DisplayName("게임 중이 아닌 방은 잠깐 기억해 위치 수신마다 DB를 다시 조회하지 않는다")
+    void cachesNotPlaying() {
+        when(gameMapper.findPlayingSession(roomId)).thenReturn(Optional.empty());
+
+        gameStateManager.getOrLoad(roomId);
+        gameStateManager.getOrLoad(roomId);
+
+        assertThat(gameStateManager.isInactive(roomId)).isTrue();
+        verify(gameMapper, times(1)).findPlayingSession(roomId);
+
+        // 이 서버에서 게임이 시작되면 바로 해제
+        loadSample();
+        assertThat(gameStateManager.isInactive(roomId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("정산 중 위치 수신이 커밋 전 DB(세션 미종료)를 읽어도, 커밋 이후에는 상태가 제거되고 다시 적재되지 않는다")
+    void concurrentPingDuringSettlement() throws Exception {
+        // Given: 메모리 상태가 없는 서버 (재시작 직후) + 커밋 전이라 DB는 아직 게임 중으로 보임
+        when(gameMapper.findPlayingSession(roomId))
+                .thenReturn(Optional.of(new GameMapper.PlayingSession(20L, LocalDateTime.now())));
+        when(roomMapper.findParticipantStates(roomId)).thenReturn(List.of());
+
+        ExecutorService pings = Executors.newFixedThreadPool(4);
+        CountDownLatch firstLoad = new CountDownLatch(1);
+        AtomicBoolean settled = new AtomicBoolean();
+        try {
+            for (int i = 0; i < 4; i++) {
+                pings.execute(() -> {
+                    while (!settled.get()) {
+                        gameStateManager.getOrLoad(roomId).ifPresent(state -> firstLoad.countDown());
+                    }
+                });
+            }
+            assertThat(firstLoad.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When: 정산 트랜잭션 커밋 이후 종료 이벤트 처리 (DB 조회는 여전히 이전 값을 돌려줘도)
+            gameStateManager.handleGameEndEvent(new GameEndEvent(roomId));
+            Thread.sleep(50); // 종료 이후에도 위치 수신이 계속 들어옴
+        } finally {
+            settled.set(true);
+            pings.shutdown();
+            assertThat(pings.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // Then
+        assertThat(gameStateManager.find(roomId)).isEmpty();
+        assertThat(gameStateManager.getOrLoad(roomId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료된 방도 새 게임이 시작되면 다시 상태를 적재한다")
+    void reloadAfterNewGame() {
+        loadSample();
+        gameStateManager.handleGameEndEvent(new GameEndEvent(roomId));
+
+        loadSample();
+
+        assertThat(gameStateManager.getOrLoad(roomId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("이 서버에서 끝난 게임은 다른 서버에 종료를 알리고, 다른 서버에서 전달받은 종료는 다시 알리지 않는다")
+    void broadcastsLocalGameEnd() {
+        loadSample();
+        clearInvocations(redisPublisher);
+
+        gameStateManager.handleGameEndEvent(new GameEndEvent(roomId));
+        gameStateManager.handleGameEndEvent(new GameEndEvent(roomId, true));
+
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(redisPublisher).publish(eq(gameStateTopic), sent.capture());
+        GameStateManager.Invalidation invalidation = (GameStateManager.Invalidation) sent.getValue();
+        assertThat(invalidation.roomId()).isEqualTo(roomId);
+        assertThat(invalidation.kind()).isEqualTo(GameStateManager.Invalidation.Kind.ENDED);
+        assertThat(gameStateManager.isRemote(invalidation)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 커밋된 검거 / 퇴장은 캐시한 상태를 DB 기준으로 맞춘다")
+    void refreshFromRemoteChange() {
+        loadSample();
+        when(gameMapper.findPlayingSession(roomId))
+                .thenReturn(Optional.of(new GameMapper.PlayingSession(10L, LocalDateTime.now())));
+        when(roomMapper.findParticipantStates(roomId)).thenReturn(List.of(
+                new RoomMapper.ParticipantStateInfo(1L, "경찰1", PlayerRole.POLICE, ParticipantStatus.IN_GAME),
+                new RoomMapper.ParticipantStateInfo(2L, "도둑1", PlayerRole.THIEF, ParticipantStatus.ARRESTED)
+        ));
+
+        gameStateManager.refresh(roomId);
+
+        RoomGameState state = gameStateManager.find(roomId).orElseThrow();
+        assertThat(state.findStatus(2L)).contains(ParticipantStatus.ARRESTED);
+        assertThat(state.findUserId("도둑2")).isEmpty();
+        assertThat(state.getAliveThiefCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 서버 알림을 받았을 때 게임이 끝났거나 다른 세션이면 캐시한 상태를 버린다")
+    void refreshEvictsStaleSession() {
+        loadSample();
+        when(gameMapper.findPlayingSession(roomId)).thenReturn(Optional.empty());
+
+        gameStateManager.refresh(roomId);
+
+        assertThat(gameStateManager.find(roomId)).isEmpty();
+        verify(roomMapper, never()).findParticipantStates(any());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 게임이 시작되면 게임 중이 아님 표시를 바로 해제한다")
+    void remoteStartClearsInactive() {
+        when(gameMapper.findPlayingSession(roomId)).thenReturn(Optional.empty());
+        gameStateManager.getOrLoad(roomId);
+        assertThat(gameStateManager.isInactive(roomId)).isTrue();
+
+        gameStateManager.refresh(roomId);
+
+        assertThat(gameStateManager.isInactive(roomId)).isFalse();
+    }
+}
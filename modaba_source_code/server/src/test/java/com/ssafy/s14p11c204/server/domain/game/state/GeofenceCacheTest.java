@@ -0,0 +1,68 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.game.event.GameEndEvent;
+import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeofenceCacheTest {
+
+    @Mock
+    private RoomMapper roomMapper;
+
+    private GeofenceCache geofenceCache;
+
+    private final Long roomId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        geofenceCache = new GeofenceCache(roomMapper, new GeometryUtil());
+    }
+
+    @Test
+    @DisplayName("구역과 감옥은 처음 한 번만 DB에서 읽어 Geofence로 만든다")
+    void loadOnce() {
+        // Given
+        when(roomMapper.findRoomBoundary(roomId)).thenReturn(Optional.of(new RoomMapper.RoomBoundaryInfo(
+                "POLYGON((0 0, 1 0, 1 1, 0 1, 0 0))",
+                "POLYGON((0 0, 0.1 0, 0.1 0.1, 0 0.1, 0 0))")));
+
+        // When
+        GeometryUtil.Geofence boundary = geofenceCache.findBoundary(roomId).orElseThrow();
+        GeometryUtil.Geofence jail = geofenceCache.findJail(roomId).orElseThrow();
+
+        // Then
+        assertThat(boundary.contains(0.5, 0.5)).isTrue();
+        assertThat(jail.contains(0.5, 0.5)).isFalse();
+        assertThat(jail.contains(0.05, 0.05)).isTrue();
+        verify(roomMapper, times(1)).findRoomBoundary(roomId);
+    }
+
+    @Test
+    @DisplayName("게임 종료 후에는 다시 DB에서 읽는다")
+    void evictOnGameEnd() {
+        // Given
+        when(roomMapper.findRoomBoundary(roomId)).thenReturn(Optional.of(new RoomMapper.RoomBoundaryInfo(
+                "POLYGON((0 0, 1 0, 1 1, 0 1, 0 0))", null)));
+        geofenceCache.findBoundary(roomId);
+
+        // When
+        geofenceCache.handleGameEndEvent(new GameEndEvent(roomId));
+        geofenceCache.findBoundary(roomId);
+
+        // Then
+        assertThat(geofenceCache.findJail(roomId)).isEmpty();
+        verify(roomMapper, times(2)).findRoomBoundary(roomId);
+    }
+}
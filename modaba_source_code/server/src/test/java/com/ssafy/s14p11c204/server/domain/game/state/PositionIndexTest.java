@@ -0,0 +1,98 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.global.util.GeometryUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PositionIndexTest {
+
+    // 위도 0.0001도 ≈ 11.1m
+    private static final double STEP = 0.0001;
+
+    @Test
+    @DisplayName("두 플레이어 거리는 하버사인 거리와 거의 같고, 위치가 없으면 empty")
+    void distance() {
+        // Given
+        PositionIndex index = new PositionIndex(50);
+        index.update("경찰1", 37.5, 127.0);
+        index.update("도둑1", 37.5 + 3 * STEP, 127.0 + 2 * STEP);
+
+        // When
+        double distance = index.distance("경찰1", "도둑1").orElseThrow();
+
+        // Then
+        double expected = new GeometryUtil().distanceMeters(37.5, 127.0, 37.5 + 3 * STEP, 127.0 + 2 * STEP);
+        assertThat(distance).isCloseTo(expected, within(0.5));
+        assertThat(index.distance("경찰1", "없는유저")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가까운 순으로 k명만 반환하고, 칸 경계를 넘는 플레이어도 찾는다")
+    void nearestAcrossCells() {
+        // Given: 10m 칸에 기준점에서 약 11m, 33m, 55m, 111m 떨어진 플레이어
+        PositionIndex index = new PositionIndex(10);
+        index.update("기준", 37.5, 127.0);
+        index.update("a", 37.5 + STEP, 127.0);
+        index.update("b", 37.5 - 3 * STEP, 127.0);
+        index.update("c", 37.5 + 5 * STEP, 127.0);
+        index.update("d", 37.5 + 10 * STEP, 127.0);
+
+        // When
+        List<PositionIndex.Neighbor> nearest = index.nearest("기준", 2, 1000, name -> true);
+        List<PositionIndex.Neighbor> within = index.withinRadius("기준", 60, name -> true);
+
+        // Then
+        assertThat(nearest).extracting(PositionIndex.Neighbor::nickname).containsExactly("a", "b");
+        assertThat(within).extracting(PositionIndex.Neighbor::nickname).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("이동하면 새 칸으로 옮겨지고, 삭제하면 검색되지 않는다")
+    void moveAndRemove() {
+        // Given
+        PositionIndex index = new PositionIndex(10);
+        index.update("기준", 37.5, 127.0);
+        index.update("a", 37.5 + 20 * STEP, 127.0); // 약 222m
+
+        // When: 기준점 바로 옆으로 이동
+        index.update("a", 37.5 + STEP, 127.0);
+
+        // Then
+        assertThat(index.withinRadius("기준", 20, name -> true))
+                .extracting(PositionIndex.Neighbor::nickname).containsExactly("a");
+
+        index.remove("a");
+        assertThat(index.withinRadius("기준", 20, name -> true)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가장 가까운 상대 검색은 같은 팀과 검거된 플레이어를 제외한다")
+    void nearestOpponentsInRoom() {
+        // Given
+        RoomGameState state = new RoomGameState(1L, 10L, LocalDateTime.now().plusMinutes(15));
+        state.putPlayer(1L, "경찰1", PlayerRole.POLICE, ParticipantStatus.IN_GAME);
+        state.putPlayer(2L, "경찰2", PlayerRole.POLICE, ParticipantStatus.IN_GAME);
+        state.putPlayer(3L, "도둑1", PlayerRole.THIEF, ParticipantStatus.ARRESTED);
+        state.putPlayer(4L, "도둑2", PlayerRole.THIEF, ParticipantStatus.IN_GAME);
+        state.updatePosition("경찰1", 37.5, 127.0);
+        state.updatePosition("경찰2", 37.5 + STEP, 127.0);
+        state.updatePosition("도둑1", 37.5 + STEP, 127.0);
+        state.updatePosition("도둑2", 37.5 + 2 * STEP, 127.0);
+
+        // When
+        List<PositionIndex.Neighbor> opponents = state.findNearestOpponents("경찰1", 3, 50);
+
+        // Then
+        assertThat(opponents).extracting(PositionIndex.Neighbor::nickname).containsExactly("도둑2");
+        assertThat(state.findNearestOpponents("경찰1", 3, 15)).isEmpty();
+    }
+}
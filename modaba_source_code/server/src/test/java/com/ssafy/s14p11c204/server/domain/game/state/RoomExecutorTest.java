@@ -0,0 +1,108 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class RoomExecutorTest {
+
+    private final RoomExecutor roomExecutor = new RoomExecutor();
+
+    @AfterEach
+    void tearDown() {
+        roomExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 방 작업은 제출 순서대로 하나씩 실행된다")
+    void sameRoomRunsInOrder() throws InterruptedException {
+        // Given
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(100);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            int order = i;
+            roomExecutor.execute(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executed.add(order);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isSorted().hasSize(100);
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 방 작업은 서로 기다리지 않고 병렬로 실행된다")
+    void differentRoomsRunInParallel() throws InterruptedException {
+        // Given: 1번 방 작업이 2번 방 작업이 끝나기를 기다린다
+        CountDownLatch room2Done = new CountDownLatch(1);
+        CountDownLatch room1Done = new CountDownLatch(1);
+
+        // When
+        roomExecutor.execute(1L, () -> {
+            try {
+                if (room2Done.await(5, TimeUnit.SECONDS)) {
+                    room1Done.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        roomExecutor.execute(2L, room2Done::countDown);
+
+        // Then
+        assertThat(room1Done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동기 실행은 결과를 돌려주고, 작업의 예외를 그대로 다시 던진다")
+    void callReturnsResultAndRethrows() {
+        assertThat(assertTimeoutPreemptively(Duration.ofSeconds(5), () -> roomExecutor.call(1L, () -> "ok")))
+                .isEqualTo("ok");
+
+        assertThatThrownBy(() -> roomExecutor.run(1L, () -> {
+            throw new IllegalStateException("이미 시작된 게임입니다.");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("이미 시작된 게임입니다.");
+    }
+
+    @Test
+    @DisplayName("방 작업 안에서 같은 방을 동기 호출하면 교착 없이 바로 실행된다")
+    void reentrantCallRunsInline() {
+        String result = roomExecutor.call(1L, () -> roomExecutor.call(1L, () -> "inner"));
+
+        assertThat(result).isEqualTo("inner");
+    }
+
+    @Test
+    @DisplayName("비동기 작업에서 Error 가 나도 방이 멈추지 않고 다음 작업을 처리한다")
+    void errorDoesNotStallRoom() {
+        // Given
+        roomExecutor.execute(1L, () -> {
+            throw new StackOverflowError("재귀 폭주");
+        });
+
+        // When & Then: 같은 방의 동기 호출이 기다리지 않고 끝남
+        assertThat(assertTimeoutPreemptively(Duration.ofSeconds(5), () -> roomExecutor.call(1L, () -> "ok")))
+                .isEqualTo("ok");
+    }
+}
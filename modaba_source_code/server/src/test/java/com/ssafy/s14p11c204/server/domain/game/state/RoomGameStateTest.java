@@ -0,0 +1,28 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomGameStateTest {
+
+    private final RoomGameState state = new RoomGameState(1L, 10L, LocalDateTime.now().plusMinutes(15));
+
+    @Test
+    @DisplayName("같은 경찰/도둑 자동 검거는 처리가 끝날 때까지 한 번만 예약된다")
+    void reserveAutoArrestOnce() {
+        // When & Then: 처리 전 위치가 연달아 와도 한 번만
+        assertThat(state.reserveAutoArrest("경찰1", "도둑1")).isTrue();
+        assertThat(state.reserveAutoArrest("경찰1", "도둑1")).isFalse();
+        assertThat(state.reserveAutoArrest("경찰2", "도둑1")).isTrue();
+
+        // When: 처리가 끝나면 다시 예약 가능
+        state.releaseAutoArrest("경찰1", "도둑1");
+
+        // Then
+        assertThat(state.reserveAutoArrest("경찰1", "도둑1")).isTrue();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ssafy.s14p11c204.server.domain.game.state;
+
+import com.ssafy.s14p11c204.server.domain.game.ParticipantStatus;
+import com.ssafy.s14p11c204.server.domain.game.dto.PlayerRole;
+import com.ssafy.s14p11c204.server.domain.game.dto.ScoreboardDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreboardTest {
+
+    private RoomGameState state;
+
+    @BeforeEach
+    void setUp() {
+        state = new RoomGameState(1L, 10L, LocalDateTime.now().plusMinutes(15));
+        state.putPlayer(1L, "경찰1", PlayerRole.POLICE, ParticipantStatus.IN_GAME);
+        state.putPlayer(2L, "도둑1", PlayerRole.THIEF, ParticipantStatus.IN_GAME);
+        state.putPlayer(3L, "도둑2", PlayerRole.THIEF, ParticipantStatus.IN_GAME);
+        state.putPlayer(4L, "도둑3", PlayerRole.THIEF, ParticipantStatus.IN_GAME);
+    }
+
+    @Test
+    @DisplayName("검거/탈옥/퇴장 시 남은 도둑 수가 그때그때 갱신된다")
+    void incrementalCounts() {
+        // When: 도둑 2명 검거
+        state.updateStatus(2L, ParticipantStatus.ARRESTED);
+        state.recordArrest("경찰1");
+        state.updateStatus(3L, ParticipantStatus.ARRESTED);
+        state.recordArrest("경찰1");
+        state.updateStatus(3L, ParticipantStatus.ARRESTED); // 같은 상태로 다시 바꿔도 변화 없음
+
+        // Then
+        assertThat(state.getAliveThiefCount()).isEqualTo(1);
+
+        // When: 도둑3이 탈옥시킴, 그리고 도둑1 퇴장
+        int released = state.releaseArrestedThieves();
+        state.recordRescue("도둑3", released);
+        state.removePlayer(2L);
+
+        // Then
+        ScoreboardDto snapshot = state.snapshotScoreboard();
+        assertThat(released).isEqualTo(2);
+        assertThat(snapshot.getPoliceCount()).isEqualTo(1);
+        assertThat(snapshot.getAliveThiefCount()).isEqualTo(2);
+        assertThat(snapshot.getArrestedThiefCount()).isZero();
+        assertThat(snapshot.getTotalArrests()).isEqualTo(2);
+        assertThat(snapshot.getArrestsByPolice()).containsEntry("경찰1", 2);
+        assertThat(snapshot.getRescuesByPlayer()).containsEntry("도둑3", 2);
+    }
+
+    @Test
+    @DisplayName("같은 참가자를 다시 등록하면 이전 상태를 빼고 다시 센다")
+    void replacePlayer() {
+        // When
+        state.putPlayer(2L, "도둑1", PlayerRole.THIEF, ParticipantStatus.ARRESTED);
+
+        // Then
+        ScoreboardDto snapshot = state.snapshotScoreboard();
+        assertThat(snapshot.getAliveThiefCount()).isEqualTo(2);
+        assertThat(snapshot.getArrestedThiefCount()).isEqualTo(1);
+    }
+}
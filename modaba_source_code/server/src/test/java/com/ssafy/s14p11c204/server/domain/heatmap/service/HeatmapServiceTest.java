@@ -0,0 +1,142 @@
+package com.ssafy.s14p11c204.server.domain.heatmap.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dto.TrajectoryPoint;
+import com.ssafy.s14p11c204.server.domain.game.service.TrajectoryStorageCodec;
+import com.ssafy.s14p11c204.server.domain.heatmap.dao.HeatmapMapper;
+import com.ssafy.s14p11c204.server.domain.heatmap.dto.HeatmapTileDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeatmapServiceTest {
+
+    @InjectMocks
+    private HeatmapService heatmapService;
+
+    @Mock
+    private HeatmapMapper heatmapMapper;
+
+    @Mock
+    private TrajectoryStorageCodec trajectoryStorageCodec;
+
+    @Test
+    @DisplayName("위경도는 Web Mercator 타일 좌표로, (x, y) 는 Morton 코드로 바꿨다가 그대로 복원된다")
+    void tileAndMortonMath() {
+        // 서울시청 z12 타일
+        assertThat(HeatmapService.tileX(126.978, 12)).isEqualTo(3492);
+        assertThat(HeatmapService.tileY(37.5665, 12)).isEqualTo(1586);
+
+        long code = HeatmapService.morton(447_123, 203_456);
+        assertThat(HeatmapService.unmortonX(code)).isEqualTo(447_123);
+        assertThat(HeatmapService.unmortonY(code)).isEqualTo(203_456);
+        // 부모 셀은 2비트를 버린 값
+        assertThat(code >>> 2).isEqualTo(HeatmapService.morton(447_123 >> 1, 203_456 >> 1));
+    }
+
+    @Test
+    @DisplayName("궤적 하나는 레벨마다 셀별로 먼저 합쳐서 더한다")
+    void aggregatesPerLevel() {
+        // Given: 같은 최소 셀 2번 + 멀리 떨어진 곳 1번
+        List<TrajectoryPoint> trajectory = List.of(
+                new TrajectoryPoint(0, 37.50000, 127.00000, 0),
+                new TrajectoryPoint(5, 37.50001, 127.00001, 1),
+                new TrajectoryPoint(10, 35.1595, 126.8526, 1));
+
+        // When
+        Collection<HeatmapMapper.HeatCell> cells = HeatmapService.aggregate(trajectory);
+
+        // Then
+        int levels = HeatmapService.MAX_LEVEL - HeatmapService.MIN_LEVEL + 1;
+        assertThat(cells).hasSize(levels * 2);
+        assertThat(cells).filteredOn(c -> c.level() == HeatmapService.MAX_LEVEL)
+                .extracting(HeatmapMapper.HeatCell::visits).containsExactlyInAnyOrder(2L, 1L);
+        assertThat(cells).filteredOn(c -> c.level() == HeatmapService.MIN_LEVEL)
+                .extracting(HeatmapMapper.HeatCell::visits).containsExactlyInAnyOrder(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("타일 하나는 z+4 레벨 셀의 Morton 구간 하나로 조회한다")
+    void tileIsOneCellRange() {
+        // Given: z15 타일 → 레벨 19 셀 16 x 16
+        int z = 15, x = 27_940, y = 12_700;
+        long from = HeatmapService.morton(x, y) << 8;
+        long inside = HeatmapService.morton(x * 16 + 3, y * 16 + 15);
+        when(heatmapMapper.findCells(HeatmapService.GLOBAL, 19, from, from + 255))
+                .thenReturn(List.of(new HeatmapMapper.HeatCell(19, inside, 42)));
+
+        // When
+        HeatmapTileDto tile = heatmapService.getTile(null, z, x, y);
+
+        // Then
+        assertThat(tile.cellZoom()).isEqualTo(19);
+        assertThat(tile.cells()).containsExactly(new HeatmapTileDto.Cell(x * 16 + 3, y * 16 + 15, 42));
+    }
+
+    @Test
+    @DisplayName("점이 없는 활동은 반영 표시만 하고, 범위를 벗어난 타일은 거절한다")
+    void emptyTrajectoryAndInvalidTile() {
+        heatmapService.accumulate(1L, 2L, List.of());
+
+        verify(heatmapMapper).markApplied(1L, 2L);
+        verify(heatmapMapper, never()).applyActivity(any(), any(), any());
+        assertThatThrownBy(() -> heatmapService.getTile(null, 3, 8, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("백필은 활동마다 따로 처리해서, 궤적을 풀 수 없는 활동은 반영 표시만 하고 다음 활동을 계속 더한다")
+    void backfillSkipsUnreadableActivity() {
+        // Given
+        byte[] broken = {1};
+        byte[] valid = {2};
+        when(heatmapMapper.findPendingActivities(HeatmapService.BACKFILL_BATCH_SIZE)).thenReturn(List.of(
+                new HeatmapMapper.PendingActivity(10L, 1L, broken),
+                new HeatmapMapper.PendingActivity(10L, 2L, valid)));
+        when(trajectoryStorageCodec.decode(broken)).thenThrow(new IllegalArgumentException("잘린 궤적"));
+        when(trajectoryStorageCodec.decode(valid)).thenReturn(List.of(new TrajectoryPoint(0, 37.5665, 126.978, 0)));
+
+        // When
+        heatmapService.backfill();
+
+        // Then
+        verify(heatmapMapper).markApplied(10L, 1L);
+        verify(heatmapMapper).applyActivity(eq(10L), eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("반영이 계속 실패하는 활동은 정해진 횟수만큼 재시도한 뒤 건너뛴다")
+    void backfillGivesUpAfterMaxAttempts() {
+        // Given
+        byte[] data = {1};
+        when(heatmapMapper.findPendingActivities(HeatmapService.BACKFILL_BATCH_SIZE))
+                .thenReturn(List.of(new HeatmapMapper.PendingActivity(10L, 3L, data)));
+        when(trajectoryStorageCodec.decode(data)).thenReturn(List.of(new TrajectoryPoint(0, 37.5665, 126.978, 0)));
+        doThrow(new IllegalStateException("제약 조건 위반")).when(heatmapMapper).applyActivity(eq(10L), eq(3L), any());
+
+        // When: 마지막 시도 전까지는 다음 주기에 다시 시도
+        for (int i = 1; i < HeatmapService.BACKFILL_MAX_ATTEMPTS; i++) {
+            heatmapService.backfill();
+        }
+
+        // Then
+        verify(heatmapMapper, never()).markApplied(any(), any());
+
+        // When
+        heatmapService.backfill();
+
+        // Then
+        verify(heatmapMapper).markApplied(10L, 3L);
+    }
+}
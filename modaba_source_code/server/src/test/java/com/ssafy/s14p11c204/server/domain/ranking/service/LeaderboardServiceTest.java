@@ -0,0 +1,181 @@
+package com.ssafy.s14p11c204.server.domain.ranking.service;
+
+import com.ssafy.s14p11c204.server.domain.game.dao.RoomMapper;
+import com.ssafy.s14p11c204.server.domain.ranking.dao.RankingMapper;
+import com.ssafy.s14p11c204.server.domain.ranking.dto.RankingEntryDto;
+import com.ssafy.s14p11c204.server.domain.social.mapper.FriendMapper;
+import com.ssafy.s14p11c204.server.domain.user.dto.ProfileSimpleResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RankingMapper rankingMapper;
+
+    @Mock
+    private RoomMapper roomMapper;
+
+    @Mock
+    private FriendMapper friendMapper;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("상위 %는 내 구간과 그 위 구간 인원을 전체 인원으로 나눈 값이다")
+    void topPercentFromHistogram() {
+        // Given: 구간 폭 50 → 1000점은 20구간
+        Map<Long, Long> histogram = Map.of(
+                18L, 50L,  // 900~949
+                20L, 30L,  // 1000~1049
+                22L, 15L,  // 1100~1149
+                30L, 5L);  // 1500~1549
+
+        // When & Then
+        assertThat(LeaderboardService.topPercent(histogram, 1020, 50)).isEqualTo(50.0);
+        assertThat(LeaderboardService.topPercent(histogram, 1510, 50)).isEqualTo(5.0);
+        assertThat(LeaderboardService.topPercent(histogram, 900, 50)).isEqualTo(100.0);
+        assertThat(LeaderboardService.topPercent(Map.of(), 1000, 50)).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("전체 랭킹 페이지는 ZREVRANGE 구간으로 순위를 매기고, 닉네임은 페이지 유저만 PK로 조회한다")
+    void globalPageUsesRangeAndPkLookup() {
+        // Given: 2페이지(0부터), 크기 2 → 5~6위
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        tuples.add(ZSetOperations.TypedTuple.of("7", 1210.0));
+        tuples.add(ZSetOperations.TypedTuple.of("3", 1195.0));
+        when(zSetOperations.reverseRangeWithScores(LeaderboardService.GLOBAL_KEY, 4, 5)).thenReturn(tuples);
+        when(rankingMapper.findProfiles(List.of(7L, 3L))).thenReturn(List.of(
+                new ProfileSimpleResponse(3L, "도둑왕", null),
+                new ProfileSimpleResponse(7L, "경찰청장", "img/7.png")));
+
+        // When
+        List<RankingEntryDto> page = leaderboardService.getGlobalPage(2, 2);
+
+        // Then
+        assertThat(page).containsExactly(
+                new RankingEntryDto(5, 7L, "경찰청장", "img/7.png", 1210),
+                new RankingEntryDto(6, 3L, "도둑왕", null, 1195));
+    }
+
+    @Test
+    @DisplayName("내 주변 랭킹은 내 순위 위아래 range명을 한 번의 구간 조회로 가져온다")
+    void aroundMeWindow() {
+        // Given: 이미 보드에 있는 유저, 0부터 세면 1위 (위로는 1명만 있음)
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.score(LeaderboardService.GLOBAL_KEY, "9")).thenReturn(1300.0);
+        when(zSetOperations.reverseRank(LeaderboardService.GLOBAL_KEY, "9")).thenReturn(1L);
+        when(zSetOperations.reverseRangeWithScores(LeaderboardService.GLOBAL_KEY, 0, 4)).thenReturn(Set.of());
+
+        // When
+        List<RankingEntryDto> around = leaderboardService.getAroundMe(9L, 3);
+
+        // Then
+        assertThat(around).isEmpty();
+        verify(zSetOperations).reverseRangeWithScores(LeaderboardService.GLOBAL_KEY, 0, 4);
+        verifyNoInteractions(rankingMapper);
+    }
+
+    @Test
+    @DisplayName("재구성 완료 표시가 있으면 전체 보드가 일부만 채워져 있어도 다시 만들지 않는다")
+    void rebuildSkippedWhenReady() {
+        // Given
+        when(redisTemplate.hasKey(LeaderboardService.READY_KEY)).thenReturn(true);
+
+        // When
+        leaderboardService.rebuildIfEmpty();
+
+        // Then
+        verify(redisTemplate, never()).hasKey(LeaderboardService.GLOBAL_KEY);
+        verify(redisTemplate, never()).delete(anyList());
+        verifyNoInteractions(rankingMapper);
+    }
+
+    @Test
+    @DisplayName("재구성 완료 표시가 없으면 남은 보드 / 히스토그램 / 지역 보드를 지우고 다시 쌓은 뒤 완료 표시를 남긴다")
+    void rebuildClearsBoardsAndMarksReady() {
+        // Given: ensureRanked 로 일부만 채워진 전체 보드 + 지역 보드 1개가 남아 있음
+        when(redisTemplate.hasKey(LeaderboardService.READY_KEY)).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(LeaderboardService.REBUILD_LOCK_KEY), anyString(), any())).thenReturn(true);
+        givenRegionKeys("leaderboard:region:3");
+
+        // When
+        leaderboardService.rebuildIfEmpty();
+
+        // Then: 지운 다음 스트리밍
+        var order = inOrder(redisTemplate, rankingMapper, valueOperations);
+        order.verify(redisTemplate).delete(List.of(LeaderboardService.GLOBAL_KEY, LeaderboardService.USER_REGION_KEY,
+                LeaderboardService.HISTOGRAM_KEY, "leaderboard:region:3"));
+        order.verify(rankingMapper).streamLeaderboardSeeds(any());
+        order.verify(valueOperations).set(LeaderboardService.READY_KEY, "1");
+        verify(redisTemplate).delete(LeaderboardService.REBUILD_LOCK_KEY);
+    }
+
+    @Test
+    @DisplayName("재구성이 중간에 실패하면 완료 표시를 남기지 않아 다음 기동 때 다시 만든다")
+    void failedRebuildNotMarkedReady() {
+        // Given
+        when(redisTemplate.hasKey(LeaderboardService.READY_KEY)).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(LeaderboardService.REBUILD_LOCK_KEY), anyString(), any())).thenReturn(true);
+        givenRegionKeys();
+        doThrow(new IllegalStateException("DB 오류")).when(rankingMapper).streamLeaderboardSeeds(any());
+
+        // When
+        assertThatCode(() -> leaderboardService.rebuildIfEmpty()).doesNotThrowAnyException();
+
+        // Then
+        verify(valueOperations, never()).set(eq(LeaderboardService.READY_KEY), anyString());
+        verify(redisTemplate).delete(LeaderboardService.REBUILD_LOCK_KEY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRegionKeys(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        var hasNext = when(cursor.hasNext());
+        for (String ignored : keys) {
+            hasNext = hasNext.thenReturn(true);
+        }
+        hasNext.thenReturn(false);
+        if (keys.length > 0) {
+            when(cursor.next()).thenReturn(keys[0], Arrays.copyOfRange(keys, 1, keys.length));
+        }
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+}
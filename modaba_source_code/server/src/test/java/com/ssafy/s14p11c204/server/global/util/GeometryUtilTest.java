@@ -81,4 +81,31 @@ class GeometryUtilTest {
         // 2. 구멍 안쪽 (이탈) -> (5, 5)
         assertThat(geometryUtil.isOutOfBound(boundary, 5.0, 5.0, 0.0)).isTrue();
     }
+
+    @Test
+    @DisplayName("미리 버퍼를 적용한 Geofence는 isOutOfBound와 같은 결과를 낸다")
+    void preparedGeofence() {
+        // Given
+        String wkt = "POLYGON((0 0, 10 0, 10 10, 0 10, 0 0), (4 4, 6 4, 6 6, 4 6, 4 4))";
+        Geometry boundary = geometryUtil.parseWkt(wkt);
+        GeometryUtil.Geofence fence = geometryUtil.prepare(boundary, 1.0);
+
+        // Then: 내부 / 버퍼 안 / 버퍼 밖 / 구멍 중앙
+        assertThat(fence.contains(2.0, 2.0)).isTrue();
+        assertThat(fence.contains(5.0, 10.5)).isTrue();
+        assertThat(fence.contains(5.0, 11.5)).isFalse();
+        assertThat(fence.contains(50.0, 50.0)).isFalse();
+        assertThat(geometryUtil.isOutOfBound(boundary, 5.0, 11.5, 1.0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("점 대상 근접 판정은 허용 거리 이내일 때만 참이다")
+    void isNearPoint() {
+        // Given
+        Geometry target = geometryUtil.createPoint(37.5, 127.0);
+
+        // Then
+        assertThat(geometryUtil.isNear(target, 37.50005, 127.0, 0.0001)).isTrue();
+        assertThat(geometryUtil.isNear(target, 37.5002, 127.0, 0.0001)).isFalse();
+    }
 }
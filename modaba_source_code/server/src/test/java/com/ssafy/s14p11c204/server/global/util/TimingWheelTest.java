@@ -0,0 +1,78 @@
+package com.ssafy.s14p11c204.server.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    // 100ms x 8칸 x 3단계 → 0.8초 / 6.4초 / 51.2초
+    private static final long START = 1_000_000L;
+
+    private final List<String> fired = new ArrayList<>();
+
+    private void advance(TimingWheel wheel, long now) {
+        wheel.advance(now).forEach(TimingWheel.Timeout::run);
+    }
+
+    @Test
+    @DisplayName("마감 시각 전에는 실행되지 않고, 마감 후 한 틱 안에 실행된다")
+    void firesAfterDeadlineWithinOneTick() {
+        // Given
+        TimingWheel wheel = new TimingWheel(100, 8, 3, START);
+        wheel.schedule(START + 250, () -> fired.add("a"));
+
+        // When & Then
+        advance(wheel, START + 249);
+        assertThat(fired).isEmpty();
+
+        advance(wheel, START + 300);
+        assertThat(fired).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("윗 단계에 걸린 작업도 아래 단계로 내려와 마감 순서대로 실행된다")
+    void cascadesAcrossLevels() {
+        // Given: 0단계 / 1단계 / 2단계 / 최상위 범위 초과
+        TimingWheel wheel = new TimingWheel(100, 8, 3, START);
+        wheel.schedule(START + 70_000, () -> fired.add("overflow"));
+        wheel.schedule(START + 30_000, () -> fired.add("level2"));
+        wheel.schedule(START + 3_000, () -> fired.add("level1"));
+        wheel.schedule(START + 500, () -> fired.add("level0"));
+
+        // When: 100ms씩 진행하면서 각 작업이 마감 전에 실행되지 않았는지 확인
+        List<Long> firedAt = new ArrayList<>();
+        for (long now = START; now <= START + 80_000; now += 100) {
+            int before = fired.size();
+            advance(wheel, now);
+            if (fired.size() > before) {
+                firedAt.add(now - START);
+            }
+        }
+
+        // Then
+        assertThat(fired).containsExactly("level0", "level1", "level2", "overflow");
+        assertThat(firedAt).containsExactly(600L, 3_100L, 30_100L, 70_100L);
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않고, 이미 지난 마감은 다음 진행 때 바로 실행된다")
+    void cancelAndOverdue() {
+        // Given
+        TimingWheel wheel = new TimingWheel(100, 8, 3, START);
+        TimingWheel.Timeout cancelled = wheel.schedule(START + 1_000, () -> fired.add("cancelled"));
+        wheel.schedule(START - 5_000, () -> fired.add("overdue"));
+
+        // When
+        cancelled.cancel();
+        advance(wheel, START);
+        advance(wheel, START + 2_000);
+
+        // Then
+        assertThat(fired).containsExactly("overdue");
+    }
+}
@@ -94,7 +94,11 @@ CREATE TABLE user_game_activities (
     distance DOUBLE PRECISION,
     steps INT,
     calories DOUBLE PRECISION,
+    trajectory_data BYTEA,
+    trajectory_medium BYTEA,
+    trajectory_low BYTEA,
     trajectory JSONB,
+    heat_applied BOOLEAN NOT NULL DEFAULT false,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (session_id) REFERENCES game_sessions(session_id),
     FOREIGN KEY (user_id) REFERENCES users(user_id)